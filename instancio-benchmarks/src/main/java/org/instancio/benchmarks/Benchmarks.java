@@ -0,0 +1,32 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+/**
+ * Constants shared by benchmarks.
+ */
+final class Benchmarks {
+
+    /**
+     * Seed used by all benchmarks so that each invocation
+     * generates the same objects and performs the same work.
+     */
+    static final long SEED = 8276L;
+
+    private Benchmarks() {
+        // non-instantiable
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.benchmarks.model.SmallPojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.field;
+import static org.instancio.benchmarks.Benchmarks.SEED;
+
+/**
+ * Measures {@code ofCartesianProduct()} producing 200 objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartesianProductBenchmark {
+
+    @Benchmark
+    public List<SmallPojo> cartesianProduct() {
+        return Instancio.ofCartesianProduct(SmallPojo.class)
+                .with(field(SmallPojo.class, "name"), "a", "b", "c", "d", "e", "f", "g", "h", "i", "j")
+                .with(field(SmallPojo.class, "count"), 1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                .with(field(SmallPojo.class, "active"), true, false)
+                .withSeed(SEED)
+                .create();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.benchmarks.model.DeepPojo;
+import org.instancio.benchmarks.model.LargePojo;
+import org.instancio.benchmarks.model.PersonRecord;
+import org.instancio.benchmarks.model.SmallPojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.benchmarks.Benchmarks.SEED;
+
+/**
+ * Measures end-to-end cost of {@code create()}, including building the model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateBenchmark {
+
+    @Benchmark
+    public SmallPojo smallPojo() {
+        return Instancio.of(SmallPojo.class).withSeed(SEED).create();
+    }
+
+    @Benchmark
+    public LargePojo largePojo() {
+        return Instancio.of(LargePojo.class).withSeed(SEED).create();
+    }
+
+    @Benchmark
+    public DeepPojo deepPojo() {
+        return Instancio.of(DeepPojo.class).withSeed(SEED).create();
+    }
+
+    @Benchmark
+    public PersonRecord record() {
+        return Instancio.of(PersonRecord.class).withSeed(SEED).create();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.settings.FeedFormatType;
+import org.instancio.settings.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a CSV feed on a single processor, where the file
+ * is parsed sequentially, with loading it on all available processors,
+ * where files larger than 8MB are split into chunks parsed in parallel.
+ * Caching is disabled so that each invocation loads the file.
+ *
+ * <p>Smaller sizes measure the overhead of the size check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvLoadBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("instancio-csv-benchmark", ".csv");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("id,firstName,lastName,email,amount\n");
+            for (int i = 0; i < rows; i++) {
+                writer.write(i + ",first" + i + ",last" + i + ",user" + i + "@example.com," + i % 1000 + ".50\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    private Feed loadFeed() {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(file))
+                .formatType(FeedFormatType.CSV)
+                .withSetting(Keys.FEED_CACHE_MAX_SIZE, 0)
+                .create();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=1")
+    public Feed sequential() {
+        return loadFeed();
+    }
+
+    @Benchmark
+    public Feed parallel() {
+        return loadFeed();
+    }
+}
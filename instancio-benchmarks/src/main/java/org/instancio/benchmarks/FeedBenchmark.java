@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.settings.FeedDataAccess;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedFormatType;
+import org.instancio.settings.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.instancio.benchmarks.Benchmarks.SEED;
+
+/**
+ * Measures loading CSV and JSON feeds, with caching disabled,
+ * and reading values from a feed that has already been loaded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private Path dir;
+    private Path csvFile;
+    private Path jsonFile;
+    private Feed csvFeed;
+    private Feed jsonFeed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("instancio-feed-benchmark");
+        csvFile = dir.resolve("data.csv");
+        jsonFile = dir.resolve("data.json");
+
+        try (Writer csv = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+             Writer json = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8)) {
+
+            csv.write("id,name,amount\n");
+            json.write("[\n");
+            for (int i = 0; i < rows; i++) {
+                csv.write(i + ",name" + i + "," + i * 3 + ".25\n");
+                json.write((i == 0 ? "" : ",\n")
+                        + "{\"id\":" + i + ",\"name\":\"name" + i + "\",\"amount\":" + i * 3 + ".25}");
+            }
+            json.write("\n]");
+        }
+
+        csvFeed = loadFeed(csvFile, FeedFormatType.CSV, FeedDataAccess.SEQUENTIAL);
+        jsonFeed = loadFeed(jsonFile, FeedFormatType.JSON, FeedDataAccess.SEQUENTIAL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    private static Feed loadFeed(final Path path, final FeedFormatType formatType, final FeedDataAccess dataAccess) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .formatType(formatType)
+                .dataAccess(dataAccess)
+                .onDataEnd(FeedDataEndAction.RECYCLE)
+                .withSetting(Keys.FEED_CACHE_MAX_SIZE, 0)
+                .withSetting(Keys.SEED, SEED)
+                .create();
+    }
+
+    @Benchmark
+    public Feed loadCsv() {
+        return loadFeed(csvFile, FeedFormatType.CSV, FeedDataAccess.RANDOM);
+    }
+
+    @Benchmark
+    public Feed loadJson() {
+        return loadFeed(jsonFile, FeedFormatType.JSON, FeedDataAccess.RANDOM);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String readCsv() {
+        return csvFeed.stringSpec("name").get() + csvFeed.doubleSpec("amount").get();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String readJson() {
+        return jsonFeed.stringSpec("name").get() + jsonFeed.doubleSpec("amount").get();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Random;
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.generator.lang.StringGenerator;
+import org.instancio.internal.generator.math.BigDecimalGenerator;
+import org.instancio.internal.generator.time.InstantGenerator;
+import org.instancio.internal.generator.time.LocalDateGenerator;
+import org.instancio.internal.generator.time.LocalDateTimeGenerator;
+import org.instancio.internal.generator.util.UUIDGenerator;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.benchmarks.Benchmarks.SEED;
+
+/**
+ * Measures individual built-in generators, bypassing the engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratorBenchmark {
+
+    private Random random;
+    private Generator<String> stringGenerator;
+    private Generator<String> alphaNumericStringGenerator;
+    private Generator<String> unicodeStringGenerator;
+    private Generator<UUID> uuidGenerator;
+    private Generator<BigDecimal> bigDecimalGenerator;
+    private Generator<LocalDate> localDateGenerator;
+    private Generator<LocalDateTime> localDateTimeGenerator;
+    private Generator<Instant> instantGenerator;
+
+    @Setup
+    public void setUp() {
+        random = new DefaultRandom(SEED, Seeds.Source.MANUAL);
+        final GeneratorContext context = new GeneratorContext(Settings.defaults(), random);
+        stringGenerator = new StringGenerator(context).length(10, 20);
+        alphaNumericStringGenerator = new StringGenerator(context).length(10, 20).alphaNumeric();
+        unicodeStringGenerator = new StringGenerator(context).length(10, 20).unicode();
+        uuidGenerator = new UUIDGenerator(context);
+        bigDecimalGenerator = new BigDecimalGenerator(context).scale(4);
+        localDateGenerator = new LocalDateGenerator(context);
+        localDateTimeGenerator = new LocalDateTimeGenerator(context);
+        instantGenerator = new InstantGenerator(context);
+    }
+
+    @Benchmark
+    public String string() {
+        return stringGenerator.generate(random);
+    }
+
+    @Benchmark
+    public String alphaNumericString() {
+        return alphaNumericStringGenerator.generate(random);
+    }
+
+    @Benchmark
+    public String unicodeString() {
+        return unicodeStringGenerator.generate(random);
+    }
+
+    @Benchmark
+    public UUID uuid() {
+        return uuidGenerator.generate(random);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return bigDecimalGenerator.generate(random);
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return localDateGenerator.generate(random);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return localDateTimeGenerator.generate(random);
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return instantGenerator.generate(random);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.benchmarks.model.LargePojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+import static org.instancio.Select.fields;
+import static org.instancio.Select.types;
+import static org.instancio.benchmarks.Benchmarks.SEED;
+
+/**
+ * Measures the cost of resolving many selectors against a model,
+ * including field, type and predicate selectors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelectorBenchmark {
+
+    private static final int FIELDS_PER_TYPE = 5;
+    private static final UUID UUID_VALUE = UUID.fromString("8f0e3c3e-4b1a-4c5e-9a3e-2b6f1f0d7c11");
+
+    private Model<LargePojo> model;
+
+    @Setup
+    public void setUp() {
+        model = withSelectors(Instancio.of(LargePojo.class)).toModel();
+    }
+
+    private static InstancioApi<LargePojo> withSelectors(final InstancioApi<LargePojo> api) {
+        for (int i = 1; i <= FIELDS_PER_TYPE; i++) {
+            api.set(field(LargePojo.class, "string" + i), "value" + i);
+            api.generate(field(LargePojo.class, "integer" + i), gen -> gen.ints().range(1, 100));
+            api.generate(field(LargePojo.class, "bigDecimal" + i), gen -> gen.math().bigDecimal().scale(2));
+            api.set(field(LargePojo.class, "localDate" + i), LocalDate.of(2000, 1, i));
+        }
+        return api
+                .generate(all(Long.class), gen -> gen.longs().min(0L))
+                .generate(all(String.class).within(all(List.class).toScope()), gen -> gen.string().length(5))
+                .set(fields(f -> f.getName().startsWith("boolean")), true)
+                .set(fields().ofType(Double.class), 1.0)
+                .set(types(t -> t == UUID.class).atDepth(1), UUID_VALUE)
+                .withSeed(SEED);
+    }
+
+    @Benchmark
+    public LargePojo create() {
+        return withSelectors(Instancio.of(LargePojo.class)).create();
+    }
+
+    @Benchmark
+    public LargePojo createFromModel() {
+        return Instancio.create(model);
+    }
+}
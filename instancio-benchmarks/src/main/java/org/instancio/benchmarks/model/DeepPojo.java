@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks.model;
+
+import java.util.List;
+
+/**
+ * A POJO with six levels of nested objects and collections.
+ */
+public class DeepPojo {
+    private String name;
+    private Level1 level1;
+
+    public static class Level1 {
+        private String name;
+        private List<Level2> items;
+    }
+
+    public static class Level2 {
+        private String name;
+        private Level3 level3;
+    }
+
+    public static class Level3 {
+        private String name;
+        private List<Level4> items;
+    }
+
+    public static class Level4 {
+        private String name;
+        private Level5 level5;
+    }
+
+    public static class Level5 {
+        private String name;
+        private List<Level6> items;
+    }
+
+    public static class Level6 {
+        private String name;
+        private int value;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A POJO with 60 fields of commonly used types.
+ */
+public class LargePojo {
+    private String string1;
+    private String string2;
+    private String string3;
+    private String string4;
+    private String string5;
+    private Integer integer1;
+    private Integer integer2;
+    private Integer integer3;
+    private Integer integer4;
+    private Integer integer5;
+    private Long long1;
+    private Long long2;
+    private Long long3;
+    private Long long4;
+    private Long long5;
+    private Double double1;
+    private Double double2;
+    private Double double3;
+    private Double double4;
+    private Double double5;
+    private Boolean boolean1;
+    private Boolean boolean2;
+    private Boolean boolean3;
+    private Boolean boolean4;
+    private Boolean boolean5;
+    private BigDecimal bigDecimal1;
+    private BigDecimal bigDecimal2;
+    private BigDecimal bigDecimal3;
+    private BigDecimal bigDecimal4;
+    private BigDecimal bigDecimal5;
+    private UUID uuid1;
+    private UUID uuid2;
+    private UUID uuid3;
+    private UUID uuid4;
+    private UUID uuid5;
+    private LocalDate localDate1;
+    private LocalDate localDate2;
+    private LocalDate localDate3;
+    private LocalDate localDate4;
+    private LocalDate localDate5;
+    private LocalDateTime localDateTime1;
+    private LocalDateTime localDateTime2;
+    private LocalDateTime localDateTime3;
+    private LocalDateTime localDateTime4;
+    private LocalDateTime localDateTime5;
+    private List<String> stringList1;
+    private List<String> stringList2;
+    private List<String> stringList3;
+    private List<String> stringList4;
+    private List<String> stringList5;
+    private Map<String, Integer> map1;
+    private Map<String, Integer> map2;
+    private Map<String, Integer> map3;
+    private Map<String, Integer> map4;
+    private Map<String, Integer> map5;
+    private Status status1;
+    private Status status2;
+    private Status status3;
+    private Status status4;
+    private Status status5;
+
+    public enum Status {ACTIVE, INACTIVE, PENDING}
+}
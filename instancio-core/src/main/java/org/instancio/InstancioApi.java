@@ -145,6 +145,46 @@ public interface InstancioApi<T> extends
      */
     Stream<T> stream();
 
+    /**
+     * Creates an infinite {@link Stream} of variants of an object.
+     * Ensure {@code limit()} is called on the returned stream
+     * to prevent an infinite loop.
+     *
+     * <p>A prototype object is generated once when this method is called.
+     * Each element of the stream is a deep copy of the prototype in which
+     * only the values of the given targets are generated anew. This is
+     * faster than {@link #stream()} if the objects are large
+     * and only a few of their fields need to vary:
+     *
+     * <pre>{@code
+     * try (Stream<Person> variants = Instancio.of(Person.class)
+     *         .variants(field(Person::getName), field(Phone::getNumber))) {
+     *
+     *     List<Person> persons = variants.limit(100_000).collect(Collectors.toList());
+     *
+     *     // all persons have the same values, except for names and phone numbers
+     * }
+     * }</pre>
+     *
+     * <p>Collections, maps, arrays, and POJOs are copied. Values of leaf
+     * nodes that are not targeted are copied using their {@code clone()}
+     * method if they have a public one, for example, in case of dates.
+     * Otherwise, for example, in case of strings and numbers, they are
+     * shared between the variants. This method does not support
+     * objects that use {@code assign()}.
+     *
+     * <p>Since targets may be populated using data feeds, the feeds
+     * remain open until the returned stream is closed. Therefore, the
+     * stream should be closed after use, for example, using
+     * a try-with-resources statement as shown above.
+     *
+     * @param targets selectors for values that should differ between variants
+     * @return an infinite stream of variants
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    Stream<T> variants(TargetSelector... targets);
+
     /**
      * Creates a model containing generation parameters for creating an object
      * A model acts as a template for creating objects or other models.
@@ -344,6 +384,15 @@ public interface InstancioApi<T> extends
     @ExperimentalApi
     InstancioApi<T> verbose();
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 5.1.0
+     */
+    @Override
+    @ExperimentalApi
+    InstancioApi<T> profile();
+
     /**
      * {@inheritDoc}
      *
@@ -296,4 +296,13 @@ public interface InstancioCartesianProductApi<T> extends
      */
     @Override
     InstancioCartesianProductApi<T> verbose();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 5.1.0
+     */
+    @Override
+    @ExperimentalApi
+    InstancioCartesianProductApi<T> profile();
 }
@@ -15,6 +15,7 @@
  */
 package org.instancio;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.settings.Settings;
 
 /**
@@ -42,4 +43,31 @@ interface VerboseModeApi {
      */
     VerboseModeApi verbose();
 
+    /**
+     * Outputs a profile of each generated object to {@code System.out}.
+     * The profile contains the node hierarchy where each node is annotated
+     * with the following statistics:
+     *
+     * <ul>
+     *   <li>number of values generated</li>
+     *   <li>number of {@code null} values generated</li>
+     *   <li>number of retries, for example, due to values rejected by a
+     *       {@code filter()}, or duplicate elements of a {@code Set}</li>
+     *   <li>cumulative time spent generating the node and its descendants</li>
+     *   <li>cumulative memory allocated, if supported by the JVM</li>
+     * </ul>
+     *
+     * <p>The profile also lists the most expensive subtrees,
+     * which can be used to identify fields or custom generators
+     * that are responsible for slow object creation.
+     *
+     * <p><b>Warning:</b> this method has a significant performance impact.
+     * It is recommended to remove the call to {@code profile()} after
+     * troubleshooting is complete.
+     *
+     * @return API builder reference
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    VerboseModeApi profile();
 }
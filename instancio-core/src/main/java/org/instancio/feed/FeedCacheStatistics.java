@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.feed;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.feed.CachingDataLoader;
+import org.instancio.settings.Keys;
+
+import java.time.Duration;
+
+/**
+ * Provides statistics of the cache containing data
+ * loaded by {@link Feed} instances.
+ *
+ * <p>Feed data loaded from files, resources, and inline sources
+ * is cached and shared by all feeds using the same data source.
+ * The number of cached data sources is limited by the
+ * {@link Keys#FEED_CACHE_MAX_SIZE} setting. Once the limit is
+ * reached, the least recently used data is evicted.
+ *
+ * @see Keys#FEED_CACHE_MAX_SIZE
+ * @since 5.1.0
+ */
+@ExperimentalApi
+public interface FeedCacheStatistics {
+
+    /**
+     * Returns a snapshot of the current feed cache statistics.
+     *
+     * @return feed cache statistics
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    static FeedCacheStatistics current() {
+        return CachingDataLoader.getStatistics();
+    }
+
+    /**
+     * Returns the number of times a feed's data was found in the cache.
+     *
+     * @return the number of cache hits
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    long getHitCount();
+
+    /**
+     * Returns the number of times a feed's data was not found in the cache.
+     *
+     * @return the number of cache misses
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    long getMissCount();
+
+    /**
+     * Returns the number of times data was loaded from a data source.
+     *
+     * @return the number of loads
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    long getLoadCount();
+
+    /**
+     * Returns the number of entries that have been evicted from the cache.
+     *
+     * @return the number of evictions
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    long getEvictionCount();
+
+    /**
+     * Returns the total time spent loading data.
+     *
+     * @return total load time
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    Duration getTotalLoadTime();
+
+    /**
+     * Returns the number of entries currently in the cache.
+     *
+     * @return the number of cached entries
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    int getSize();
+}
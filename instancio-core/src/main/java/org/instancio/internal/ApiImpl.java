@@ -34,7 +34,9 @@ import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -213,6 +215,12 @@ public class ApiImpl<T> implements InstancioApi<T> {
         return this;
     }
 
+    @Override
+    public InstancioApi<T> profile() {
+        modelContextBuilder.profile();
+        return this;
+    }
+
     @Override
     public Model<T> toModel() {
         return createModel();
@@ -252,8 +260,41 @@ public class ApiImpl<T> implements InstancioApi<T> {
         });
     }
 
+    @Override
+    public Stream<T> variants(final TargetSelector... targets) {
+        ApiValidator.notEmpty(targets, "variants() requires at least one selector");
+
+        final List<TargetSelector> processed = new ArrayList<>();
+        for (TargetSelector target : targets) {
+            processed.addAll(modelContextBuilder.processSelector(target, ApiMethodSelector.VARIANTS));
+        }
+
+        final InternalModel<T> model = createModel();
+        final ModelContext<T> context = model.getModelContext();
+
+        // feeds remain open until the stream is closed, since
+        // they may be used again when regenerating the targets
+        boolean created = false;
+        try {
+            final VariantGenerator<T> generator = VariantGenerator.create(model, processed);
+            created = true;
+            return Stream.generate(generator::createVariant).onClose(context::closeFeeds);
+        } finally {
+            if (!created) {
+                context.closeFeeds();
+            }
+        }
+    }
+
     private T createRootObject(final InternalModel<T> model) {
-        return new InstancioEngine(model).createRootObject();
+        final InstancioEngine engine = InstancioEngine.create(model);
+        try {
+            final T result = engine.createRootObject();
+            engine.printProfile();
+            return result;
+        } finally {
+            model.getModelContext().closeFeeds();
+        }
     }
 
     private InternalModel<T> createModel() {
@@ -32,6 +32,7 @@ public enum ApiMethodSelector {
     SET_MODEL("setModel()"),
     SUBTYPE("subtype()"),
     SUPPLY("supply()"),
+    VARIANTS("variants()"),
     WITH_NULLABLE("withNullable()"),
     WITH_UNIQUE("withUnique()");
 
@@ -76,6 +76,8 @@ class CallbackHandler implements GenerationListener {
                 }
             }
         });
+        // the engine may be reused to create another subtree
+        resultsForCallbacks.clear();
     }
 
     private List<OnCompleteCallback<?>> getCallbacks(final InternalNode node) {
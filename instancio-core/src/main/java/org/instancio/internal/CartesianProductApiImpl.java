@@ -223,6 +223,12 @@ public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<
         return this;
     }
 
+    @Override
+    public InstancioCartesianProductApi<T> profile() {
+        modelContextBuilder.profile();
+        return this;
+    }
+
     @Override
     public List<T> create() {
         final List<List<Object>> cartesianInputs = new ArrayList<>();
@@ -249,7 +255,14 @@ public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<
         final InternalModel<T> model = new InternalModel<>(modelContextBuilder.build());
         ModelReporter.report(model);
 
-        return new InstancioEngine(model).createRootObject();
+        final InstancioEngine engine = InstancioEngine.create(model);
+        try {
+            final List<T> result = engine.createRootObject();
+            engine.printProfile();
+            return result;
+        } finally {
+            model.getModelContext().closeFeeds();
+        }
     }
 
     private Map<TargetSelector, List<Object>> getSelectorValues(final List<List<Object>> combinations) {
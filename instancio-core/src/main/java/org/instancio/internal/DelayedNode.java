@@ -15,16 +15,26 @@
  */
 package org.instancio.internal;
 
+import org.instancio.TargetSelector;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.InternalNode;
+import org.jetbrains.annotations.Nullable;
 
 public final class DelayedNode {
     private final InternalNode node;
     private final GeneratorResult parentResult;
+    private final TargetSelector awaitedDestination;
 
     DelayedNode(final InternalNode node, final GeneratorResult parentResult) {
+        this(node, parentResult, null);
+    }
+
+    DelayedNode(final InternalNode node,
+                final GeneratorResult parentResult,
+                @Nullable final TargetSelector awaitedDestination) {
         this.node = node;
         this.parentResult = parentResult;
+        this.awaitedDestination = awaitedDestination;
     }
 
     public InternalNode getNode() {
@@ -35,6 +45,17 @@ public final class DelayedNode {
         return parentResult;
     }
 
+    /**
+     * Returns the assignment destination selector whose value
+     * was not available when this node was last generated.
+     *
+     * @return destination selector, or {@code null} if unknown
+     */
+    @Nullable
+    TargetSelector getAwaitedDestination() {
+        return awaitedDestination;
+    }
+
     @Override
     public String toString() {
         return String.format("DelayedNode[%s, %s]", node, parentResult);
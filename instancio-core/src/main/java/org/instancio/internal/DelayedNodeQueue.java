@@ -15,30 +15,83 @@
  */
 package org.instancio.internal;
 
+import org.instancio.TargetSelector;
 import org.instancio.internal.nodes.InternalNode;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
+/**
+ * A queue of nodes that could not be generated because they
+ * depend on values of assignment origins that have not been
+ * generated yet.
+ *
+ * <p>In addition to FIFO order, nodes are indexed by the destination
+ * selector they are waiting on. This allows retrying only the nodes
+ * that may be resolved once a value for a given selector becomes available.
+ */
 public final class DelayedNodeQueue implements Iterable<DelayedNode> {
 
-    private final Deque<DelayedNode> delayedNodes = new ArrayDeque<>();
+    // DelayedNode does not override equals(), so nodes are compared by identity
+    private final Set<DelayedNode> delayedNodes = new LinkedHashSet<>();
+
+    private final Map<TargetSelector, Deque<DelayedNode>> awaitingNodes = new IdentityHashMap<>();
 
     // Ideally record nodes would go into delayedNodeQueue
     // but that requires knowing the parent GeneratorResult
     private final Set<InternalNode> delayedRecordNodes = new HashSet<>();
 
     void addLast(final DelayedNode delayedNode) {
-        delayedNodes.addLast(delayedNode);
+        delayedNodes.add(delayedNode);
+
+        final TargetSelector destination = delayedNode.getAwaitedDestination();
+        if (destination != null) {
+            awaitingNodes.computeIfAbsent(destination, k -> new ArrayDeque<>()).addLast(delayedNode);
+        }
     }
 
     DelayedNode removeFirst() {
-        return delayedNodes.removeFirst();
+        final Iterator<DelayedNode> iter = delayedNodes.iterator();
+        final DelayedNode delayedNode = iter.next();
+        iter.remove();
+
+        final TargetSelector destination = delayedNode.getAwaitedDestination();
+        if (destination != null) {
+            final Deque<DelayedNode> awaiting = awaitingNodes.get(destination);
+            awaiting.remove(delayedNode);
+            if (awaiting.isEmpty()) {
+                awaitingNodes.remove(destination);
+            }
+        }
+        return delayedNode;
+    }
+
+    /**
+     * Removes nodes that are waiting on a value of the given destination.
+     *
+     * @param destination the destination selector that has a new value
+     * @return removed nodes in the order they were added
+     */
+    List<DelayedNode> removeAwaiting(final TargetSelector destination) {
+        final Deque<DelayedNode> awaiting = awaitingNodes.remove(destination);
+        if (awaiting == null) {
+            return Collections.emptyList();
+        }
+        for (DelayedNode delayedNode : awaiting) {
+            delayedNodes.remove(delayedNode);
+        }
+        return new ArrayList<>(awaiting);
     }
 
     void addRecord(final InternalNode node) {
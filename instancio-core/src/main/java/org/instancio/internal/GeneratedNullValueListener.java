@@ -27,8 +27,8 @@ import java.util.Queue;
 
 /**
  * Looks up generators and on-complete callbacks for all descendants
- * of a node for which a null value was generated in order to prevent
- * false positive "unused selector" errors in strict mode.
+ * of a node for which a null value or a lazy proxy was generated in order
+ * to prevent false positive "unused selector" errors in strict mode.
  */
 final class GeneratedNullValueListener implements GenerationListener {
     private final ModelContext<?> context;
@@ -48,7 +48,7 @@ final class GeneratedNullValueListener implements GenerationListener {
 
     @Override
     public void objectCreated(final InternalNode node, final GeneratorResult result) {
-        if (!result.containsNull()) {
+        if (!result.containsNull() && !LazyProxyFactory.isLazyProxy(result.getValue())) {
             return;
         }
 
@@ -59,9 +59,9 @@ final class GeneratedNullValueListener implements GenerationListener {
 
             if (result.isIgnored()) {
                 context.isIgnored(current);
-            } else if (result.containsNull()) {
+            } else {
                 /*
-                 A null result was generated for this node.
+                 A null result or a lazy proxy was generated for this node.
                  There might be selectors targeting the node's descendants.
                  However, since descendant values may not be generated,
                  this will result in "unused selectors" error in strict mode.
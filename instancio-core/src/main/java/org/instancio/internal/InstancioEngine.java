@@ -15,6 +15,7 @@
  */
 package org.instancio.internal;
 
+import org.instancio.TargetSelector;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Hints;
@@ -29,6 +30,7 @@ import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generation.AssigmentObjectStore;
 import org.instancio.internal.generation.GenerationListener;
 import org.instancio.internal.generation.GeneratorFacade;
+import org.instancio.internal.generation.InternalGenerationMetrics;
 import org.instancio.internal.generator.ContainerAddFunction;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.generator.InternalContainerHint;
@@ -38,10 +40,14 @@ import org.instancio.internal.util.ArrayUtils;
 import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.JfrEvents;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.RecordUtils;
 import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.GenerationEngine;
 import org.instancio.settings.Keys;
+import org.instancio.spi.GenerationMetrics.Strategy;
+import org.instancio.spi.InstancioServiceProvider.GenerationMetricsListener;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -76,29 +82,43 @@ class InstancioEngine {
     private static final Logger LOG = LoggerFactory.getLogger(InstancioEngine.class);
 
     private final GeneratorFacade generatorFacade;
-    private final ModelContext<?> context;
-    private final InternalNode rootNode;
-    private final ErrorHandler errorHandler;
-    private final CallbackHandler callbackHandler;
-    private final ContainerFactoriesHandler containerFactoriesHandler;
+    final ModelContext<?> context;
+    final InternalNode rootNode;
+    final ErrorHandler errorHandler;
+    final CallbackHandler callbackHandler;
+    final ContainerFactoriesHandler containerFactoriesHandler;
     private final GenerationListener[] listeners;
-    private final AfterGenerate defaultAfterGenerate;
-    private final NodeFilter nodeFilter;
+    final AfterGenerate defaultAfterGenerate;
+    final NodeFilter nodeFilter;
     private final Assigner assigner;
-    private final AssigmentObjectStore assigmentObjectStore;
-    private final DelayedNodeQueue delayedNodeQueue = new DelayedNodeQueue();
-    private final int maxGenerationAttempts;
+    final AssigmentObjectStore assigmentObjectStore;
+    final DelayedNodeQueue delayedNodeQueue = new DelayedNodeQueue();
+    final int maxGenerationAttempts;
+    private final boolean lazyNodeCreation;
+
+    // null unless lazy proxies are enabled
+    private final LazyProxyFactory lazyProxyFactory;
+
+    // null unless a metrics listener is registered
+    private final InternalGenerationMetrics metrics;
+
+    // null unless profile() mode is enabled
+    private final NodeProfiler profiler;
 
     InstancioEngine(InternalModel<?> model) {
         context = model.getModelContext();
         rootNode = model.getRootNode();
+        metrics = createMetrics(model);
+        profiler = createProfiler(model);
         errorHandler = new ErrorHandler(context);
         callbackHandler = CallbackHandler.create(context);
         containerFactoriesHandler = new ContainerFactoriesHandler(context.getInternalServiceProviders());
         assigmentObjectStore = AssigmentObjectStore.create(context);
-        generatorFacade = new GeneratorFacade(context, assigmentObjectStore);
+        generatorFacade = new GeneratorFacade(context, assigmentObjectStore, metrics);
         defaultAfterGenerate = context.getSettings().get(Keys.AFTER_GENERATE_HINT);
         maxGenerationAttempts = context.getSettings().get(Keys.MAX_GENERATION_ATTEMPTS);
+        lazyNodeCreation = context.getSettings().get(Keys.LAZY_NODE_CREATION);
+        lazyProxyFactory = LazyProxyFactory.create(context);
         nodeFilter = new NodeFilter(context);
         assigner = new AssignerImpl(context);
         listeners = new GenerationListener[]{
@@ -108,19 +128,131 @@ class InstancioEngine {
                 SetModelValidatingListener.create(context)};
     }
 
+    private static InternalGenerationMetrics createMetrics(final InternalModel<?> model) {
+        // subtrees, such as targets of lazy proxies, are not reported separately
+        return model.getModelContext().getGenerationMetricsListeners().isEmpty()
+                || model.getRootNode().getParent() != null
+                ? null
+                : new InternalGenerationMetrics(model.getRootNode().getType(), model.getBuildNanos());
+    }
+
+    private static NodeProfiler createProfiler(final InternalModel<?> model) {
+        return model.getModelContext().isProfile() && model.getRootNode().getParent() == null
+                ? new NodeProfiler()
+                : null;
+    }
+
+    /**
+     * Creates an engine for the given model based
+     * on the {@link Keys#GENERATION_ENGINE} setting.
+     *
+     * @param model to generate an object from
+     * @return a new engine instance
+     */
+    static InstancioEngine create(final InternalModel<?> model) {
+        final GenerationEngine engine = model.getModelContext().getSettings().get(Keys.GENERATION_ENGINE);
+        return engine == GenerationEngine.ITERATIVE
+                ? new IterativeInstancioEngine(model)
+                : new InstancioEngine(model);
+    }
+
     @SuppressWarnings("unchecked")
     <T> T createRootObject() {
-        return (T) errorHandler
+        final Object event = JfrEvents.beginGeneration();
+        final long start = metrics == null ? 0 : System.nanoTime();
+        final Object result = createSubtreeObject();
+
+        JfrEvents.commitGeneration(event, context.getRootType(), context.getRandom().getSeed());
+
+        if (metrics != null) {
+            metrics.setGenerationNanos(System.nanoTime() - start);
+
+            for (GenerationMetricsListener listener : context.getGenerationMetricsListeners()) {
+                listener.onGenerationComplete(metrics);
+            }
+        }
+        return (T) result;
+    }
+
+    /**
+     * Creates an object that is part of another object, for example,
+     * the target of a lazy proxy. Unlike {@link #createRootObject()},
+     * this method does not emit a generation event or metrics,
+     * since these are reported for the enclosing object.
+     *
+     * @return the created object, or {@code null} if none was created
+     */
+    @Nullable
+    final Object createSubtreeObject() {
+        return errorHandler
                 .conditionalFailOnError(this::createRootObjectInternal)
                 .orElse(null);
     }
 
+    /**
+     * Prints the profile of the object created by {@link #createRootObject()}
+     * if {@code profile()} mode is enabled. This is invoked only for objects
+     * requested via the API, so that engines used internally, for example,
+     * to create targets of lazy proxies, do not output a profile.
+     */
+    final void printProfile() {
+        if (profiler != null) {
+            ModelReporter.printProfile(rootNode, profiler);
+        }
+    }
+
+    /**
+     * Creates a new value for the given node of this engine's model,
+     * for example, to create a variant of an object created earlier.
+     * Like {@link #createSubtreeObject()}, this method does not emit
+     * a generation event or metrics.
+     *
+     * @param node the node to create a value for
+     * @return the created value, or {@code null} if none was created
+     */
+    @Nullable
+    final Object createSubtreeObject(final InternalNode node) {
+        return errorHandler
+                .conditionalFailOnError(() -> createSubtree(node).getValue())
+                .orElse(null);
+    }
+
     @Nullable
     private Object createRootObjectInternal() {
-        final GeneratorResult generatorResult = createObject(rootNode); // NOPMD
+        return completeRootObject(createSubtree(rootNode));
+    }
+
+    /**
+     * Creates the given node by recursively creating its descendants,
+     * then invokes callbacks and processes delayed nodes.
+     * Subclasses may override this method to traverse the node
+     * hierarchy in a different manner.
+     *
+     * @param node the node to create
+     * @return the result of the given node
+     */
+    GeneratorResult createSubtree(final InternalNode node) {
+        final GeneratorResult generatorResult = createObject(node); // NOPMD
         callbackHandler.invokeCallbacks();
-        processDelayedNodes(true);
-        context.reportWarnings();
+        processDelayedNodes();
+        return generatorResult;
+    }
+
+    @Nullable
+    private Object completeRootObject(final GeneratorResult generatorResult) {
+        // The root node has a parent if this engine is generating
+        // the target of a lazy proxy. In this case, most selectors
+        // target nodes outside the subtree, so they are not reported.
+        if (rootNode.getParent() == null) {
+            if (lazyNodeCreation && context.hasUnusedSelectors()) {
+                // Selectors such as ignore() and subtype() are marked as used
+                // when nodes are created. Create nodes that were not visited
+                // to prevent false positive unused selector errors.
+                rootNode.createDeferredDescendants();
+            }
+
+            context.reportWarnings();
+        }
 
         if (generatorResult.isEmpty()) {
             final Class<?> rootClass = rootNode.getTargetClass();
@@ -134,21 +266,19 @@ class InstancioEngine {
         return generatorResult.getValue();
     }
 
-    private void processDelayedNodes(final boolean failOnUnprocessed) {
+    private void processDelayedNodes() {
         int i = delayedNodeQueue.size();
         while (i >= 0 && !delayedNodeQueue.isEmpty()) {
             final DelayedNode entry = delayedNodeQueue.removeFirst();
-            final GeneratorResult result = createObject(entry.getNode());
-
-            if (result.isDelayed()) {
+            if (!completeDelayedNode(entry, createObject(entry.getNode()))) {
                 i--;
-                delayedNodeQueue.addLast(entry);
-            } else {
-                assignValue(entry.getParentResult().getValue(), entry.getNode(), result);
             }
         }
+        failOnUnresolvedAssignments();
+    }
 
-        if (failOnUnprocessed && (delayedNodeQueue.hasRecordNodes() || !delayedNodeQueue.isEmpty())) {
+    final void failOnUnresolvedAssignments() {
+        if (delayedNodeQueue.hasRecordNodes() || !delayedNodeQueue.isEmpty()) {
             final String msg = AssignmentErrorUtil.getUnresolvedAssignmentErrorMessage(
                     generatorFacade.getUnresolvedAssignments(), delayedNodeQueue);
 
@@ -156,40 +286,146 @@ class InstancioEngine {
         }
     }
 
+    /**
+     * Retries delayed nodes that are waiting on assignment
+     * values that have been generated since the last call.
+     */
+    private void processAwaitingNodes() {
+        TargetSelector destination;
+        while ((destination = assigmentObjectStore.pollNewValueDestination()) != null) { // NOPMD
+            for (DelayedNode entry : delayedNodeQueue.removeAwaiting(destination)) {
+                completeDelayedNode(entry, createObject(entry.getNode()));
+            }
+        }
+    }
+
+    /**
+     * Assigns the result of a retried delayed node to its parent,
+     * or adds the node back to the queue if it is still delayed.
+     *
+     * @param entry  the delayed node that was retried
+     * @param result the result of the retry
+     * @return {@code true} if the node has been resolved
+     */
+    final boolean completeDelayedNode(final DelayedNode entry, final GeneratorResult result) {
+        if (result.isDelayed()) {
+            delayedNodeQueue.addLast(new DelayedNode(entry.getNode(), entry.getParentResult(),
+                    assigmentObjectStore.getLastMissingDestination()));
+            return false;
+        }
+        assignValue(entry.getParentResult().getValue(), entry.getNode(), result);
+        return true;
+    }
+
     @NotNull
     private GeneratorResult createObject(final InternalNode node, final boolean isNullable) {
-        LOG.trace(" >> {}", node);
+        enterNode(node);
 
-        GeneratorResult generatorResult = doCreateObject(node, isNullable);
+        GeneratorResult generatorResult = null;
+        try {
+            generatorResult = doCreateObject(node, isNullable);
 
-        int retryCount = 0;
+            int retryCount = 0;
 
-        while (!context.isAccepted(node, generatorResult.getValue())) {
-            if (++retryCount > maxGenerationAttempts) { // NOPMD
-                throw Fail.withUsageError(ErrorMessageUtils.maxGenerationAttemptsExceeded(
-                        node, maxGenerationAttempts));
+            while (!context.isAccepted(node, generatorResult.getValue())) {
+                rejectResult(node, ++retryCount);
+                generatorResult = doCreateObject(node, isNullable);
             }
-            generatorResult = doCreateObject(node, isNullable);
+
+            notifyListeners(node, generatorResult);
+
+            if (assigmentObjectStore.hasNewValues()) {
+                processAwaitingNodes();
+            }
+            return generatorResult;
+        } finally {
+            exitNode(node, generatorResult);
         }
+    }
+
+    final void enterNode(final InternalNode node) {
+        LOG.trace(" >> {}", node);
 
-        notifyListeners(node, generatorResult);
+        if (metrics != null) {
+            metrics.nodeVisited();
+        }
+        if (profiler != null) {
+            profiler.enter();
+        }
+    }
 
-        if (assigmentObjectStore.hasNewValues()) {
-            processDelayedNodes(false);
+    /**
+     * Exits the node entered via {@link #enterNode(InternalNode)}.
+     *
+     * @param node            the node that was entered
+     * @param generatorResult the node's result, or {@code null} if generation failed
+     */
+    final void exitNode(final InternalNode node, @Nullable final GeneratorResult generatorResult) {
+        if (profiler != null) {
+            profiler.exit(node, generatorResult);
         }
 
         LOG.trace("<< {} : {}", node, generatorResult);
+    }
 
-        return generatorResult;
+    /**
+     * Records a result that was rejected by a filter.
+     * Fails if the maximum number of attempts has been exceeded.
+     *
+     * @param node       the node whose result was rejected
+     * @param retryCount number of rejections so far
+     */
+    final void rejectResult(final InternalNode node, final int retryCount) {
+        if (metrics != null) {
+            metrics.filterRejected();
+        }
+        if (profiler != null) {
+            profiler.retry(node);
+        }
+        if (retryCount > maxGenerationAttempts) {
+            throw Fail.withUsageError(ErrorMessageUtils.maxGenerationAttemptsExceeded(
+                    node, maxGenerationAttempts));
+        }
+    }
+
+    /**
+     * Determines whether a nullable node should be {@code null}.
+     */
+    final boolean rollNullResult(final boolean isNullable) {
+        if (context.getRandom().diceRoll(isNullable)) {
+            if (metrics != null) {
+                metrics.nullResult();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    static boolean isLeaf(final InternalNode node) {
+        return node.is(NodeKind.JDK) || node.getChildren().isEmpty();
+    }
+
+    /**
+     * Checks whether the node should be generated as a lazy proxy.
+     * The root node is always generated eagerly.
+     */
+    final boolean isLazyProxy(final InternalNode node) {
+        return lazyProxyFactory != null && node != rootNode && lazyProxyFactory.canProxy(node); // NOPMD
+    }
+
+    final GeneratorResult createLazyProxy(final InternalNode node) {
+        return GeneratorResult.create(lazyProxyFactory.createProxy(node), Hints.afterGenerate(defaultAfterGenerate));
     }
 
     @NotNull
     private GeneratorResult doCreateObject(final InternalNode node, final boolean isNullable) {
         final GeneratorResult generatorResult;
 
-        if (context.getRandom().diceRoll(isNullable)) {
+        if (rollNullResult(isNullable)) {
             generatorResult = GeneratorResult.nullResult();
-        } else if (node.is(NodeKind.JDK) || node.getChildren().isEmpty()) { // leaf - generate a value
+        } else if (isLazyProxy(node)) {
+            generatorResult = createLazyProxy(node);
+        } else if (isLeaf(node)) { // leaf - generate a value
             generatorResult = generateValue(node);
         } else if (node.is(NodeKind.ARRAY)) {
             generatorResult = generateArray(node);
@@ -219,7 +455,7 @@ class InstancioEngine {
         final GeneratorResult nodeResult = generateValue(node);
 
         if (!nodeResult.isDelayed()) {
-            populateChildren(node.getChildren(), nodeResult);
+            populateChildren(node.getGenerationOrder(), nodeResult);
         }
         return nodeResult;
     }
@@ -230,7 +466,7 @@ class InstancioEngine {
             final Object[] array = (Object[]) result.getValue();
             for (Object element : array) {
                 final GeneratorResult elementResult = GeneratorResult.create(element, result.getHints());
-                populateChildren(elementNode.getChildren(), elementResult);
+                populateChildren(elementNode.getGenerationOrder(), elementResult);
             }
         }
     }
@@ -241,7 +477,7 @@ class InstancioEngine {
             final Iterable<?> iterable = (Iterable<?>) result.getValue();
             for (Object element : iterable) {
                 final GeneratorResult elementResult = GeneratorResult.create(element, result.getHints());
-                populateChildren(elementNode.getChildren(), elementResult);
+                populateChildren(elementNode.getGenerationOrder(), elementResult);
             }
         }
     }
@@ -257,11 +493,11 @@ class InstancioEngine {
 
             if (keyNode.is(NodeKind.POJO)) {
                 final GeneratorResult keyResult = GeneratorResult.create(k, result.getHints());
-                populateChildren(keyNode.getChildren(), keyResult);
+                populateChildren(keyNode.getGenerationOrder(), keyResult);
             }
             if (valueNode.is(NodeKind.POJO)) {
                 final GeneratorResult valueResult = GeneratorResult.create(v, result.getHints());
-                populateChildren(valueNode.getChildren(), valueResult);
+                populateChildren(valueNode.getGenerationOrder(), valueResult);
             }
         }
     }
@@ -284,8 +520,8 @@ class InstancioEngine {
 
         // Populated objects that were created/added in the generator itself
         for (Map.Entry<Object, Object> entry : map.entrySet()) {
-            final List<InternalNode> keyNodeChildren = keyNode.getChildren();
-            final List<InternalNode> valueNodeChildren = valueNode.getChildren();
+            final List<InternalNode> keyNodeChildren = keyNode.getGenerationOrder();
+            final List<InternalNode> valueNodeChildren = valueNode.getGenerationOrder();
 
             populateChildren(keyNodeChildren, GeneratorResult.create(entry.getKey(), hints));
             populateChildren(valueNodeChildren, GeneratorResult.create(entry.getValue(), hints));
@@ -314,45 +550,66 @@ class InstancioEngine {
                 return GeneratorResult.delayed();
             }
 
-            final Object mapValue = mapValueResult.getValue();
-
             final Object mapKey = withKeysIterator.hasNext()
                     ? withKeysIterator.next()
                     : mapKeyResult.getValue();
 
-            // Note: map key does not support emit() null
-            if ((mapKey != null || nullableKey)
-                    && (mapValue != null || nullableValue || mapValueResult.hasEmitNullHint())) {
-                if (!map.containsKey(mapKey)) {
-                    ApiValidator.validateValueIsAssignableToElementNode(
-                            "error adding key to map", mapKey, node, keyNode);
-
-                    ApiValidator.validateValueIsAssignableToElementNode(
-                            "error adding value to map", mapValue, node, valueNode);
-
-                    map.put(mapKey, mapValue);
-                    entriesToGenerate--;
-                } else {
-                    failedAdditions++;
-                }
+            if (putEntry(node, map, mapKey, mapValueResult, hint)) {
+                entriesToGenerate--;
             } else {
                 failedAdditions++;
+                recordRetry(node, failedAdditions);
             }
 
             if (failedAdditions > maxGenerationAttempts) {
-                if (!keyNode.isCyclic() && !valueNode.isCyclic()) {
-                    errorHandler.conditionalFailOnError(() -> {
-                        throw Fail.withInternalError(
-                                ErrorMessageUtils.mapCouldNotBePopulated(
-                                        context, node, hint.generateEntries()));
-                    });
-                }
+                failIfNotPopulated(node, hint.generateEntries());
                 break;
             }
         }
 
+        return completeMap(node, generatorResult, hint);
+    }
+
+    /**
+     * Adds a generated entry to the map, unless the key or value
+     * is {@code null}, or the map already contains the key.
+     *
+     * @return {@code true} if the entry was added
+     */
+    final boolean putEntry(
+            final InternalNode node,
+            final Map<Object, Object> map,
+            @Nullable final Object mapKey,
+            final GeneratorResult mapValueResult,
+            final MapHint hint) {
+
+        final Object mapValue = mapValueResult.getValue();
+
+        // Note: map key does not support emit() null
+        if ((mapKey != null || hint.nullableMapKeys())
+                && (mapValue != null || hint.nullableMapValues() || mapValueResult.hasEmitNullHint())
+                && !map.containsKey(mapKey)) {
+
+            ApiValidator.validateValueIsAssignableToElementNode(
+                    "error adding key to map", mapKey, node, node.getChildren().get(0));
+
+            ApiValidator.validateValueIsAssignableToElementNode(
+                    "error adding value to map", mapValue, node, node.getChildren().get(1));
+
+            map.put(mapKey, mapValue);
+            return true;
+        }
+        return false;
+    }
+
+    final GeneratorResult completeMap(
+            final InternalNode node,
+            final GeneratorResult generatorResult,
+            final MapHint hint) {
+
         if (!hint.withEntries().isEmpty()) {
-            map.putAll(hint.withEntries());
+            //noinspection unchecked
+            ((Map<Object, Object>) generatorResult.getValue()).putAll(hint.withEntries());
         }
 
         return containerFactoriesHandler.substituteResult(node, generatorResult);
@@ -384,15 +641,11 @@ class InstancioEngine {
 
             // Populate objects created by user within the generator
             if (elementValue != null) {
-                final List<InternalNode> elementNodeChildren = node.getOnlyChild().getChildren();
+                final List<InternalNode> elementNodeChildren = node.getOnlyChild().getGenerationOrder();
                 populateChildren(elementNodeChildren, GeneratorResult.create(elementValue, hints));
             }
 
-            // Current element may have been set by a custom generator.
-            // withElements will always override null values in object arrays
-            // and default values in primitive arrays.
-            if (!ReflectionUtils.neitherNullNorPrimitiveWithDefaultValue(elementNode.getRawType(), elementValue)) {
-                Array.set(arrayObj, i, withElements.get(j));
+            if (setWithElement(node, arrayObj, i, withElements.get(j))) {
                 j++;
             }
 
@@ -400,7 +653,6 @@ class InstancioEngine {
         }
 
         final AfterGenerate action = hints.afterGenerate();
-        final boolean isPrimitiveArray = elementNode.getRawType().isPrimitive();
 
         // If array elements fail to generate for any reason and null is returned,
         // terminate the loop once we reach the threshold to avoid an infinite loop.
@@ -413,7 +665,7 @@ class InstancioEngine {
 
             // Populate objects created by user within the generator
             if (currentValue != null) {
-                final List<InternalNode> elementNodeChildren = node.getOnlyChild().getChildren();
+                final List<InternalNode> elementNodeChildren = node.getOnlyChild().getGenerationOrder();
                 populateChildren(elementNodeChildren, GeneratorResult.create(currentValue, hints));
             }
 
@@ -432,27 +684,76 @@ class InstancioEngine {
             Object elementValue = elementResult.getValue();
 
             // If elements are not nullable, keep generating until a non-null
-            while (elementValue == null
-                    && !hint.nullableElements()
-                    && !elementResult.hasEmitNullHint()
-                    && !context.isIgnored(elementNode)
-                    && failedAdditions < maxGenerationAttempts) {
-
+            while (shouldRetryArrayElement(elementNode, elementValue, elementResult, hint, failedAdditions)) {
                 failedAdditions++;
+                recordRetry(node, failedAdditions);
                 elementValue = createObject(elementNode, false).getValue();
             }
 
-            // can't assign null values to primitive arrays
-            if (!isPrimitiveArray || elementValue != null) {
-                ApiValidator.validateValueIsAssignableToElementNode(
-                        "array element type mismatch", elementValue, node, elementNode);
+            setArrayElement(node, arrayObj, i, elementValue);
+        }
 
-                Array.set(arrayObj, i, elementValue);
-            }
+        return completeArray(generatorResult, hint);
+    }
+
+    final boolean shouldRetryArrayElement(
+            final InternalNode elementNode,
+            @Nullable final Object elementValue,
+            final GeneratorResult elementResult,
+            final ArrayHint hint,
+            final int failedAdditions) {
+
+        return elementValue == null
+                && !hint.nullableElements()
+                && !elementResult.hasEmitNullHint()
+                && !context.isIgnored(elementNode)
+                && failedAdditions < maxGenerationAttempts;
+    }
+
+    static void setArrayElement(
+            final InternalNode node,
+            final Object arrayObj,
+            final int index,
+            @Nullable final Object elementValue) {
+
+        final InternalNode elementNode = node.getOnlyChild();
+
+        // can't assign null values to primitive arrays
+        if (!elementNode.getRawType().isPrimitive() || elementValue != null) {
+            ApiValidator.validateValueIsAssignableToElementNode(
+                    "array element type mismatch", elementValue, node, elementNode);
+
+            Array.set(arrayObj, index, elementValue);
         }
+    }
 
+    /**
+     * Sets a {@code withElements()} value at the given index, unless
+     * the element at that index has been set by a custom generator.
+     *
+     * @return {@code true} if the value was set
+     */
+    static boolean setWithElement(
+            final InternalNode node,
+            final Object arrayObj,
+            final int index,
+            final Object withElement) {
+
+        // Current element may have been set by a custom generator.
+        // withElements will always override null values in object arrays
+        // and default values in primitive arrays.
+        final Object elementValue = Array.get(arrayObj, index);
+        if (!ReflectionUtils.neitherNullNorPrimitiveWithDefaultValue(
+                node.getOnlyChild().getRawType(), elementValue)) {
+            Array.set(arrayObj, index, withElement);
+            return true;
+        }
+        return false;
+    }
+
+    final GeneratorResult completeArray(final GeneratorResult generatorResult, final ArrayHint hint) {
         if (hint.shuffle()) {
-            ArrayUtils.shuffle(arrayObj, context.getRandom());
+            ArrayUtils.shuffle(generatorResult.getValue(), context.getRandom());
         }
         return generatorResult;
     }
@@ -474,7 +775,7 @@ class InstancioEngine {
 
         // Populated objects that were created/added in the generator itself
         for (Object element : collection) {
-            final List<InternalNode> elementNodeChildren = elementNode.getChildren();
+            final List<InternalNode> elementNodeChildren = elementNode.getGenerationOrder();
             populateChildren(elementNodeChildren, GeneratorResult.create(element, hints));
         }
 
@@ -484,7 +785,6 @@ class InstancioEngine {
 
         final CollectionHint hint = defaultIfNull(hints.get(CollectionHint.class), CollectionHint.empty());
         final boolean nullableElements = hint.nullableElements();
-        final boolean requireUnique = hint.unique();
 
         int elementsToGenerate = hint.generateElements();
         int failedAdditions = 0;
@@ -500,45 +800,65 @@ class InstancioEngine {
                 return GeneratorResult.delayed();
             }
 
-            final Object elementValue = elementResult.getValue();
-
-            if (elementValue != null || nullableElements || elementResult.hasEmitNullHint()) {
-
-                boolean canAdd = !requireUnique || !generated.contains(elementValue);
-
-                if (requireUnique) {
-                    generated.add(elementValue);
-                }
-
-                if (canAdd && collection.add(elementValue)) {
-                    ApiValidator.validateValueIsAssignableToElementNode(
-                            "error adding element to collection", elementValue, node, elementNode);
-
-                    elementsToGenerate--;
-
-                } else {
-                    // Special case for hash based collections.
-                    // If requested size is impossible (e.g. a Set<Boolean> of size 5)
-                    // then abandon populating it after the threshold is reached
-                    failedAdditions++;
-                }
+            if (addElement(node, collection, elementResult, hint, generated)) {
+                elementsToGenerate--;
             } else {
-                // Avoid infinite loop when a value cannot be generated
+                // Avoid infinite loop when a value cannot be generated.
+                // Also handles hash based collections: if the requested size
+                // is impossible (e.g. a Set<Boolean> of size 5)
+                // then abandon populating it after the threshold is reached
                 failedAdditions++;
+                recordRetry(node, failedAdditions);
             }
 
             if (failedAdditions > maxGenerationAttempts) {
-                if (!elementNode.isCyclic()) {
-                    errorHandler.conditionalFailOnError(() -> {
-                        throw Fail.withInternalError(
-                                ErrorMessageUtils.collectionCouldNotBePopulated(
-                                        context, node, hint.generateElements()));
-                    });
-                }
+                failIfNotPopulated(node, hint.generateElements());
                 break;
             }
         }
 
+        return completeCollection(node, generatorResult, hint);
+    }
+
+    /**
+     * Adds a generated element to the collection, unless
+     * the element is {@code null} or violates uniqueness.
+     *
+     * @return {@code true} if the element was added
+     */
+    final boolean addElement(
+            final InternalNode node,
+            final Collection<Object> collection,
+            final GeneratorResult elementResult,
+            final CollectionHint hint,
+            final Set<Object> generated) {
+
+        final Object elementValue = elementResult.getValue();
+
+        if (elementValue != null || hint.nullableElements() || elementResult.hasEmitNullHint()) {
+            final boolean canAdd = !hint.unique() || !generated.contains(elementValue);
+
+            if (hint.unique()) {
+                generated.add(elementValue);
+            }
+
+            if (canAdd && collection.add(elementValue)) {
+                ApiValidator.validateValueIsAssignableToElementNode(
+                        "error adding element to collection", elementValue, node, node.getOnlyChild());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    final GeneratorResult completeCollection(
+            final InternalNode node,
+            final GeneratorResult generatorResult,
+            final CollectionHint hint) {
+
+        //noinspection unchecked
+        final Collection<Object> collection = (Collection<Object>) generatorResult.getValue();
+
         if (!hint.withElements().isEmpty()) {
             collection.addAll(hint.withElements());
         }
@@ -549,13 +869,30 @@ class InstancioEngine {
         return containerFactoriesHandler.substituteResult(node, generatorResult);
     }
 
+    /**
+     * Reports an error if a collection or map could not be populated
+     * with the expected number of elements, unless the elements are
+     * cyclic, in which case fewer elements are expected.
+     */
+    final void failIfNotPopulated(final InternalNode node, final int expectedSize) {
+        final boolean isCyclic = node.getChildren().stream().anyMatch(InternalNode::isCyclic);
+
+        if (!isCyclic) {
+            errorHandler.conditionalFailOnError(() -> {
+                throw Fail.withInternalError(node.is(NodeKind.MAP)
+                        ? ErrorMessageUtils.mapCouldNotBePopulated(context, node, expectedSize)
+                        : ErrorMessageUtils.collectionCouldNotBePopulated(context, node, expectedSize));
+            });
+        }
+    }
+
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NPathComplexity"})
     private GeneratorResult generateRecord(final InternalNode node) {
         // Handle the case where user supplies a generator for creating a record,
         final GeneratorResult customRecord = generateValue(node);
 
         if (!customRecord.isEmpty()) {
-            populateChildren(node.getChildren(), customRecord);
+            populateChildren(node.getGenerationOrder(), customRecord);
             return customRecord;
         }
 
@@ -574,17 +911,21 @@ class InstancioEngine {
         // If a node depends on a subsequent node, add it to the queue,
         // along with the index, and attempt to generate it again later.
         final Deque<DelayedRecordComponentNode> recordComponentQueue = new ArrayDeque<>();
+        final List<InternalNode> generationOrder = node.getGenerationOrder();
 
         for (int i = 0; i < args.length; i++) {
-            final InternalNode child = children.get(i);
+            final InternalNode child = generationOrder.get(i);
+            // components may be generated out of order to satisfy assignments,
+            // but arguments must be in the order declared by the record
+            final int argIndex = generationOrder == children ? i : children.indexOf(child); // NOPMD
             final GeneratorResult result = createObject(child);
 
             if (result.isDelayed()) {
                 LOG.trace("Delayed record arg: {}", child);
-                recordComponentQueue.add(new DelayedRecordComponentNode(child, i));
+                recordComponentQueue.add(new DelayedRecordComponentNode(child, argIndex));
             } else {
-                args[i] = result.containsNull()
-                        ? ObjectUtils.defaultValue(ctorArgs[i])
+                args[argIndex] = result.containsNull()
+                        ? ObjectUtils.defaultValue(ctorArgs[argIndex])
                         : result.getValue();
             }
         }
@@ -609,11 +950,28 @@ class InstancioEngine {
             }
         }
 
+        return instantiateRecord(node, args, !recordComponentQueue.isEmpty());
+    }
+
+    /**
+     * Creates a record from generated component values.
+     *
+     * @param node                 the record node
+     * @param args                 record component values
+     * @param hasDelayedComponents whether any component values are unavailable
+     * @return the record, or a delayed result if any components are unavailable
+     */
+    final GeneratorResult instantiateRecord(
+            final InternalNode node,
+            final Object[] args,
+            final boolean hasDelayedComponents) {
+
         // Record components themselves can't be delayed because
         // we need all of them at once to create a record.
         // Therefore, if a component is unavailable, the entire record is delayed.
-        if (!recordComponentQueue.isEmpty()) {
+        if (hasDelayedComponents) {
             delayedNodeQueue.addRecord(node);
+            recordDelayedNode();
             return GeneratorResult.delayed();
         }
 
@@ -623,6 +981,9 @@ class InstancioEngine {
                     obj, Hints.afterGenerate(defaultAfterGenerate));
 
             delayedNodeQueue.removeRecord(node);
+            if (metrics != null) {
+                metrics.objectCreated(Strategy.RECORD_CONSTRUCTOR);
+            }
             return generatorResult;
         } catch (Exception ex) {
             errorHandler.conditionalFailOnError(() -> {
@@ -651,31 +1012,16 @@ class InstancioEngine {
             if (filterResult == NodeFilterResult.GENERATE) {
                 final GeneratorResult result = createObject(child);
 
-                if (result.isDelayed()) {
-                    delayedNodeQueue.addLast(new DelayedNode(child, generatorResult));
-                } else {
-                    assignValue(parentObject, child, result);
-                }
-                continue;
-            }
-
-            // Check if this field was initialised externally
-            final Object childObject = ReflectionUtils.tryGetFieldValueOrElseNull(child.getField(), parentObject);
-
-            if (childObject == null) {
+                assignOrDelay(child, generatorResult, result);
                 continue;
             }
 
-            final GeneratorResult childResult = GeneratorResult.create(childObject, hints);
+            final GeneratorResult childResult = getExistingValue(child, parentObject, hints);
 
-            // Add field value to the object store.
-            // This allows fields initialised externally to work with assign()
-            assigmentObjectStore.objectCreated(child, childResult);
-
-            if (filterResult == NodeFilterResult.POPULATE) {
+            if (childResult != null && filterResult == NodeFilterResult.POPULATE) {
 
                 if (child.is(NodeKind.POJO)) {
-                    populateChildren(child.getChildren(), childResult);
+                    populateChildren(child.getGenerationOrder(), childResult);
                 } else if (child.is(NodeKind.COLLECTION)) {
                     populateCollection(child, childResult);
                 } else if (child.is(NodeKind.MAP)) {
@@ -687,6 +1033,50 @@ class InstancioEngine {
         }
     }
 
+    /**
+     * Assigns a generated child value to its parent object, or
+     * adds the child to the delayed node queue if the result was delayed.
+     */
+    final void assignOrDelay(
+            final InternalNode child,
+            final GeneratorResult parentResult,
+            final GeneratorResult result) {
+
+        if (result.isDelayed()) {
+            delayedNodeQueue.addLast(new DelayedNode(child, parentResult,
+                    assigmentObjectStore.getLastMissingDestination()));
+            recordDelayedNode();
+        } else {
+            assignValue(parentResult.getValue(), child, result);
+        }
+    }
+
+    /**
+     * Returns the value of a field that was initialised externally,
+     * for example, in a constructor or a field initialiser.
+     *
+     * @return the field value, or {@code null} if the field is {@code null}
+     */
+    @Nullable
+    final GeneratorResult getExistingValue(
+            final InternalNode child,
+            final Object parentObject,
+            final Hints hints) {
+
+        final Object childObject = ReflectionUtils.tryGetFieldValueOrElseNull(child.getField(), parentObject);
+
+        if (childObject == null) {
+            return null;
+        }
+
+        final GeneratorResult childResult = GeneratorResult.create(childObject, hints);
+
+        // Add field value to the object store.
+        // This allows fields initialised externally to work with assign()
+        assigmentObjectStore.objectCreated(child, childResult);
+        return childResult;
+    }
+
     private GeneratorResult generateContainer(final InternalNode node) {
         GeneratorResult generatorResult = generateValue(node);
 
@@ -738,6 +1128,14 @@ class InstancioEngine {
             }
         }
 
+        return completeContainer(node, generatorResult, hint);
+    }
+
+    final GeneratorResult completeContainer(
+            final InternalNode node,
+            final GeneratorResult generatorResult,
+            final InternalContainerHint hint) {
+
         if (hint.buildFunction() != null) {
             final Object builtContainer = hint.buildFunction().build(generatorResult.getValue());
             return GeneratorResult.create(builtContainer, generatorResult.getHints());
@@ -746,17 +1144,33 @@ class InstancioEngine {
         return containerFactoriesHandler.substituteResult(node, generatorResult);
     }
 
-    private void assignValue(final Object parentResult, final InternalNode node, final GeneratorResult result) {
+    final void assignValue(final Object parentResult, final InternalNode node, final GeneratorResult result) {
         if (!result.isEmpty() && !result.isIgnored()) {
             assigner.assign(node, parentResult, result.getValue());
         }
     }
 
-    private GeneratorResult generateValue(final InternalNode node) {
+    final GeneratorResult generateValue(final InternalNode node) {
         return generatorFacade.generateNodeValue(node);
     }
 
-    private void notifyListeners(final InternalNode node, final GeneratorResult result) {
+    final void recordRetry(final InternalNode node, final int attempt) {
+        if (metrics != null) {
+            metrics.retried();
+        }
+        if (profiler != null) {
+            profiler.retry(node);
+        }
+        JfrEvents.retry(node, attempt);
+    }
+
+    final void recordDelayedNode() {
+        if (metrics != null) {
+            metrics.nodeDelayed();
+        }
+    }
+
+    final void notifyListeners(final InternalNode node, final GeneratorResult result) {
         if (result.isNormal() || result.isNull()) {
             for (GenerationListener listener : listeners) {
                 listener.objectCreated(node, result);
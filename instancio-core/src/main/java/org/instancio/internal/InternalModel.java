@@ -20,15 +20,39 @@ import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeContext;
 import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.internal.util.JfrEvents;
 
 public final class InternalModel<T> implements Model<T> {
 
     private final ModelContext<T> modelContext;
     private final InternalNode rootNode;
+    private final long buildNanos;
 
     InternalModel(ModelContext<T> modelContext) {
         this.modelContext = modelContext;
-        this.rootNode = createRootNode();
+
+        // only measured if metrics are collected
+        if (modelContext.getGenerationMetricsListeners().isEmpty()) {
+            this.rootNode = createRootNode();
+            this.buildNanos = 0;
+        } else {
+            final long start = System.nanoTime();
+            this.rootNode = createRootNode();
+            this.buildNanos = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Creates a model for generating the subtree of an existing node,
+     * for example, when a lazily generated object is first accessed.
+     *
+     * @param modelContext context to generate the subtree with
+     * @param rootNode     an existing node of another model
+     */
+    InternalModel(ModelContext<T> modelContext, InternalNode rootNode) {
+        this.modelContext = modelContext;
+        this.rootNode = rootNode;
+        this.buildNanos = 0;
     }
 
     public ModelContext<T> getModelContext() {
@@ -39,10 +63,17 @@ public final class InternalModel<T> implements Model<T> {
         return rootNode;
     }
 
+    long getBuildNanos() {
+        return buildNanos;
+    }
+
     private InternalNode createRootNode() {
+        final Object event = JfrEvents.beginModelBuild();
         final NodeContext nodeContext = new NodeContext(modelContext);
         final NodeFactory nodeFactory = new NodeFactory(nodeContext);
-        return nodeFactory.createRootNode(modelContext.getRootType());
+        final InternalNode node = nodeFactory.createRootNode(modelContext.getRootType());
+        JfrEvents.commitModelBuild(event, node);
+        return node;
     }
 
     @Override
@@ -0,0 +1,1063 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.TargetSelector;
+import org.instancio.generator.AfterGenerate;
+import org.instancio.generator.Hints;
+import org.instancio.generator.hints.ArrayHint;
+import org.instancio.generator.hints.CollectionHint;
+import org.instancio.generator.hints.MapHint;
+import org.instancio.internal.NodePopulationFilter.NodeFilterResult;
+import org.instancio.internal.generator.ContainerAddFunction;
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.generator.InternalContainerHint;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.nodes.NodeKind;
+import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.ObjectUtils;
+import org.instancio.internal.util.RecordUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
+
+/**
+ * An engine that traverses the node hierarchy using an explicit
+ * stack instead of recursion.
+ *
+ * <p>Each pending operation, such as creating an object or populating
+ * the fields of a POJO, is represented by a {@link Frame}. A frame is a
+ * state machine that either completes with a result, or pushes another
+ * frame onto the stack and resumes once the latter has completed.
+ * Since the traversal state is held on the heap, the depth of generated
+ * objects is not limited by the size of the thread's stack.
+ * Generation still runs to completion within a single call:
+ * pausing, resuming, or emitting partially generated objects
+ * is not supported.
+ *
+ * <p>Frames perform the same steps, in the same order, as the methods
+ * of {@link InstancioEngine}, therefore both engines produce identical
+ * objects given the same seed. Feature tests are run with both engines
+ * to verify this.
+ */
+@SuppressWarnings({
+        "PMD.CognitiveComplexity",
+        "PMD.CouplingBetweenObjects",
+        "PMD.CyclomaticComplexity",
+        "PMD.ExcessiveImports",
+        "PMD.GodClass",
+        "PMD.NPathComplexity"
+})
+final class IterativeInstancioEngine extends InstancioEngine {
+    private static final Logger LOG = LoggerFactory.getLogger(IterativeInstancioEngine.class);
+
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private GeneratorResult subtreeResult;
+
+    IterativeInstancioEngine(final InternalModel<?> model) {
+        super(model);
+    }
+
+    @Override
+    GeneratorResult createSubtree(final InternalNode node) {
+        stack.push(new SubtreeFrame(node));
+        try {
+            while (!stack.isEmpty()) {
+                stack.peek().resume();
+            }
+        } finally {
+            // If generation failed, exit nodes whose frames did not complete
+            // so that each enterNode() is matched by an exitNode()
+            while (!stack.isEmpty()) {
+                final Frame frame = stack.pop();
+                if (frame instanceof CreateObjectFrame) {
+                    ((CreateObjectFrame) frame).abort();
+                }
+            }
+        }
+        return subtreeResult;
+    }
+
+    private void call(final Frame frame) {
+        stack.push(frame);
+    }
+
+    private void createObject(final InternalNode node, final boolean isNullable) {
+        call(new CreateObjectFrame(node, isNullable));
+    }
+
+    private void populateChildren(final List<InternalNode> children, final GeneratorResult generatorResult) {
+        call(new PopulateChildrenFrame(children, generatorResult));
+    }
+
+    /**
+     * Populates the given node's children for each of the values.
+     */
+    private void populateEach(final InternalNode node, final Iterable<?> values, final Hints hints) {
+        final Iterator<Frame> frames = StreamSupport.stream(values.spliterator(), false)
+                .<Frame>map(value -> new PopulateChildrenFrame(
+                        node.getGenerationOrder(), GeneratorResult.create(value, hints)))
+                .iterator();
+
+        call(new SequenceFrame(frames));
+    }
+
+    /**
+     * Completes the current frame, passing the result to its caller.
+     */
+    private void complete(@Nullable final GeneratorResult result) {
+        stack.pop();
+        final Frame caller = stack.peek();
+        if (caller != null) {
+            caller.childResult = result;
+        }
+    }
+
+    /**
+     * A unit of work on the stack.
+     */
+    private abstract class Frame {
+
+        /**
+         * Result of the last frame called by this frame.
+         */
+        GeneratorResult childResult;
+
+        /**
+         * Performs the next step of this frame. Each step either
+         * calls another frame or completes this frame.
+         * Frames that do neither are resumed again.
+         */
+        abstract void resume();
+    }
+
+    /**
+     * Runs each frame in sequence.
+     */
+    private final class SequenceFrame extends Frame {
+        private final Iterator<Frame> frames;
+
+        SequenceFrame(final Iterator<Frame> frames) {
+            this.frames = frames;
+        }
+
+        @Override
+        void resume() {
+            if (frames.hasNext()) {
+                call(frames.next());
+            } else {
+                complete(null);
+            }
+        }
+    }
+
+    private final class SubtreeFrame extends Frame {
+        private static final int CREATE = 0;
+        private static final int PROCESS_DELAYED = 1;
+        private static final int COMPLETE = 2;
+
+        private final InternalNode node;
+        private int state = CREATE;
+        private GeneratorResult result;
+
+        SubtreeFrame(final InternalNode node) {
+            this.node = node;
+        }
+
+        @Override
+        void resume() {
+            switch (state) {
+                case CREATE:
+                    state = PROCESS_DELAYED;
+                    createObject(node, false);
+                    break;
+                case PROCESS_DELAYED:
+                    result = childResult;
+                    callbackHandler.invokeCallbacks();
+                    state = COMPLETE;
+                    call(new DelayedNodesFrame());
+                    break;
+                default:
+                    subtreeResult = result;
+                    complete(null);
+            }
+        }
+    }
+
+    /**
+     * Retries delayed nodes once the root object has been created.
+     */
+    private final class DelayedNodesFrame extends Frame {
+        private int remaining = delayedNodeQueue.size();
+        private DelayedNode entry;
+
+        @Override
+        void resume() {
+            if (entry != null && !completeDelayedNode(entry, childResult)) {
+                remaining--;
+            }
+            if (remaining >= 0 && !delayedNodeQueue.isEmpty()) {
+                entry = delayedNodeQueue.removeFirst();
+                createObject(entry.getNode(), false);
+            } else {
+                failOnUnresolvedAssignments();
+                complete(null);
+            }
+        }
+    }
+
+    /**
+     * Retries delayed nodes that are waiting on assignment
+     * values that have been generated since the last call.
+     */
+    private final class AwaitingNodesFrame extends Frame {
+        private Iterator<DelayedNode> entries = Collections.emptyIterator();
+        private DelayedNode entry;
+
+        @Override
+        void resume() {
+            if (entry != null) {
+                completeDelayedNode(entry, childResult);
+            }
+            while (!entries.hasNext()) {
+                final TargetSelector destination = assigmentObjectStore.pollNewValueDestination();
+                if (destination == null) {
+                    complete(null);
+                    return;
+                }
+                entries = delayedNodeQueue.removeAwaiting(destination).iterator();
+            }
+            entry = entries.next();
+            createObject(entry.getNode(), false);
+        }
+    }
+
+    private final class CreateObjectFrame extends Frame {
+        private static final int ENTER = 0;
+        private static final int CREATED = 1;
+        private static final int EXIT = 2;
+
+        private final InternalNode node;
+        private final boolean isNullable;
+        private int state = ENTER;
+        private int retryCount;
+        private GeneratorResult result;
+
+        CreateObjectFrame(final InternalNode node, final boolean isNullable) {
+            this.node = node;
+            this.isNullable = isNullable;
+        }
+
+        @Override
+        void resume() {
+            switch (state) {
+                case ENTER:
+                    enterNode(node);
+                    state = CREATED;
+                    doCreateObject();
+                    break;
+                case CREATED:
+                    result = childResult;
+                    if (!context.isAccepted(node, result.getValue())) {
+                        rejectResult(node, ++retryCount);
+                        doCreateObject();
+                        break;
+                    }
+                    notifyListeners(node, result);
+                    state = EXIT;
+                    if (assigmentObjectStore.hasNewValues()) {
+                        call(new AwaitingNodesFrame());
+                    }
+                    break;
+                default:
+                    exitNode(node, result);
+                    complete(result);
+            }
+        }
+
+        void abort() {
+            if (state != ENTER) {
+                exitNode(node, null);
+            }
+        }
+
+        private void doCreateObject() {
+            if (rollNullResult(isNullable)) {
+                childResult = GeneratorResult.nullResult();
+            } else if (isLazyProxy(node)) {
+                childResult = createLazyProxy(node);
+            } else if (isLeaf(node)) {
+                childResult = generateValue(node);
+            } else if (node.is(NodeKind.ARRAY)) {
+                call(new ArrayFrame(node));
+            } else if (node.is(NodeKind.COLLECTION)) {
+                call(new CollectionFrame(node));
+            } else if (node.is(NodeKind.MAP)) {
+                call(new MapFrame(node));
+            } else if (node.is(NodeKind.RECORD)) {
+                call(new RecordFrame(node));
+            } else if (node.is(NodeKind.CONTAINER)) {
+                call(new ContainerFrame(node));
+            } else if (node.is(NodeKind.POJO)) {
+                call(new PojoFrame(node));
+            } else { // unreachable
+                throw Fail.withFataInternalError("Unhandled node kind: '%s' for %s", node.getNodeKind(), node);
+            }
+        }
+    }
+
+    private final class PojoFrame extends Frame {
+        private final InternalNode node;
+        private GeneratorResult result;
+
+        PojoFrame(final InternalNode node) {
+            this.node = node;
+        }
+
+        @Override
+        void resume() {
+            if (result == null) {
+                result = generateValue(node);
+                if (!result.isDelayed()) {
+                    populateChildren(node.getGenerationOrder(), result);
+                }
+            } else {
+                complete(result);
+            }
+        }
+    }
+
+    private final class PopulateChildrenFrame extends Frame {
+        private final GeneratorResult generatorResult;
+        private final Iterator<InternalNode> children;
+        private InternalNode child;
+
+        PopulateChildrenFrame(final List<InternalNode> children, final GeneratorResult generatorResult) {
+            this.generatorResult = generatorResult;
+            this.children = generatorResult.containsNull()
+                    ? Collections.emptyIterator()
+                    : children.iterator();
+        }
+
+        @Override
+        void resume() {
+            if (child != null) {
+                assignOrDelay(child, generatorResult, childResult);
+                child = null; // NOPMD
+            }
+
+            final Object parentObject = generatorResult.getValue();
+            final Hints hints = generatorResult.getHints();
+            final AfterGenerate action = hints.afterGenerate();
+
+            while (children.hasNext()) {
+                final InternalNode next = children.next();
+                final NodeFilterResult filterResult = nodeFilter.filter(next, action, parentObject);
+
+                if (filterResult == NodeFilterResult.GENERATE) {
+                    child = next;
+                    createObject(next, false);
+                    return;
+                }
+
+                final GeneratorResult existingResult = getExistingValue(next, parentObject, hints);
+
+                if (existingResult != null && filterResult == NodeFilterResult.POPULATE
+                        && populate(next, existingResult)) {
+                    return;
+                }
+            }
+            complete(null);
+        }
+
+        /**
+         * Populates an object that was initialised externally.
+         *
+         * @return {@code true} if a frame was called to populate the object
+         */
+        private boolean populate(final InternalNode node, final GeneratorResult result) {
+            final Hints hints = result.getHints();
+
+            if (node.is(NodeKind.POJO)) {
+                populateChildren(node.getGenerationOrder(), result);
+            } else if (node.is(NodeKind.COLLECTION) && node.getOnlyChild().is(NodeKind.POJO)) {
+                populateEach(node.getOnlyChild(), (Iterable<?>) result.getValue(), hints);
+            } else if (node.is(NodeKind.ARRAY) && node.getOnlyChild().is(NodeKind.POJO)) {
+                populateEach(node.getOnlyChild(), Arrays.asList((Object[]) result.getValue()), hints);
+            } else if (node.is(NodeKind.MAP)) {
+                final InternalNode keyNode = node.getChildren().get(0);
+                final InternalNode valueNode = node.getChildren().get(1);
+                final Map<?, ?> map = (Map<?, ?>) result.getValue();
+
+                final Iterator<Frame> frames = map.entrySet().stream()
+                        .flatMap(entry -> Stream.of(
+                                keyNode.is(NodeKind.POJO) ? new PopulateChildrenFrame(
+                                        keyNode.getGenerationOrder(),
+                                        GeneratorResult.create(entry.getKey(), hints)) : null,
+                                valueNode.is(NodeKind.POJO) ? new PopulateChildrenFrame(
+                                        valueNode.getGenerationOrder(),
+                                        GeneratorResult.create(entry.getValue(), hints)) : null))
+                        .filter(Objects::nonNull)
+                        .map(Frame.class::cast)
+                        .iterator();
+
+                call(new SequenceFrame(frames));
+            } else {
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private final class CollectionFrame extends Frame {
+        private static final int INIT = 0;
+        private static final int PREPARE = 1;
+        private static final int NEXT = 2;
+        private static final int ADD = 3;
+
+        private final InternalNode node;
+        private final InternalNode elementNode;
+        private int state = INIT;
+        private GeneratorResult generatorResult;
+        private CollectionHint hint;
+        private Set<Object> generated;
+        private int elementsToGenerate;
+        private int failedAdditions;
+
+        CollectionFrame(final InternalNode node) {
+            this.node = node;
+            this.elementNode = node.getChildren().isEmpty() ? null : node.getOnlyChild(); // NOPMD
+        }
+
+        @Override
+        void resume() {
+            switch (state) {
+                case INIT:
+                    createCollection();
+                    break;
+                case PREPARE:
+                    prepareElements();
+                    break;
+                case NEXT:
+                    nextElement();
+                    break;
+                default:
+                    elementCreated();
+            }
+        }
+
+        private void createCollection() {
+            generatorResult = generateValue(node);
+
+            if (generatorResult.containsNull() || elementNode == null) {
+                complete(generatorResult);
+                return;
+            }
+
+            ApiValidator.validateValueIsAssignableToTargetClass(
+                    generatorResult.getValue(), Collection.class, node);
+
+            // Populated objects that were created/added in the generator itself
+            state = PREPARE;
+            populateEach(elementNode, (Iterable<?>) generatorResult.getValue(), generatorResult.getHints());
+        }
+
+        private void prepareElements() {
+            if (elementNode.isIgnored()) {
+                complete(generatorResult);
+                return;
+            }
+            hint = defaultIfNull(generatorResult.getHints().get(CollectionHint.class), CollectionHint.empty());
+            elementsToGenerate = hint.generateElements();
+            generated = new HashSet<>(elementsToGenerate);
+            state = NEXT;
+        }
+
+        private void nextElement() {
+            if (elementsToGenerate > 0) {
+                assigmentObjectStore.enterScope();
+                state = ADD;
+                createObject(elementNode, hint.nullableElements());
+            } else {
+                complete(completeCollection(node, generatorResult, hint));
+            }
+        }
+
+        private void elementCreated() {
+            assigmentObjectStore.exitScope();
+
+            if (childResult.isDelayed()) {
+                complete(GeneratorResult.delayed());
+                return;
+            }
+
+            //noinspection unchecked
+            final Collection<Object> collection = (Collection<Object>) generatorResult.getValue();
+
+            if (addElement(node, collection, childResult, hint, generated)) {
+                elementsToGenerate--;
+            } else {
+                failedAdditions++;
+                recordRetry(node, failedAdditions);
+            }
+
+            if (failedAdditions > maxGenerationAttempts) {
+                failIfNotPopulated(node, hint.generateElements());
+                complete(completeCollection(node, generatorResult, hint));
+                return;
+            }
+            state = NEXT;
+        }
+    }
+
+    private final class MapFrame extends Frame {
+        private static final int INIT = 0;
+        private static final int PREPARE = 1;
+        private static final int NEXT = 2;
+        private static final int KEY = 3;
+        private static final int VALUE = 4;
+
+        private final InternalNode node;
+        private int state = INIT;
+        private InternalNode keyNode;
+        private InternalNode valueNode;
+        private GeneratorResult generatorResult;
+        private GeneratorResult mapKeyResult;
+        private MapHint hint;
+        private Iterator<Object> withKeysIterator;
+        private int entriesToGenerate;
+        private int failedAdditions;
+
+        MapFrame(final InternalNode node) {
+            this.node = node;
+        }
+
+        @Override
+        void resume() {
+            switch (state) {
+                case INIT:
+                    createMap();
+                    break;
+                case PREPARE:
+                    prepareEntries();
+                    break;
+                case NEXT:
+                    nextEntry();
+                    break;
+                case KEY:
+                    keyCreated();
+                    break;
+                default:
+                    valueCreated();
+            }
+        }
+
+        private void createMap() {
+            generatorResult = generateValue(node);
+
+            if (generatorResult.containsNull() || node.getChildren().size() < 2) {
+                complete(generatorResult);
+                return;
+            }
+
+            ApiValidator.validateValueIsAssignableToTargetClass(generatorResult.getValue(), Map.class, node);
+
+            keyNode = node.getChildren().get(0);
+            valueNode = node.getChildren().get(1);
+
+            // Populated objects that were created/added in the generator itself
+            final Hints hints = generatorResult.getHints();
+            final Map<?, ?> map = (Map<?, ?>) generatorResult.getValue();
+            final Iterator<Frame> frames = map.entrySet().stream()
+                    .flatMap(entry -> Stream.<Frame>of(
+                            new PopulateChildrenFrame(keyNode.getGenerationOrder(),
+                                    GeneratorResult.create(entry.getKey(), hints)),
+                            new PopulateChildrenFrame(valueNode.getGenerationOrder(),
+                                    GeneratorResult.create(entry.getValue(), hints))))
+                    .iterator();
+
+            state = PREPARE;
+            call(new SequenceFrame(frames));
+        }
+
+        private void prepareEntries() {
+            if (keyNode.isIgnored() || valueNode.isIgnored()) {
+                complete(generatorResult);
+                return;
+            }
+            hint = defaultIfNull(generatorResult.getHints().get(MapHint.class), MapHint.empty());
+            withKeysIterator = hint.withKeys().iterator();
+            entriesToGenerate = hint.generateEntries();
+            state = NEXT;
+        }
+
+        private void nextEntry() {
+            if (entriesToGenerate > 0) {
+                assigmentObjectStore.enterScope();
+                state = KEY;
+                createObject(keyNode, hint.nullableMapKeys());
+            } else {
+                complete(completeMap(node, generatorResult, hint));
+            }
+        }
+
+        private void keyCreated() {
+            mapKeyResult = childResult;
+            state = VALUE;
+            createObject(valueNode, hint.nullableMapValues());
+        }
+
+        private void valueCreated() {
+            final GeneratorResult mapValueResult = childResult;
+            assigmentObjectStore.exitScope();
+
+            if (mapKeyResult.isDelayed() || mapValueResult.isDelayed()) {
+                complete(GeneratorResult.delayed());
+                return;
+            }
+
+            final Object mapKey = withKeysIterator.hasNext()
+                    ? withKeysIterator.next()
+                    : mapKeyResult.getValue();
+
+            //noinspection unchecked
+            final Map<Object, Object> target = (Map<Object, Object>) generatorResult.getValue();
+
+            if (putEntry(node, target, mapKey, mapValueResult, hint)) {
+                entriesToGenerate--;
+            } else {
+                failedAdditions++;
+                recordRetry(node, failedAdditions);
+            }
+
+            if (failedAdditions > maxGenerationAttempts) {
+                failIfNotPopulated(node, hint.generateEntries());
+                complete(completeMap(node, generatorResult, hint));
+                return;
+            }
+            state = NEXT;
+        }
+    }
+
+    private final class ArrayFrame extends Frame {
+        private static final int INIT = 0;
+        private static final int WITH_ELEMENT = 1;
+        private static final int SET_WITH_ELEMENT = 2;
+        private static final int NEXT = 3;
+        private static final int FILTER = 4;
+        private static final int CREATED = 5;
+        private static final int RETRY = 6;
+        private static final int RETRIED = 7;
+
+        private final InternalNode node;
+        private int state = INIT;
+        private InternalNode elementNode;
+        private GeneratorResult generatorResult;
+        private ArrayHint hint;
+        private Object arrayObj;
+        private int arrayLength;
+        private int index;
+        private int withElementIndex;
+        private int failedAdditions;
+        private Object currentValue;
+        private GeneratorResult elementResult;
+        private Object elementValue;
+
+        ArrayFrame(final InternalNode node) {
+            this.node = node;
+        }
+
+        @Override
+        void resume() {
+            switch (state) {
+                case INIT:
+                    createArray();
+                    break;
+                case WITH_ELEMENT:
+                    nextWithElement();
+                    break;
+                case SET_WITH_ELEMENT:
+                    withElementPopulated();
+                    break;
+                case NEXT:
+                    nextElement();
+                    break;
+                case FILTER:
+                    filterElement();
+                    break;
+                case CREATED:
+                    elementCreated();
+                    break;
+                case RETRY:
+                    retryElement();
+                    break;
+                default:
+                    elementRetried();
+            }
+        }
+
+        private void createArray() {
+            generatorResult = generateValue(node);
+
+            if (generatorResult.containsNull() || node.getChildren().isEmpty()) {
+                complete(generatorResult);
+                return;
+            }
+
+            elementNode = node.getOnlyChild();
+            arrayObj = generatorResult.getValue();
+            arrayLength = Array.getLength(arrayObj);
+            hint = defaultIfNull(generatorResult.getHints().get(ArrayHint.class), ArrayHint.empty());
+            state = WITH_ELEMENT;
+        }
+
+        private void nextWithElement() {
+            // Fill-in withElements first (if any)
+            if (index < arrayLength && withElementIndex < hint.withElements().size()) {
+                state = SET_WITH_ELEMENT;
+                populateCurrentValue();
+            } else {
+                state = NEXT;
+            }
+        }
+
+        private void withElementPopulated() {
+            if (setWithElement(node, arrayObj, index, hint.withElements().get(withElementIndex))) {
+                withElementIndex++;
+            }
+            index++;
+            state = WITH_ELEMENT;
+        }
+
+        private void nextElement() {
+            if (index < arrayLength) {
+                state = FILTER;
+                populateCurrentValue();
+            } else {
+                complete(completeArray(generatorResult, hint));
+            }
+        }
+
+        private void filterElement() {
+            final AfterGenerate action = generatorResult.getHints().afterGenerate();
+            if (nodeFilter.filter(elementNode, action, currentValue) == NodeFilterResult.SKIP) {
+                index++;
+                state = NEXT;
+                return;
+            }
+            assigmentObjectStore.enterScope();
+            state = CREATED;
+            createObject(elementNode, hint.nullableElements());
+        }
+
+        private void elementCreated() {
+            assigmentObjectStore.exitScope();
+            elementResult = childResult;
+
+            if (elementResult.isDelayed()) {
+                complete(GeneratorResult.delayed());
+                return;
+            }
+            elementValue = elementResult.getValue();
+            state = RETRY;
+        }
+
+        private void retryElement() {
+            // If elements are not nullable, keep generating until a non-null
+            if (shouldRetryArrayElement(elementNode, elementValue, elementResult, hint, failedAdditions)) {
+                failedAdditions++;
+                recordRetry(node, failedAdditions);
+                state = RETRIED;
+                createObject(elementNode, false);
+                return;
+            }
+            setArrayElement(node, arrayObj, index, elementValue);
+            index++;
+            state = NEXT;
+        }
+
+        private void elementRetried() {
+            elementValue = childResult.getValue();
+            state = RETRY;
+        }
+
+        /**
+         * Populates the current element if it was created
+         * by the user within the generator.
+         */
+        private void populateCurrentValue() {
+            // Current value at index may have been set by a custom generator
+            currentValue = Array.get(arrayObj, index);
+
+            if (currentValue != null) {
+                populateChildren(elementNode.getGenerationOrder(),
+                        GeneratorResult.create(currentValue, generatorResult.getHints()));
+            }
+        }
+    }
+
+    private final class RecordFrame extends Frame {
+        private static final int INIT = 0;
+        private static final int CUSTOM_RECORD = 1;
+        private static final int NEXT = 2;
+        private static final int CREATED = 3;
+        private static final int NEXT_DELAYED = 4;
+        private static final int CREATED_DELAYED = 5;
+
+        private final InternalNode node;
+        private int state = INIT;
+        private GeneratorResult customRecord;
+        private Object[] args;
+        private Class<?>[] ctorArgs;
+        private List<InternalNode> generationOrder;
+
+        // Record's constructor argument nodes can depend on each other.
+        // If a node depends on a subsequent node, add it to the queue,
+        // along with the index, and attempt to generate it again later.
+        private final Deque<DelayedRecordComponentNode> recordComponentQueue = new ArrayDeque<>();
+        private DelayedRecordComponentNode entry;
+        private int index;
+        private int threshold;
+
+        RecordFrame(final InternalNode node) {
+            this.node = node;
+        }
+
+        @Override
+        void resume() {
+            switch (state) {
+                case INIT:
+                    createRecord();
+                    break;
+                case CUSTOM_RECORD:
+                    customRecordPopulated();
+                    break;
+                case NEXT:
+                    nextComponent();
+                    break;
+                case CREATED:
+                    componentCreated();
+                    break;
+                case NEXT_DELAYED:
+                    nextDelayedComponent();
+                    break;
+                default:
+                    delayedComponentCreated();
+            }
+        }
+
+        private void createRecord() {
+            // Handle the case where user supplies a generator for creating a record,
+            customRecord = generateValue(node);
+
+            if (!customRecord.isEmpty()) {
+                state = CUSTOM_RECORD;
+                populateChildren(node.getGenerationOrder(), customRecord);
+                return;
+            }
+
+            args = new Object[node.getChildren().size()];
+            ctorArgs = RecordUtils.getComponentTypes(node.getTargetClass());
+
+            if (ctorArgs.length != args.length) {
+                LOG.debug("Record {} has {} constructor arguments, but the node has {} children. "
+                                + "Returning a null result",
+                        node.getTargetClass(), ctorArgs.length, args.length);
+
+                complete(GeneratorResult.nullResult());
+                return;
+            }
+            generationOrder = node.getGenerationOrder();
+            state = NEXT;
+        }
+
+        private void customRecordPopulated() {
+            complete(customRecord);
+        }
+
+        private void nextComponent() {
+            if (index < args.length) {
+                state = CREATED;
+                createObject(generationOrder.get(index), false);
+            } else {
+                threshold = recordComponentQueue.size();
+                state = NEXT_DELAYED;
+            }
+        }
+
+        private void componentCreated() {
+            final InternalNode child = generationOrder.get(index);
+            final List<InternalNode> children = node.getChildren();
+            // components may be generated out of order to satisfy assignments,
+            // but arguments must be in the order declared by the record
+            final int argIndex = generationOrder == children ? index : children.indexOf(child); // NOPMD
+
+            if (childResult.isDelayed()) {
+                LOG.trace("Delayed record arg: {}", child);
+                recordComponentQueue.add(new DelayedRecordComponentNode(child, argIndex));
+            } else {
+                args[argIndex] = childResult.containsNull()
+                        ? ObjectUtils.defaultValue(ctorArgs[argIndex])
+                        : childResult.getValue();
+            }
+            index++;
+            state = NEXT;
+        }
+
+        private void nextDelayedComponent() {
+            if (recordComponentQueue.isEmpty()) {
+                complete(instantiateRecord(node, args, false));
+                return;
+            }
+            entry = recordComponentQueue.removeLast();
+            state = CREATED_DELAYED;
+            createObject(entry.getNode(), false);
+        }
+
+        private void delayedComponentCreated() {
+            LOG.trace("Attempt to create delayed record component: {}", entry.getNode());
+
+            if (childResult.isDelayed()) {
+                threshold--;
+                recordComponentQueue.addFirst(entry);
+
+            } else if (!childResult.isEmpty() && !childResult.isIgnored()) {
+                args[entry.getArgIndex()] = childResult.getValue();
+            }
+            if (threshold == 0) {
+                complete(instantiateRecord(node, args, !recordComponentQueue.isEmpty()));
+                return;
+            }
+            state = NEXT_DELAYED;
+        }
+    }
+
+    private final class ContainerFrame extends Frame {
+        private static final int INIT = 0;
+        private static final int NEXT_ARG = 1;
+        private static final int CREATED_ARG = 2;
+        private static final int NEXT_ENTRY = 3;
+        private static final int NEXT_ENTRY_ARG = 4;
+        private static final int CREATED_ENTRY_ARG = 5;
+
+        private final InternalNode node;
+        private final List<InternalNode> children;
+        private int state = INIT;
+        private GeneratorResult generatorResult;
+        private InternalContainerHint hint;
+        private Object[] args;
+        private int argIndex;
+        private int entryIndex;
+
+        ContainerFrame(final InternalNode node) {
+            this.node = node;
+            this.children = node.getChildren();
+        }
+
+        @Override
+        void resume() {
+            switch (state) {
+                case INIT:
+                    generatorResult = generateValue(node);
+
+                    if (generatorResult.isEmpty() || generatorResult.isIgnored()) {
+                        complete(generatorResult);
+                        return;
+                    }
+
+                    hint = defaultIfNull(
+                            generatorResult.getHints().get(InternalContainerHint.class),
+                            InternalContainerHint.empty());
+
+                    // Creation delegated to the engine
+                    if (generatorResult.containsNull() && hint.createFunction() != null) {
+                        args = new Object[children.size()];
+                        state = NEXT_ARG;
+                    } else {
+                        state = NEXT_ENTRY;
+                    }
+                    break;
+                case NEXT_ARG:
+                    if (argIndex < children.size()) {
+                        state = CREATED_ARG;
+                        createObject(children.get(argIndex), false);
+                    } else {
+                        final Object result = hint.createFunction().create(args);
+                        generatorResult = GeneratorResult.create(result, generatorResult.getHints());
+                        state = NEXT_ENTRY;
+                    }
+                    break;
+                case CREATED_ARG:
+                    if (childResult.isDelayed()) {
+                        complete(GeneratorResult.delayed());
+                        return;
+                    }
+
+                    ApiValidator.validateValueIsAssignableToElementNode(
+                            "error populating object due to incompatible types",
+                            childResult.getValue(), node, children.get(argIndex));
+
+                    args[argIndex] = childResult.getValue();
+                    argIndex++;
+                    state = NEXT_ARG;
+                    break;
+                case NEXT_ENTRY:
+                    if (hint.addFunction() == null || entryIndex >= hint.generateEntries()) {
+                        complete(completeContainer(node, generatorResult, hint));
+                        return;
+                    }
+                    args = new Object[children.size()];
+                    argIndex = 0;
+                    assigmentObjectStore.enterScope();
+                    state = NEXT_ENTRY_ARG;
+                    break;
+                case NEXT_ENTRY_ARG:
+                    if (argIndex < children.size()) {
+                        state = CREATED_ENTRY_ARG;
+                        createObject(children.get(argIndex), false);
+                    } else {
+                        assigmentObjectStore.exitScope();
+                        final ContainerAddFunction<Object> addFunction = hint.addFunction();
+                        addFunction.addTo(generatorResult.getValue(), args);
+                        entryIndex++;
+                        state = NEXT_ENTRY;
+                    }
+                    break;
+                default:
+                    args[argIndex] = childResult.getValue();
+                    argIndex++;
+                    state = NEXT_ENTRY_ARG;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.nodes.NodeKind;
+import org.instancio.internal.random.DelegatingRandom;
+import org.instancio.internal.util.SealedClassUtils;
+import org.instancio.settings.Keys;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creates proxies for nodes declared as interfaces, if
+ * {@link Keys#LAZY_PROXIES} is enabled. The object backing
+ * a proxy is generated when a method is first invoked on it.
+ *
+ * <p>A seed is drawn from the model's random when a proxy
+ * is created. The backing object is generated using a copy
+ * of the model context with a new random created from this seed.
+ * Therefore, the result does not depend on the order in which proxies are accessed.
+ */
+final class LazyProxyFactory {
+
+    private final ModelContext<?> context;
+
+    // copy of the context used for generating proxy targets, created
+    // on first use; its random is replaced before each target is generated
+    private final ReentrantLock lock = new ReentrantLock();
+    private final DelegatingRandom lazyRandom = new DelegatingRandom(null);
+    private ModelContext<?> lazyContext;
+
+    private LazyProxyFactory(final ModelContext<?> context) {
+        this.context = context;
+    }
+
+    /**
+     * Returns a factory for the given context, or {@code null}
+     * if lazy proxies are disabled or cannot be used.
+     *
+     * <p>Assignments and feeds are not supported since
+     * they may depend on values outside the proxied node.
+     *
+     * @param context the model context
+     * @return a factory, or {@code null}
+     */
+    @Nullable
+    static LazyProxyFactory create(final ModelContext<?> context) {
+        final boolean enabled = context.getSettings().get(Keys.LAZY_PROXIES)
+                && !context.getSelectorMaps().hasAssignments()
+                && context.getFeedSelectorMap().isEmpty();
+
+        return enabled ? new LazyProxyFactory(context) : null;
+    }
+
+    static boolean isLazyProxy(@Nullable final Object obj) {
+        return obj != null
+                && Proxy.isProxyClass(obj.getClass())
+                && Proxy.getInvocationHandler(obj) instanceof LazyProxyInvocationHandler;
+    }
+
+    /**
+     * Returns the object backing the given proxy,
+     * generating it if it has not been generated yet.
+     *
+     * @param proxy a lazy proxy
+     * @return the proxied object
+     */
+    static Object getTarget(final Object proxy) {
+        return ((LazyProxyInvocationHandler) Proxy.getInvocationHandler(proxy)).getTarget();
+    }
+
+    /**
+     * Checks whether a proxy can be created for the given node.
+     * The node must be declared as a public, non-sealed interface
+     * and must not be {@code null}able, ignored, or have a generator
+     * or callbacks, since these need to be applied when the node
+     * is visited.
+     *
+     * @param node to check
+     * @return {@code true} if a proxy can be created
+     */
+    boolean canProxy(final InternalNode node) {
+        final Class<?> rawType = node.getRawType();
+
+        if (!rawType.isInterface()
+                || !Modifier.isPublic(rawType.getModifiers())
+                || SealedClassUtils.isSealedAbstractType(rawType)
+                || node.isIgnored()
+                || node.getChildren().isEmpty()) {
+            return false;
+        }
+
+        if (node.is(NodeKind.COLLECTION)) {
+            if (context.getSettings().get(Keys.COLLECTION_NULLABLE)) {
+                return false;
+            }
+        } else if (node.is(NodeKind.MAP)) {
+            if (context.getSettings().get(Keys.MAP_NULLABLE)) {
+                return false;
+            }
+        } else if (!node.is(NodeKind.POJO)) {
+            return false;
+        }
+
+        return !context.isIgnored(node)
+                && !context.isNullable(node)
+                && !context.getGenerator(node).isPresent()
+                && context.getCallbacks(node).isEmpty();
+    }
+
+    /**
+     * Creates a proxy for the given node.
+     *
+     * @param node to create a proxy for
+     * @return a proxy implementing the node's raw type
+     */
+    Object createProxy(final InternalNode node) {
+        final long seed = context.getRandom().longRange(1, Long.MAX_VALUE);
+        final Class<?> rawType = node.getRawType();
+
+        return Proxy.newProxyInstance(
+                Thread.currentThread().getContextClassLoader(),
+                new Class<?>[]{rawType},
+                new LazyProxyInvocationHandler(this, node, seed));
+    }
+
+    /**
+     * Generates the object backing a proxy. Since targets share
+     * a context, they are generated one at a time.
+     *
+     * @param node the proxied node
+     * @param seed the seed captured when the proxy was created
+     * @return generated object, or {@code null} if generation failed
+     */
+    @Nullable
+    Object generate(final InternalNode node, final long seed) {
+        lock.lock();
+        try {
+            lazyRandom.setDelegate(new DefaultRandom(seed, Seeds.Source.MANUAL));
+            if (lazyContext == null) {
+                lazyContext = context.toBuilder().withRandom(lazyRandom).build();
+            }
+            final InternalModel<?> model = new InternalModel<>(lazyContext, node);
+            return InstancioEngine.create(model).createSubtreeObject();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.exception.InstancioException;
+import org.instancio.internal.nodes.InternalNode;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delegates method invocations to an object that
+ * is generated when the first method is invoked.
+ */
+final class LazyProxyInvocationHandler implements InvocationHandler {
+    private final LazyProxyFactory factory;
+    private final InternalNode node;
+    private final long seed;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Object target;
+
+    LazyProxyInvocationHandler(final LazyProxyFactory factory, final InternalNode node, final long seed) {
+        this.factory = factory;
+        this.node = node;
+        this.seed = seed;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+            return proxy == args[0] || getTarget().equals(unwrap(args[0])); //NOPMD
+        }
+        try {
+            return method.invoke(getTarget(), args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    Object getTarget() {
+        lock.lock();
+        try {
+            if (target == null) {
+                target = factory.generate(node, seed);
+
+                if (target == null) {
+                    throw new InstancioException(String.format(
+                            "failed generating lazy proxy target for node: %s", node.toDisplayString()));
+                }
+            }
+            return target;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Object unwrap(final Object obj) {
+        return LazyProxyFactory.isLazyProxy(obj) ? LazyProxyFactory.getTarget(obj) : obj;
+    }
+}
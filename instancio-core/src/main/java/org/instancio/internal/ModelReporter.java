@@ -25,6 +25,9 @@ import org.instancio.internal.util.Format;
 import org.instancio.internal.util.StringUtils;
 import org.instancio.support.Seeds;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -35,6 +38,8 @@ import static org.instancio.internal.util.Constants.NL;
 
 final class ModelReporter {
 
+    private static final int MAX_HOTTEST_NODES = 5;
+
     private final Consumer<String> consumer;
 
     private ModelReporter(final Consumer<String> consumer) {
@@ -54,6 +59,16 @@ final class ModelReporter {
         modelDump.consume(model);
     }
 
+    @SuppressWarnings("PMD.SystemPrintln")
+    static void printProfile(final InternalNode rootNode, final NodeProfiler profiler) {
+        ModelReporter modelDump = new ModelReporter(System.out::println); // NOSONAR
+        modelDump.consumeProfile(rootNode, profiler);
+    }
+
+    void consumeProfile(final InternalNode rootNode, final NodeProfiler profiler) {
+        consumer.accept(createProfileDump(rootNode, profiler));
+    }
+
     void consume(final InternalModel<?> model) {
         if (model.getModelContext().isVerbose()) {
             final String modelDump = createModelDump(model);
@@ -103,6 +118,105 @@ final class ModelReporter {
                 .toString();
     }
 
+    private static String createProfileDump(final InternalNode rootNode, final NodeProfiler profiler) {
+        final NodeProfiler.NodeProfile rootProfile = profiler.get(rootNode);
+        final long totalNanos = rootProfile == null ? 0 : rootProfile.getNanos();
+        final boolean withBytes = profiler.isAllocationTracked();
+
+        final NodeStats nodeStats = NodeStats.compute(rootNode, node -> {
+            final NodeProfiler.NodeProfile profile = profiler.get(node);
+            return profile == null ? "" : formatProfile(profile, totalNanos, withBytes);
+        });
+
+        final StringBuilder sb = new StringBuilder(10_000)
+                .append("________________________________________________________________________________________").append(NL)
+                .append(NL)
+                .append(" -> Instancio profile for ").append(Format.withoutPackage(rootNode.getType())).append(NL)
+                .append(NL)
+                .append("### Nodes").append(NL)
+                .append(NL)
+                .append("Format: <depth:class: field> [values, nulls, retries, cumulative time");
+        if (withBytes) {
+            sb.append(", cumulative allocations");
+        }
+        sb.append(']').append(NL)
+                .append(NL)
+                .append(nodeStats.getTreeString()).append(NL)
+                .append(" -> Total time ............: ").append(formatNanos(totalNanos)).append(NL);
+        if (withBytes && rootProfile != null) {
+            sb.append(" -> Total allocations .....: ").append(formatBytes(rootProfile.getBytes())).append(NL);
+        }
+        sb.append(NL);
+
+        appendHottestNodes(sb, rootNode, profiler, totalNanos);
+
+        return sb
+                .append("________________________________________________________________________________________").append(NL)
+                .toString();
+    }
+
+    private static void appendHottestNodes(
+            final StringBuilder sb,
+            final InternalNode rootNode,
+            final NodeProfiler profiler,
+            final long totalNanos) {
+
+        final List<InternalNode> nodes = new ArrayList<>();
+        collectProfiledDescendants(rootNode, profiler, nodes);
+        nodes.sort(Comparator.comparingLong((InternalNode n) -> profiler.get(n).getNanos()).reversed());
+
+        sb.append("### Hottest subtrees").append(NL)
+                .append(NL);
+
+        final int limit = Math.min(MAX_HOTTEST_NODES, nodes.size());
+        for (int i = 0; i < limit; i++) {
+            final InternalNode node = nodes.get(i);
+            final long nanos = profiler.get(node).getNanos();
+            sb.append(String.format(" %d. %s %s (%s)", i + 1, Format.formatAsTreeNode(node),
+                    formatNanos(nanos), formatPercent(nanos, totalNanos))).append(NL);
+        }
+        sb.append(NL);
+    }
+
+    private static void collectProfiledDescendants(
+            final InternalNode node, final NodeProfiler profiler, final List<InternalNode> results) {
+
+        for (InternalNode child : node.getChildren()) {
+            if (profiler.get(child) != null) {
+                results.add(child);
+            }
+            collectProfiledDescendants(child, profiler, results);
+        }
+    }
+
+    private static String formatProfile(
+            final NodeProfiler.NodeProfile profile, final long totalNanos, final boolean withBytes) {
+
+        final StringBuilder sb = new StringBuilder(" [")
+                .append(profile.getValues()).append(", ")
+                .append(profile.getNulls()).append(", ")
+                .append(profile.getRetries()).append(", ")
+                .append(formatNanos(profile.getNanos()))
+                .append(" (").append(formatPercent(profile.getNanos(), totalNanos)).append(')');
+
+        if (withBytes) {
+            sb.append(", ").append(formatBytes(profile.getBytes()));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static String formatNanos(final long nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000d);
+    }
+
+    private static String formatPercent(final long nanos, final long totalNanos) {
+        return totalNanos == 0 ? "-" : String.format("%.1f%%", nanos * 100d / totalNanos);
+    }
+
+    private static String formatBytes(final long bytes) {
+        return String.format("%,d B", bytes);
+    }
+
     private static void appendSelectorMatches(final StringBuilder sb, final InternalModel<?> model) {
         final InternalNode rootNode = model.getRootNode();
         final ModelContext<?> context = model.getModelContext();
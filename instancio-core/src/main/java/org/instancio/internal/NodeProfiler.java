@@ -0,0 +1,175 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.nodes.InternalNode;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collects per-node statistics when {@code profile()} mode is enabled.
+ *
+ * <p>Time and allocations are cumulative, that is, they include
+ * the cost of generating the node's descendants. Allocations are
+ * only tracked if supported by the JVM.
+ */
+final class NodeProfiler {
+    private static final Logger LOG = LoggerFactory.getLogger(NodeProfiler.class);
+
+    // nodes are tracked by identity since equal nodes
+    // may appear in different parts of the tree
+    private final Map<InternalNode, NodeProfile> profiles = new IdentityHashMap<>();
+
+    // stack of start times and allocated bytes of nodes being generated
+    private long[] startNanos = new long[32];
+    private long[] startBytes = new long[32];
+    private int depth;
+
+    void enter() {
+        if (depth == startNanos.length) {
+            startNanos = Arrays.copyOf(startNanos, depth * 2);
+            startBytes = Arrays.copyOf(startBytes, depth * 2);
+        }
+        startBytes[depth] = AllocationCounter.getAllocatedBytes();
+        startNanos[depth] = System.nanoTime();
+        depth++;
+    }
+
+    /**
+     * Exits the node most recently entered.
+     *
+     * @param node   the node being exited
+     * @param result the node's result, or {@code null} if generation failed
+     */
+    void exit(final InternalNode node, @Nullable final GeneratorResult result) {
+        final long endNanos = System.nanoTime();
+        final long endBytes = AllocationCounter.getAllocatedBytes();
+        depth--;
+
+        final NodeProfile profile = getProfile(node);
+        profile.nanos += endNanos - startNanos[depth];
+        profile.bytes += endBytes - startBytes[depth];
+
+        if (result == null) {
+            return;
+        }
+        if (result.isNormal() && result.getValue() != null) {
+            profile.values++;
+        } else if (result.isNull() || result.isNormal()) {
+            profile.nulls++;
+        }
+    }
+
+    void retry(final InternalNode node) {
+        getProfile(node).retries++;
+    }
+
+    @Nullable
+    NodeProfile get(final InternalNode node) {
+        return profiles.get(node);
+    }
+
+    boolean isAllocationTracked() {
+        return AllocationCounter.SUPPORTED;
+    }
+
+    private NodeProfile getProfile(final InternalNode node) {
+        return profiles.computeIfAbsent(node, k -> new NodeProfile());
+    }
+
+    static final class NodeProfile {
+        private int values;
+        private int nulls;
+        private int retries;
+        private long nanos;
+        private long bytes;
+
+        int getValues() {
+            return values;
+        }
+
+        int getNulls() {
+            return nulls;
+        }
+
+        int getRetries() {
+            return retries;
+        }
+
+        long getNanos() {
+            return nanos;
+        }
+
+        long getBytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * Reads the current thread's allocated bytes using
+     * {@code com.sun.management.ThreadMXBean}, if available.
+     * Reflection is used since the {@code java.management}
+     * module is not required by Instancio.
+     */
+    private static final class AllocationCounter {
+        private static final Object THREAD_MX_BEAN;
+        private static final Method GET_THREAD_ALLOCATED_BYTES;
+        private static final boolean SUPPORTED;
+
+        static {
+            Object bean = null;
+            Method method = null;
+            try {
+                bean = Class.forName("java.lang.management.ManagementFactory")
+                        .getMethod("getThreadMXBean")
+                        .invoke(null);
+
+                final Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+                if (beanClass.isInstance(bean)
+                        && (Boolean) beanClass.getMethod("isThreadAllocatedMemoryEnabled").invoke(bean)) {
+                    method = beanClass.getMethod("getThreadAllocatedBytes", long.class);
+                }
+            } catch (Exception ex) {
+                LOG.trace("Allocation tracking is not supported", ex);
+            }
+            THREAD_MX_BEAN = bean;
+            GET_THREAD_ALLOCATED_BYTES = method;
+            SUPPORTED = method != null;
+        }
+
+        // Thread.getId() is only used to identify the current thread to
+        // the ThreadMXBean; no threads are created or managed here
+        @SuppressWarnings({"deprecation", "PMD.DoNotUseThreads"})
+        static long getAllocatedBytes() {
+            if (!SUPPORTED) {
+                return 0;
+            }
+            try {
+                return (Long) GET_THREAD_ALLOCATED_BYTES.invoke(
+                        THREAD_MX_BEAN, Thread.currentThread().getId());
+            } catch (Exception ex) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Creates shallow copies of the objects copied by {@link VariantGenerator}.
+ *
+ * <p>Not thread-safe, since {@code clone()} methods are cached
+ * without synchronization.
+ */
+final class ShallowCopier {
+    private static final Logger LOG = LoggerFactory.getLogger(ShallowCopier.class);
+
+    private final Map<Class<?>, Optional<Method>> cloneMethods = new HashMap<>();
+
+    /**
+     * Returns non-static fields declared by the given class
+     * and its superclasses.
+     */
+    static Field[] getFields(final Class<?> klass) {
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> c = klass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fields.add(ReflectionUtils.setAccessible(field));
+                }
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    /**
+     * Copies a collection or map using its {@code clone()} method
+     * if it has one, or a no-argument constructor otherwise.
+     *
+     * <p>If neither can be used, for example, in case of unmodifiable
+     * collections or {@code Arrays.asList()}, the elements are copied
+     * to a modifiable collection or map, such as an {@link ArrayList}
+     * or a {@link LinkedHashMap}.
+     */
+    @SuppressWarnings("unchecked")
+    Object shallowCopy(final Object value) {
+        final Object clone = cloneOrNull(value);
+        if (clone != null) {
+            return clone;
+        }
+
+        try {
+            final Object copy = value.getClass().getConstructor().newInstance();
+            if (copy instanceof Map) {
+                ((Map<Object, Object>) copy).putAll((Map<?, ?>) value);
+            } else {
+                ((Collection<Object>) copy).addAll((Collection<?>) value);
+            }
+            return copy;
+        } catch (ReflectiveOperationException | UnsupportedOperationException ex) {
+            LOG.trace("Could not copy an instance of {} using a no-argument constructor",
+                    value.getClass().getName(), ex);
+
+            return modifiableCopy(value);
+        }
+    }
+
+    /**
+     * Returns a copy of the value created using its public {@code clone()}
+     * method, or {@code null} if the value cannot be cloned.
+     */
+    @Nullable
+    Object cloneOrNull(final Object value) {
+        if (!(value instanceof Cloneable)) {
+            return null;
+        }
+        final Method clone = cloneMethods
+                .computeIfAbsent(value.getClass(), ShallowCopier::getPublicCloneMethod)
+                .orElse(null);
+
+        if (clone == null) {
+            return null;
+        }
+        try {
+            return clone.invoke(value);
+        } catch (ReflectiveOperationException ex) {
+            // e.g. if the class declaring clone() is not accessible
+            LOG.trace("Could not clone an instance of {}", value.getClass().getName(), ex);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object modifiableCopy(final Object value) {
+        if (value instanceof SortedMap) {
+            return new TreeMap<>((SortedMap<Object, Object>) value);
+        } else if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        } else if (value instanceof SortedSet) {
+            return new TreeSet<>((SortedSet<Object>) value);
+        } else if (value instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) value);
+        }
+        return new ArrayList<>((Collection<?>) value);
+    }
+
+    private static Optional<Method> getPublicCloneMethod(final Class<?> klass) {
+        try {
+            return Optional.of(klass.getMethod("clone"));
+        } catch (NoSuchMethodException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.TargetSelector;
+import org.instancio.exception.InstancioException;
+import org.instancio.internal.context.BooleanSelectorMap;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.instantiation.Instantiator;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.nodes.NodeKind;
+import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.RecordUtils;
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Mode;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Generates variants of a prototype object. The prototype is generated
+ * once, and each variant is a deep copy of the prototype in which
+ * the values of the target nodes are generated anew.
+ *
+ * <p>A copy plan is computed upfront for each node that needs
+ * to be copied, so that copying an object does not involve
+ * matching selectors or resolving fields.
+ *
+ * <p>Values of leaf nodes are copied using their {@code clone()}
+ * method if they have a public one. Otherwise, for example, in case
+ * of strings and numbers, they are shared between the variants.
+ *
+ * @param <T> the type of object
+ */
+@SuppressWarnings("PMD.CouplingBetweenObjects")
+final class VariantGenerator<T> {
+    private final InternalModel<T> model;
+    private final InstancioEngine engine;
+    private final Instantiator instantiator;
+    private final ShallowCopier copier = new ShallowCopier();
+    private final Map<InternalNode, CopyPlan> copyPlans = new IdentityHashMap<>();
+    private final Set<InternalNode> targetNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Object prototype;
+
+    private VariantGenerator(final InternalModel<T> model, final List<TargetSelector> targets) {
+        final ModelContext<T> context = model.getModelContext();
+
+        if (context.getSelectorMaps().hasAssignments()) {
+            throw Fail.withUsageError("variants() does not support objects that use assign()");
+        }
+
+        this.model = model;
+        this.instantiator = new Instantiator(context.getServiceProviders().getTypeInstantiators());
+        this.engine = InstancioEngine.create(model);
+        this.prototype = engine.createRootObject();
+        engine.printProfile();
+
+        final BooleanSelectorMap targetMap = new BooleanSelectorMap();
+        targetMap.putAll(new LinkedHashSet<>(targets));
+        createCopyPlans(targetMap);
+
+        final Set<TargetSelector> unmatched = targetMap.getSelectorMap().getUnusedKeys();
+        if (!unmatched.isEmpty() && context.getSettings().get(Keys.MODE) == Mode.STRICT) {
+            throw Fail.withUsageError("variants() selectors did not match any nodes: %s", unmatched);
+        }
+    }
+
+    /**
+     * Creates a generator of variants.
+     *
+     * @param model   the model to generate the prototype from
+     * @param targets processed selectors for nodes to regenerate
+     * @param <T>     the type of object
+     * @return a generator with a prototype that has already been generated
+     */
+    static <T> VariantGenerator<T> create(final InternalModel<T> model, final List<TargetSelector> targets) {
+        return new VariantGenerator<>(model, targets);
+    }
+
+    /**
+     * Creates a new variant of the prototype.
+     *
+     * @return a copy of the prototype with new values for target nodes
+     */
+    @SuppressWarnings("unchecked")
+    T createVariant() {
+        return (T) copy(model.getRootNode(), prototype, new IdentityHashMap<>());
+    }
+
+    private void createCopyPlans(final BooleanSelectorMap targetMap) {
+        final Queue<InternalNode> queue = new ArrayDeque<>();
+        queue.add(model.getRootNode());
+
+        while (!queue.isEmpty()) {
+            final InternalNode node = queue.poll();
+
+            if (targetMap.isTrue(node)) {
+                targetNodes.add(node);
+            } else if (!InstancioEngine.isLeaf(node)) {
+                final CopyPlan plan = createCopyPlan(node);
+                if (plan != null) {
+                    copyPlans.put(node, plan);
+                    queue.addAll(node.getChildren());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy plan for the given node, or {@code null}
+     * if the node's value should be shared with the prototype.
+     */
+    @Nullable
+    private CopyPlan createCopyPlan(final InternalNode node) {
+        if (node.is(NodeKind.POJO)) {
+            return new PojoPlan(node);
+        } else if (node.is(NodeKind.RECORD)) {
+            return new RecordPlan(node);
+        } else if (node.is(NodeKind.COLLECTION)) {
+            return new CollectionPlan(node);
+        } else if (node.is(NodeKind.MAP) && node.getChildren().size() == 2) {
+            return new MapPlan(node);
+        } else if (node.is(NodeKind.ARRAY)) {
+            return new ArrayPlan(node);
+        } else if (node.is(NodeKind.CONTAINER) && node.getTargetClass() == Optional.class) {
+            return new OptionalPlan(node);
+        }
+        return null;
+    }
+
+    @Nullable
+    private Object copy(final InternalNode node, @Nullable final Object value, final Map<Object, Object> copies) {
+        if (targetNodes.contains(node)) {
+            return regenerate(node);
+        }
+        if (value == null) {
+            return null;
+        }
+        if (LazyProxyFactory.isLazyProxy(value)) {
+            return copy(node, LazyProxyFactory.getTarget(value), copies);
+        }
+
+        // the value may have been copied already, e.g. a back reference
+        final Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+
+        final CopyPlan plan = copyPlans.get(node);
+        if (plan != null) {
+            return plan.copy(value, copies);
+        }
+
+        // leaf values, such as dates or an EnumSet, may be mutable
+        final Object clone = copier.cloneOrNull(value);
+        return clone == null ? value : clone;
+    }
+
+    @Nullable
+    private Object regenerate(final InternalNode node) {
+        // the prototype's engine is reused, so that warnings, metrics,
+        // and generation events are reported only once
+        return engine.createSubtreeObject(node);
+    }
+
+    private boolean hasCopyPlan(final InternalNode node) {
+        return copyPlans.containsKey(node) || targetNodes.contains(node);
+    }
+
+    private interface CopyPlan {
+        Object copy(Object value, Map<Object, Object> copies);
+    }
+
+    private final class PojoPlan implements CopyPlan {
+        private final Map<Field, InternalNode> childrenByField = new HashMap<>();
+        private final Map<Class<?>, Field[]> fieldsByClass = new HashMap<>(2);
+
+        PojoPlan(final InternalNode node) {
+            for (InternalNode child : node.getChildren()) {
+                if (child.getField() != null) {
+                    childrenByField.put(child.getField(), child);
+                }
+            }
+            fieldsByClass.put(node.getTargetClass(), ShallowCopier.getFields(node.getTargetClass()));
+        }
+
+        @Override
+        public Object copy(final Object value, final Map<Object, Object> copies) {
+            // the runtime class may differ from the node's
+            // target class if the value was supplied by a generator
+            final Class<?> klass = value.getClass();
+            final Field[] fields = fieldsByClass.computeIfAbsent(klass, ShallowCopier::getFields);
+            final Object copy = instantiator.instantiate(klass);
+
+            if (copy == null) {
+                throw Fail.withUsageError("variants() could not create a copy of %s", klass.getName());
+            }
+            copies.put(value, copy);
+
+            try {
+                for (Field field : fields) {
+                    final InternalNode child = childrenByField.get(field);
+                    final Object fieldValue = field.get(value);
+                    field.set(copy, child == null ? fieldValue : VariantGenerator.this.copy(child, fieldValue, copies));
+                }
+            } catch (IllegalAccessException ex) {
+                throw new InstancioException("Error copying an instance of " + klass.getName(), ex);
+            }
+            return copy;
+        }
+    }
+
+    private final class RecordPlan implements CopyPlan {
+        private final List<InternalNode> children;
+
+        RecordPlan(final InternalNode node) {
+            children = node.getChildren();
+            children.forEach(child -> ReflectionUtils.setAccessible(child.getField()));
+        }
+
+        @Override
+        public Object copy(final Object value, final Map<Object, Object> copies) {
+            final Object[] args = new Object[children.size()];
+            for (int i = 0; i < args.length; i++) {
+                final InternalNode child = children.get(i);
+                args[i] = VariantGenerator.this.copy(child, ReflectionUtils.getFieldValue(child.getField(), value), copies);
+            }
+            final Object copy = RecordUtils.instantiate(value.getClass(), args);
+            copies.put(value, copy);
+            return copy;
+        }
+    }
+
+    private final class CollectionPlan implements CopyPlan {
+        private final InternalNode elementNode;
+
+        CollectionPlan(final InternalNode node) {
+            elementNode = node.getOnlyChild();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object copy(final Object value, final Map<Object, Object> copies) {
+            final Collection<Object> copy = (Collection<Object>) copier.shallowCopy(value);
+            copies.put(value, copy);
+
+            if (hasCopyPlan(elementNode)) {
+                copy.clear();
+                for (Object element : (Collection<?>) value) {
+                    copy.add(VariantGenerator.this.copy(elementNode, element, copies));
+                }
+            }
+            return copy;
+        }
+    }
+
+    private final class MapPlan implements CopyPlan {
+        private final InternalNode keyNode;
+        private final InternalNode valueNode;
+
+        MapPlan(final InternalNode node) {
+            keyNode = node.getChildren().get(0);
+            valueNode = node.getChildren().get(1);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object copy(final Object value, final Map<Object, Object> copies) {
+            final Map<Object, Object> copy = (Map<Object, Object>) copier.shallowCopy(value);
+            copies.put(value, copy);
+
+            if (hasCopyPlan(keyNode) || hasCopyPlan(valueNode)) {
+                copy.clear();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    copy.put(VariantGenerator.this.copy(keyNode, entry.getKey(), copies),
+                            VariantGenerator.this.copy(valueNode, entry.getValue(), copies));
+                }
+            }
+            return copy;
+        }
+    }
+
+    private final class ArrayPlan implements CopyPlan {
+        private final InternalNode elementNode;
+
+        ArrayPlan(final InternalNode node) {
+            elementNode = node.getOnlyChild();
+        }
+
+        @Override
+        public Object copy(final Object value, final Map<Object, Object> copies) {
+            final int length = Array.getLength(value);
+            final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            copies.put(value, copy);
+
+            if (hasCopyPlan(elementNode)) {
+                for (int i = 0; i < length; i++) {
+                    Array.set(copy, i, VariantGenerator.this.copy(elementNode, Array.get(value, i), copies));
+                }
+            } else {
+                System.arraycopy(value, 0, copy, 0, length);
+            }
+            return copy;
+        }
+    }
+
+    private final class OptionalPlan implements CopyPlan {
+        private final InternalNode valueNode;
+
+        OptionalPlan(final InternalNode node) {
+            valueNode = node.getOnlyChild();
+        }
+
+        @Override
+        public Object copy(final Object value, final Map<Object, Object> copies) {
+            final Object element = ((Optional<?>) value).orElse(null);
+            return Optional.ofNullable(VariantGenerator.this.copy(valueNode, element, copies));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.instancio.internal.DelayedNodeQueue;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Format;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.instancio.internal.util.Constants.NL;
@@ -84,6 +85,43 @@ public final class AssignmentErrorUtil {
         return sb.toString();
     }
 
+    public static String getAssignmentCycleErrorMessage(
+            final List<InternalAssignment> assignments,
+            final List<InternalNode> nodes) {
+
+        final StringBuilder sb = new StringBuilder(1024)
+                .append("unresolved assignment expression").append(NL)
+                .append(NL)
+                .append("The following assignments form a cycle:").append(NL)
+                .append(NL);
+
+        for (InternalAssignment assignment : assignments) {
+            sb.append(" -> from [")
+                    .append(assignment.getOrigin())
+                    .append("] to [")
+                    .append(assignment.getDestination())
+                    .append(']')
+                    .append(NL);
+        }
+
+        sb.append(NL)
+                .append("Each of the following targets requires the value of another target in the cycle,").append(NL)
+                .append("therefore none of them can be assigned a value:").append(NL)
+                .append(NL);
+
+        for (InternalNode node : nodes) {
+            sb.append(" -> ").append(node.toDisplayString())
+                    .append(" (depth=").append(node.getDepth()).append(')')
+                    .append(NL);
+        }
+
+        sb.append(NL)
+                .append("To resolve the error, remove one of the assignments from the cycle,").append(NL)
+                .append("or replace it with an assignment that does not depend on another target.").append(NL);
+
+        return sb.toString();
+    }
+
     public static String getAmbiguousErrorMessage(
             final TargetSelector selector,
             final InternalNode matchingNode1,
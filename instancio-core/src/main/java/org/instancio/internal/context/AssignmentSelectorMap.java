@@ -38,7 +38,7 @@ final class AssignmentSelectorMap {
 
     private final GeneratorContext generatorContext;
     private final GeneratorInitialiser generatorInitialiser;
-    private final SelectorMap<List<InternalAssignment>> destinationToAssignmentsMap = new SelectorMapImpl<>();
+    private final SelectorMapImpl<List<InternalAssignment>> destinationToAssignmentsMap = new SelectorMapImpl<>();
     private final SelectorMap<List<TargetSelector>> originToDestinationSelectorsMap = new SelectorMapImpl<>();
     private final BooleanSelectorMap originSelectors = new BooleanSelectorMap();
 
@@ -122,6 +122,11 @@ final class AssignmentSelectorMap {
         return value.orElse(Collections.emptyList());
     }
 
+    List<InternalAssignment> peekAssignments(final InternalNode node) {
+        final Optional<List<InternalAssignment>> value = destinationToAssignmentsMap.peekValue(node);
+        return value.orElse(Collections.emptyList());
+    }
+
     /**
      * Contains origin selectors.
      *
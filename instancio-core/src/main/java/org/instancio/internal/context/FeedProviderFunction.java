@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.context;
+
+import org.instancio.feed.Feed;
+import org.instancio.feed.FeedProvider;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.feed.InternalFeedContext;
+import org.instancio.internal.feed.InternalFeedProxy;
+
+import java.util.function.Function;
+
+/**
+ * Creates a new feed from a {@link FeedProvider} each time a context is built.
+ * Unlike feed instances supplied by the user, feeds created by this function
+ * are owned by the context and are closed once the context is no longer used.
+ */
+final class FeedProviderFunction implements Function<GeneratorContext, Feed> {
+
+    private final FeedProvider provider;
+
+    FeedProviderFunction(final FeedProvider provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public Feed apply(final GeneratorContext generatorContext) {
+        final FeedProvider.FeedBuilderFactory factory = new FeedProvider.FeedBuilderFactory() {};
+        final InternalFeedContext.Builder<?> builder =
+                (InternalFeedContext.Builder<?>) provider.get(factory);
+
+        return InternalFeedProxy.forClass(builder
+                .withGeneratorContext(generatorContext)
+                .build());
+    }
+}
@@ -17,13 +17,39 @@ package org.instancio.internal.context;
 
 import org.instancio.TargetSelector;
 import org.instancio.feed.Feed;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.feed.InternalFeedProxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 class FeedSelectorMap {
 
     private final SelectorMap<Feed> selectorMap = new SelectorMapImpl<>();
 
-    void put(final TargetSelector selector, final Feed value) {
-        selectorMap.put(selector, value);
+    /**
+     * Feeds created by this context, as opposed to feed instances
+     * supplied by the user, which may be shared with other contexts.
+     */
+    private final List<Feed> createdFeeds = new ArrayList<>();
+
+    void put(final TargetSelector selector,
+             final Function<GeneratorContext, Feed> feedFn,
+             final GeneratorContext generatorContext) {
+
+        final Feed feed = feedFn.apply(generatorContext);
+        selectorMap.put(selector, feed);
+
+        if (feedFn instanceof FeedProviderFunction) {
+            createdFeeds.add(feed);
+        }
+    }
+
+    void closeCreatedFeeds() {
+        for (Feed feed : createdFeeds) {
+            InternalFeedProxy.asInternalFeed(feed).close();
+        }
     }
 
     SelectorMap<Feed> getSelectorMap() {
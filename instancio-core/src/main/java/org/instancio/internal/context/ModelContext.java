@@ -34,8 +34,6 @@ import org.instancio.internal.Flattener;
 import org.instancio.internal.InternalModel;
 import org.instancio.internal.RandomHelper;
 import org.instancio.internal.assignment.InternalAssignment;
-import org.instancio.internal.feed.InternalFeedContext;
-import org.instancio.internal.feed.InternalFeedProxy;
 import org.instancio.internal.generator.misc.GeneratorDecorator;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.selectors.BlankSelectors;
@@ -45,6 +43,7 @@ import org.instancio.internal.selectors.SetterSelectorHolder;
 import org.instancio.internal.spi.InternalServiceProvider;
 import org.instancio.internal.spi.InternalServiceProviderContext;
 import org.instancio.internal.spi.InternalServiceProviderImpl;
+import org.instancio.internal.spi.ProviderEntry;
 import org.instancio.internal.spi.Providers;
 import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ErrorMessageUtils;
@@ -55,10 +54,12 @@ import org.instancio.internal.util.SystemProperties;
 import org.instancio.internal.util.TypeUtils;
 import org.instancio.internal.util.Verify;
 import org.instancio.settings.AssignmentType;
+import org.instancio.settings.GenerationEngine;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Mode;
 import org.instancio.settings.SettingKey;
 import org.instancio.settings.Settings;
+import org.instancio.spi.InstancioServiceProvider.GenerationMetricsListener;
 import org.instancio.support.Global;
 import org.instancio.support.ThreadLocalSettings;
 import org.slf4j.Logger;
@@ -69,12 +70,14 @@ import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -83,7 +86,7 @@ import static java.util.Collections.unmodifiableMap;
 import static org.instancio.internal.context.ModelContextHelper.buildRootTypeMap;
 import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
 
-@SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.ExcessiveImports", "PMD.ExcessivePublicCount"})
+@SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.ExcessiveImports", "PMD.ExcessivePublicCount", "PMD.GodClass"})
 public final class ModelContext<T> {
     private static final Logger LOG = LoggerFactory.getLogger(ModelContext.class);
 
@@ -102,7 +105,10 @@ public final class ModelContext<T> {
     private final Settings settings;
     private final ModelContextSource contextSource;
     private final SelectorMaps selectorMaps;
+    private final List<GenerationMetricsListener> generationMetricsListeners;
     private final boolean verbose;
+    private final boolean profile;
+    private final Map<Class<?>, Map<InternalNode, ?>> nodeCaches = new ConcurrentHashMap<>();
 
     private ModelContext(final Builder<T> builder) {
         contextSource = builder.getModelContextSource();
@@ -112,11 +118,35 @@ public final class ModelContext<T> {
         seed = builder.seed;
         maxDepth = builder.maxDepth;
         verbose = builder.verbose;
+        profile = builder.profile;
         settings = createSettings(builder);
-        random = RandomHelper.resolveRandom(settings.get(Keys.SEED), builder.seed);
+        random = builder.random == null
+                ? RandomHelper.resolveRandom(settings.get(Keys.SEED), builder.seed)
+                : builder.random;
         selectorMaps = new SelectorMaps(new GeneratorContext(settings, random));
         selectorMaps.initSelectorMaps(contextSource);
         providers = new Providers(new InternalServiceProviderContext(settings, random));
+        generationMetricsListeners = resolveGenerationMetricsListeners(settings, providers);
+    }
+
+    private static List<GenerationMetricsListener> resolveGenerationMetricsListeners(
+            final Settings settings, final Providers providers) {
+
+        final GenerationMetricsListener settingsListener = settings.get(Keys.GENERATION_METRICS_LISTENER);
+        final List<ProviderEntry<GenerationMetricsListener>> entries = providers.getGenerationMetricsListeners();
+
+        if (settingsListener == null && entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<GenerationMetricsListener> listeners = new ArrayList<>(entries.size() + 1);
+        for (ProviderEntry<GenerationMetricsListener> entry : entries) {
+            listeners.add(entry.getProvider());
+        }
+        if (settingsListener != null) {
+            listeners.add(settingsListener);
+        }
+        return Collections.unmodifiableList(listeners);
     }
 
     private static Settings createSettings(final Builder<?> builder) {
@@ -135,6 +165,12 @@ public final class ModelContext<T> {
             settings.set(Keys.ASSIGNMENT_TYPE, assignmentTypeOverride);
         }
 
+        // Likewise, used for running feature-tests using both engines
+        final GenerationEngine generationEngineOverride = SystemProperties.getGenerationEngine();
+        if (generationEngineOverride != null) {
+            settings.set(Keys.GENERATION_ENGINE, generationEngineOverride);
+        }
+
         LOG.trace("Resolved settings: {}", settings);
 
         final SetterSelectorHolder holder = builder.getSetMethodSelectorHolder();
@@ -154,6 +190,26 @@ public final class ModelContext<T> {
         return providers;
     }
 
+    /**
+     * Returns metrics listeners registered via the service provider
+     * and settings. If empty, metrics should not be collected.
+     *
+     * @return registered listeners, or an empty list if none
+     */
+    public List<GenerationMetricsListener> getGenerationMetricsListeners() {
+        return generationMetricsListeners;
+    }
+
+    /**
+     * Closes feeds that were created by this context, for example,
+     * via {@code applyFeed(selector, FeedProvider)}, to release resources
+     * such as open data sources. Feed instances supplied by the user
+     * are not closed since they may be shared with other contexts.
+     */
+    public void closeFeeds() {
+        selectorMaps.getFeedSelectorMap().closeCreatedFeeds();
+    }
+
     public void reportWarnings() {
         reportUnusedSelectorWarnings();
         reportEmitGeneratorWarnings();
@@ -165,6 +221,19 @@ public final class ModelContext<T> {
         reporter.report();
     }
 
+    /**
+     * Returns {@code true} if any selectors would be reported as unused.
+     * Since selectors are marked as used on lookup, the result
+     * may change as long as objects are being generated.
+     *
+     * @return {@code true} if there are unused selectors, in strict mode
+     */
+    public boolean hasUnusedSelectors() {
+        return settings.get(Keys.MODE) == Mode.STRICT
+                && !selectorMaps.allEmpty()
+                && !new SelectorNodeMatchesCollector(selectorMaps).getUnusedSelectors().isEmpty();
+    }
+
     void reportUnusedSelectorWarnings() {
         if (settings.get(Keys.MODE) == Mode.STRICT && !selectorMaps.allEmpty()) {
             new UnusedSelectorReporter(getMaxDepth(), selectorMaps).report();
@@ -196,6 +265,10 @@ public final class ModelContext<T> {
         return verbose;
     }
 
+    public boolean isProfile() {
+        return profile;
+    }
+
     public Integer getMaxDepth() {
         return defaultIfNull(maxDepth, settings.get(Keys.MAX_DEPTH));
     }
@@ -204,6 +277,21 @@ public final class ModelContext<T> {
         return selectorMaps;
     }
 
+    /**
+     * Returns a cache of per-node values owned by the given class.
+     * The cache lives as long as this context, therefore values
+     * computed for a node are shared by all engines that generate
+     * objects using this context, for example, lazy proxies.
+     *
+     * @param owner the class that populates the cache
+     * @param <V>   the type of cached values
+     * @return a cache keyed by node identity
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Map<InternalNode, V> getNodeCache(final Class<?> owner) {
+        return (Map<InternalNode, V>) nodeCaches.computeIfAbsent(owner, k -> new IdentityHashMap<>());
+    }
+
     public boolean isIgnored(final InternalNode node) {
         return selectorMaps.getIgnoreSelectorMap().isTrue(node);
     }
@@ -258,6 +346,18 @@ public final class ModelContext<T> {
         return selectorMaps.getAssignmentSelectorMap().getAssignments(node);
     }
 
+    /**
+     * Returns assignments for the given node without marking
+     * the matching selector as used. Intended for analysing
+     * the node hierarchy before any objects are generated.
+     *
+     * @param node destination node
+     * @return assignments, or an empty list if none
+     */
+    public List<InternalAssignment> peekAssignments(final InternalNode node) {
+        return selectorMaps.getAssignmentSelectorMap().peekAssignments(node);
+    }
+
     public BooleanSelectorMap getAssignmentOriginSelectorMap() {
         return selectorMaps.getAssignmentSelectorMap().getOriginSelectors();
     }
@@ -310,8 +410,10 @@ public final class ModelContext<T> {
         private Settings settings;
         private Integer maxDepth;
         private Long seed;
+        private Random random;
         private Boolean lenient;
         private boolean verbose;
+        private boolean profile;
         private final SelectorProcessor selectorProcessor;
         private final SetterSelectorHolder setMethodSelectorHolder = new SetterSelectorHolder();
 
@@ -417,15 +519,7 @@ public final class ModelContext<T> {
         }
 
         public Builder<T> applyFeed(final TargetSelector selector, final FeedProvider provider) {
-            return addFeedFunction(selector, generatorCtx -> {
-                final FeedProvider.FeedBuilderFactory factory = new FeedProvider.FeedBuilderFactory() {};
-                final InternalFeedContext.Builder<?> builder =
-                        (InternalFeedContext.Builder<?>) provider.get(factory);
-
-                return InternalFeedProxy.forClass(builder
-                        .withGeneratorContext(generatorCtx)
-                        .build());
-            });
+            return addFeedFunction(selector, new FeedProviderFunction(provider));
         }
 
         private Builder<T> addFeedFunction(
@@ -436,6 +530,20 @@ public final class ModelContext<T> {
             return addSelector(feedMap, selector, feedFn, ApiMethodSelector.APPLY_FEED);
         }
 
+        /**
+         * Processes the given selector without adding it to the context.
+         *
+         * @param selector          to process
+         * @param apiMethodSelector the API method the selector was passed to
+         * @return processed selectors
+         */
+        public List<TargetSelector> processSelector(
+                final TargetSelector selector,
+                final ApiMethodSelector apiMethodSelector) {
+
+            return selectorProcessor.process(selector, apiMethodSelector);
+        }
+
         public Builder<T> withIgnored(final TargetSelector selector) {
             ignoreSet = CollectionUtils.newLinkedHashSetIfNull(ignoreSet);
             ignoreSet.addAll(selectorProcessor.process(selector, ApiMethodSelector.IGNORE));
@@ -517,6 +625,20 @@ public final class ModelContext<T> {
             return this;
         }
 
+        /**
+         * Sets the random instance to use, overriding the seed.
+         * This allows a context derived via {@link ModelContext#toBuilder()}
+         * to be reseeded after it has been built, by supplying a
+         * random whose state can be replaced.
+         *
+         * @param random the random instance
+         * @return this builder
+         */
+        public Builder<T> withRandom(final Random random) {
+            this.random = random;
+            return this;
+        }
+
         public Builder<T> setBlank(final TargetSelector selector) {
             if (selector instanceof InternalSelector && ((InternalSelector) selector).isRootSelector()) {
                 setBlankTargets(); // special case for root selector (no scopes)
@@ -552,6 +674,11 @@ public final class ModelContext<T> {
             return this;
         }
 
+        public Builder<T> profile() {
+            this.profile = true;
+            return this;
+        }
+
         public Builder<T> useModelAsTypeArgument(final ModelContext<?> otherContext) {
             seed = otherContext.seed;
             withTypeParametersList = Collections.singletonList(otherContext.getRootType());
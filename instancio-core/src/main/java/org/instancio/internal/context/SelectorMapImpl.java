@@ -117,6 +117,22 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
 
     @Override
     public Optional<V> getValue(final InternalNode node) {
+        return getValue(node, true);
+    }
+
+    /**
+     * Same as {@link #getValue(InternalNode)}, except the matching
+     * selector is not marked as used. This allows inspecting the map
+     * before generation without affecting unused selector reporting.
+     *
+     * @param node to look up
+     * @return the value, or an empty result if there is no match
+     */
+    Optional<V> peekValue(final InternalNode node) {
+        return getValue(node, false);
+    }
+
+    private Optional<V> getValue(final InternalNode node, final boolean markUsed) {
         if (isEmpty) {
             return Optional.empty();
         }
@@ -124,16 +140,18 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
 
         if (!withParent.isEmpty()) {
             final SelectorImpl selector = withParent.get(0);
-            markUsed(selector);
+            if (markUsed) {
+                markUsed(selector);
+            }
             return Optional.of(this.selectors.get(selector));
         }
 
-        return getPredicateSelectorMatch(node);
+        return getPredicateSelectorMatch(node, markUsed);
     }
 
-    private Optional<V> getPredicateSelectorMatch(final InternalNode node) {
+    private Optional<V> getPredicateSelectorMatch(final InternalNode node, final boolean markUsed) {
         for (PredicateSelectorEntry<V> entry : predicateSelectors) {
-            if (isPredicateMatch(node, entry)) {
+            if (isPredicateMatch(node, entry, markUsed)) {
                 return Optional.of(entry.value);
             }
         }
@@ -154,7 +172,7 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         }
 
         for (PredicateSelectorEntry<V> entry : predicateSelectors) {
-            if (isPredicateMatch(node, entry)) {
+            if (isPredicateMatch(node, entry, true)) {
                 values.add(entry.value);
             }
         }
@@ -196,7 +214,7 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         final Set<TargetSelector> results = new HashSet<>(selectorsWithParent);
 
         for (PredicateSelectorEntry<V> entry : predicateSelectors) {
-            if (isPredicateMatch(node, entry)) {
+            if (isPredicateMatch(node, entry, true)) {
                 results.add(entry.predicateSelector);
             }
         }
@@ -204,14 +222,18 @@ final class SelectorMapImpl<V> implements SelectorMap<V> {
         return results;
     }
 
-    private boolean isPredicateMatch(final InternalNode targetNode, final PredicateSelectorEntry<?> entry) {
+    private boolean isPredicateMatch(
+            final InternalNode targetNode,
+            final PredicateSelectorEntry<?> entry,
+            final boolean markUsed) {
+
         final boolean isMatch = entry.predicateSelector.getNodePredicate().test(targetNode)
                 // Predicate selector depth is captured as a Predicate<Integer>
                 // and it is checked by getNodePredicate() above.
                 // Therefore, passing null below
                 && selectorScopesMatchNodeHierarchy(/*depth = */ null, entry.predicateSelector.getScopes(), targetNode);
 
-        if (isMatch) {
+        if (isMatch && markUsed) {
             unusedSelectors.remove(entry.predicateSelector);
         }
 
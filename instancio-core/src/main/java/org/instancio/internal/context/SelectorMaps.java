@@ -58,8 +58,7 @@ public final class SelectorMaps {
         }
 
         for (Map.Entry<TargetSelector, Function<GeneratorContext, Feed>> entry : contextSource.getFeedMap().entrySet()) {
-            final Feed feed = entry.getValue().apply(generatorContext);
-            feedSelectorMap.put(entry.getKey(), feed);
+            feedSelectorMap.put(entry.getKey(), entry.getValue(), generatorContext);
         }
 
         setModelSelectorMap.putAll(contextSource.getSetModelMap());
@@ -85,8 +84,7 @@ public final class SelectorMaps {
 
         for (Map.Entry<TargetSelector, Function<GeneratorContext, Feed>> entry : src.getFeedMap().entrySet()) {
             final TargetSelector resolvedSelector = setModelSelectorHelper.applyModelSelectorScopes(modelTarget, entry.getKey());
-            final Feed feed = entry.getValue().apply(generatorContext);
-            feedSelectorMap.put(resolvedSelector, feed);
+            feedSelectorMap.put(resolvedSelector, entry.getValue(), generatorContext);
         }
 
         for (Map.Entry<TargetSelector, Generator<?>> entry : src.getGeneratorMap().entrySet()) {
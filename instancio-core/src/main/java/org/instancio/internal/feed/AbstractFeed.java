@@ -19,31 +19,25 @@ import org.instancio.Random;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.feed.FeedSpec;
 import org.instancio.feed.FeedSpecAnnotations;
-import org.instancio.feed.FeedSpecAnnotations.TemplateSpec;
-import org.instancio.feed.FeedSpecAnnotations.WithPostProcessor;
-import org.instancio.feed.FeedSpecAnnotations.WithStringMapper;
 import org.instancio.feed.FunctionProvider;
 import org.instancio.feed.PostProcessor;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.misc.SupplierBackedGenerator;
-import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.PropertyBitSet;
 import org.instancio.internal.util.ReflectionUtils;
-import org.instancio.internal.util.StringUtils;
 import org.instancio.settings.FeedDataAccess;
-import org.instancio.settings.FeedDataEndAction;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -60,27 +54,53 @@ import static org.instancio.internal.util.StringConverters.getConverter;
 public abstract class AbstractFeed<R> implements InternalFeed {
     private static final boolean UPDATE_BITSET = true;
 
-    private final DataStore<R> dataStore;
+    private final DataSchema dataSchema;
+    private final DataCursor<R> dataCursor;
     private final InternalFeedContext<?> feedContext;
-    private final String tagValue;
     private final GeneratorContext generatorContext;
-    private final PropertyBitSet propertyBitSet;
+    private final Supplier<FeedState<R>> feedState;
     private final Class<?> feedClass;
-    private final AtomicInteger sequentialAccessIndex = new AtomicInteger(-1);
-    private R currentEntry;
+    private final Map<String, SpecMethod> componentSpecMethods = new ConcurrentHashMap<>();
+    private final Map<Method, Supplier<?>> specMethodSuppliers = new ConcurrentHashMap<>();
 
     protected AbstractFeed(
             final InternalFeedContext<?> feedContext,
             final DataStore<R> dataStore) {
 
-        this.dataStore = dataStore;
+        this(feedContext, dataStore, createDataCursor(feedContext, dataStore));
+    }
+
+    protected AbstractFeed(
+            final InternalFeedContext<?> feedContext,
+            final DataSchema dataSchema,
+            final DataCursor<R> dataCursor) {
+
+        this.dataSchema = dataSchema;
+        this.dataCursor = dataCursor;
         this.feedContext = feedContext;
         this.generatorContext = feedContext.getGeneratorContext();
-        this.propertyBitSet = new PropertyBitSet();
-        this.tagValue = feedContext.getTagValue();
+        this.feedState = createFeedState(feedContext);
         this.feedClass = feedContext.getFeedClass();
     }
 
+    private static <R> Supplier<FeedState<R>> createFeedState(final InternalFeedContext<?> feedContext) {
+        if (feedContext.isThreadSafe()) {
+            final ThreadLocal<FeedState<R>> threadState = ThreadLocal.withInitial(FeedState::new);
+            return threadState::get;
+        }
+        final FeedState<R> state = new FeedState<>();
+        return () -> state;
+    }
+
+    private static <R> DataCursor<R> createDataCursor(
+            final InternalFeedContext<?> feedContext,
+            final DataStore<R> dataStore) {
+
+        return feedContext.getFeedDataAccess() == FeedDataAccess.RANDOM
+                ? new RandomDataCursor<>(feedContext, dataStore)
+                : new SequentialDataCursor<>(feedContext, dataStore);
+    }
+
     /**
      * Returns a value associated with the given property key from the data store.
      *
@@ -96,14 +116,33 @@ public abstract class AbstractFeed<R> implements InternalFeed {
         return feedContext;
     }
 
+    @Override
+    public final void close() {
+        dataCursor.close();
+    }
+
     @Override
     public final Set<String> getDataProperties() {
-        return dataStore.getPropertyKeys();
+        return dataSchema.getPropertyKeys();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public final <T> FeedSpec<T> createSpec(final SpecMethod specMethod, final Object[] args) {
-        return createSpecInternal(specMethod, args, UPDATE_BITSET);
+        if (args != null) {
+            return createSpecInternal(specMethod, args, UPDATE_BITSET);
+        }
+
+        // Suppliers of spec methods without arguments depend only on the method,
+        // so they are resolved once. A new spec is returned on each invocation
+        // since specs are mutable, e.g. via nullable()
+        final Supplier<T> supplier = (Supplier<T>) specMethodSuppliers.computeIfAbsent(
+                specMethod.getMethod(), m -> withPostProcessors(
+                        getValueSupplier(specMethod, null, UPDATE_BITSET),
+                        specMethod.getPostProcessors()));
+
+        return new SupplierBackedGenerator<>(getGeneratorContext(), supplier)
+                .nullable(specMethod.hasNullableAnnotation());
     }
 
     @Override
@@ -114,7 +153,7 @@ public abstract class AbstractFeed<R> implements InternalFeed {
     }
 
     protected final R getCurrentEntry() {
-        return currentEntry;
+        return feedState.get().currentEntry;
     }
 
     protected final GeneratorContext getGeneratorContext() {
@@ -125,17 +164,17 @@ public abstract class AbstractFeed<R> implements InternalFeed {
         return feedClass;
     }
 
-    protected final DataStore<R> getDataStore() {
-        return dataStore;
+    protected final DataSchema getDataSchema() {
+        return dataSchema;
     }
 
     protected final int getPropertyIndex(final String propertyKey) {
-        final int index = getDataStore().indexOf(propertyKey);
+        final int index = getDataSchema().indexOf(propertyKey);
         if (index != -1) {
             return index;
         }
         throw Fail.withUsageError(feedWithInvalidMethodName(
-                getFeedClass(), propertyKey, getDataStore().getPropertyKeys()));
+                getFeedClass(), propertyKey, getDataSchema().getPropertyKeys()));
     }
 
     private <T> FeedSpec<T> createSpecInternal(
@@ -144,7 +183,7 @@ public abstract class AbstractFeed<R> implements InternalFeed {
             final boolean updateBitSet) {
 
         final Supplier<T> resultSupplier = getValueSupplier(specMethod, args, updateBitSet);
-        final List<PostProcessor<T>> postProcessors = getPostProcessors(specMethod);
+        final List<PostProcessor<T>> postProcessors = specMethod.getPostProcessors();
         return createSpecWithPostProcessors(resultSupplier, postProcessors, specMethod.hasNullableAnnotation());
     }
 
@@ -153,16 +192,23 @@ public abstract class AbstractFeed<R> implements InternalFeed {
             final List<PostProcessor<T>> postProcessors,
             final boolean isNullable) {
 
-        final Supplier<T> supplier = postProcessors.isEmpty() ? resultSupplier : () -> {
+        final Supplier<T> supplier = withPostProcessors(resultSupplier, postProcessors);
+
+        return new SupplierBackedGenerator<>(getGeneratorContext(), supplier)
+                .nullable(isNullable);
+    }
+
+    private <T> Supplier<T> withPostProcessors(
+            final Supplier<T> resultSupplier,
+            final List<PostProcessor<T>> postProcessors) {
+
+        return postProcessors.isEmpty() ? resultSupplier : () -> {
             T processed = resultSupplier.get();
             for (PostProcessor<T> p : postProcessors) {
                 processed = p.process(processed, getGeneratorContext().random());
             }
             return processed;
         };
-
-        return new SupplierBackedGenerator<>(getGeneratorContext(), supplier)
-                .nullable(isNullable);
     }
 
     private <T> FeedSpec<T> createFeedSpecInternal(final SpecMethod specMethod) {
@@ -218,7 +264,7 @@ public abstract class AbstractFeed<R> implements InternalFeed {
 
         if (specMethod.getGeneratedSpec() != null) {
             return () -> updateState(key, updateBitSet)
-                    .getGeneratedSpecValue(specMethod.getGeneratedSpec().value());
+                    .getGeneratedSpecValue(specMethod);
         }
         if (specMethod.getFunctionSpec() != null) {
             return () -> updateState(key, updateBitSet)
@@ -226,13 +272,13 @@ public abstract class AbstractFeed<R> implements InternalFeed {
         }
         if (specMethod.getTemplateSpec() != null) {
             return () -> updateState(key, updateBitSet)
-                    .getTemplateSpecValue(specMethod.getTemplateSpec());
+                    .getTemplateSpecValue(specMethod);
         }
 
-        final WithStringMapper withStringMapper = specMethod.getAnnotation(WithStringMapper.class);
+        final Function<String, T> stringMapper = specMethod.getStringMapper();
 
-        final Function<String, T> converter = withStringMapper != null
-                ? (Function<String, T>) ReflectionUtils.newInstance(withStringMapper.value())
+        final Function<String, T> converter = stringMapper != null
+                ? stringMapper
                 : getConverter(specMethod.getTargetType());
 
         return createSupplier(key, converter, updateBitSet);
@@ -257,38 +303,33 @@ public abstract class AbstractFeed<R> implements InternalFeed {
     }
 
     private AbstractFeed<R> updateState(final String propertyName, final boolean updateBitSet) {
-        if (currentEntry == null) {
-            currentEntry = getNext();
+        final FeedState<R> state = feedState.get();
+        if (state.currentEntry == null) {
+            state.currentEntry = dataCursor.next();
         }
         if (updateBitSet) {
-            if (propertyBitSet.get(propertyName)) {
-                propertyBitSet.clear();
-                currentEntry = getNext();
+            if (state.propertyBitSet.get(propertyName)) {
+                state.propertyBitSet.clear();
+                state.currentEntry = dataCursor.next();
             }
-            propertyBitSet.set(propertyName);
+            state.propertyBitSet.set(propertyName);
         }
         return this;
     }
 
-    private static <T> List<PostProcessor<T>> getPostProcessors(final SpecMethod specMethod) {
-        final WithPostProcessor withPostProcessor = specMethod.getAnnotation(WithPostProcessor.class);
-
-        if (withPostProcessor == null) {
-            return Collections.emptyList();
-        }
-
-        final Class<?>[] processorClasses = withPostProcessor.value();
-        final List<PostProcessor<T>> list = new ArrayList<>(processorClasses.length);
-        for (Class<?> c : processorClasses) {
-            list.add((PostProcessor<T>) ReflectionUtils.newInstance(c));
-        }
-        return list;
+    private <T> T getGeneratedSpecValue(final SpecMethod specMethod) {
+        final Generator<T> generator = specMethod.getGenerator();
+        return generator.generate(getGeneratorContext().random());
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T getGeneratedSpecValue(final Class<?> generatorClass) {
-        final Generator<T> generator = (Generator<T>) ReflectionUtils.newInstance(generatorClass);
-        return generator.generate(getGeneratorContext().random());
+    /**
+     * Returns the spec method with the given name that is referenced
+     * by a template or function spec. Spec methods are resolved
+     * once per feed, rather than for each generated value.
+     */
+    private SpecMethod getComponentSpecMethod(final String name) {
+        return componentSpecMethods.computeIfAbsent(name,
+                k -> new SpecMethod(getZeroArgMethod(feedClass, k)));
     }
 
     private <T> T getFunctionSpecValue(
@@ -309,11 +350,10 @@ public abstract class AbstractFeed<R> implements InternalFeed {
 
         for (int i = 0; i < componentProperties.length; i++) {
             final String component = componentProperties[i];
-            final Method method = getZeroArgMethod(feedClass, component);
-            if (method != null) {
-                final SpecMethod specMethod = new SpecMethod(method);
-                args[i] = createFeedSpecInternal(specMethod).get();
-            } else if (dataStore.contains(component)) {
+            if (componentSpecMethods.containsKey(component)
+                    || getZeroArgMethod(feedClass, component) != null) {
+                args[i] = createFeedSpecInternal(getComponentSpecMethod(component)).get();
+            } else if (dataSchema.contains(component)) {
                 args[i] = createSpec(component, params[i]).get();
             } else {
                 throw Fail.withUsageError(feedComponentMethodNotFound(
@@ -358,56 +398,27 @@ public abstract class AbstractFeed<R> implements InternalFeed {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T getTemplateSpecValue(final TemplateSpec templateSpec) {
-        String template = templateSpec.value();
-        final List<String> components = StringUtils.getTemplateKeys(template);
-
-        for (String component : components) {
-            final String value;
-            if (dataStore.contains(component)) {
-                value = getValue(component);
+    private <T> T getTemplateSpecValue(final SpecMethod specMethod) {
+        final SpecTemplate template = specMethod.getCompiledTemplate();
+        final String[] values = new String[template.getKeyCount()];
+
+        for (int i = 0; i < values.length; i++) {
+            final String component = template.getKey(i);
+            if (dataSchema.contains(component)) {
+                values[i] = getValue(component);
             } else {
-                final Method method = getZeroArgMethod(feedClass, component);
-                value = (String) createFeedSpecInternal(new SpecMethod(method)).get();
+                values[i] = (String) createFeedSpecInternal(getComponentSpecMethod(component)).get();
             }
-            final String replacement = value == null ? "" : value;
-            template = template.replace("${" + component + "}", replacement);
-        }
-        return (T) template;
-    }
-
-    private R getNext() {
-        if (feedContext.getFeedDataAccess() == FeedDataAccess.RANDOM) {
-            final String tag = tagValue == null
-                    ? generatorContext.random().oneOf(dataStore.getTagKeys())
-                    : tagValue;
-
-            final List<R> tagData = dataStore.get(tag);
-            return generatorContext.random().oneOf(tagData);
-        }
-
-        // sequential data access
-        if (tagValue == null) {
-            final int nextIndex = nextIndex(dataStore.size());
-            return dataStore.get(nextIndex);
         }
-        final List<R> tagData = dataStore.get(tagValue);
-        final int next = nextIndex(tagData.size());
-        return tagData.get(next);
+        return (T) template.render(values);
     }
 
-    private int nextIndex(final int dataSize) {
-        sequentialAccessIndex.compareAndSet(-1, 0);
-        int nextIndex = sequentialAccessIndex.getAndIncrement();
-
-        if (nextIndex == dataSize) {
-            if (feedContext.getFeedDataEndStrategy() == FeedDataEndAction.FAIL) {
-                throw Fail.withUsageError(ErrorMessageUtils.feedDataEnd(feedClass, generatorContext.getSettings()));
-            } else {
-                sequentialAccessIndex.set(0);
-                nextIndex = sequentialAccessIndex.getAndIncrement();
-            }
-        }
-        return nextIndex;
+    /**
+     * The current record and the properties that have been read from it.
+     * If the feed is thread-safe, each thread has its own instance.
+     */
+    private static final class FeedState<R> {
+        private final PropertyBitSet propertyBitSet = new PropertyBitSet();
+        private R currentEntry;
     }
 }
@@ -17,54 +17,134 @@ package org.instancio.internal.feed;
 
 import org.instancio.exception.InstancioTerminatingException;
 import org.instancio.feed.DataSource;
+import org.instancio.feed.FeedCacheStatistics;
+import org.instancio.internal.feed.datasource.ByteCountingDataSource;
 import org.instancio.internal.feed.datasource.CacheableDataSource;
+import org.instancio.internal.feed.datasource.FileDataSource;
 import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.JfrEvents;
 import org.instancio.internal.util.Sonar;
+import org.instancio.settings.Keys;
+import org.instancio.support.Global;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static org.instancio.internal.util.ErrorMessageUtils.feedDataSourceIoErrorMessage;
 
 public class CachingDataLoader {
 
-    private static final Map<Object, DataStore<?>> CACHE = new ConcurrentHashMap<>();
+    private static final int CACHE_MAX_SIZE = Global.getPropertiesFileSettings().get(Keys.FEED_CACHE_MAX_SIZE);
+    private static final DataStoreCache CACHE = new DataStoreCache(CACHE_MAX_SIZE);
 
+    public static FeedCacheStatistics getStatistics() {
+        return CACHE.getStatistics();
+    }
+
+    /**
+     * Loads data using the given data loader, which must produce rows
+     * of string values with the header as the first row. If snapshots
+     * are enabled, parsed rows are also stored as a snapshot.
+     *
+     * @param feedContext             the feed context
+     * @param dataLoader              for parsing the data source
+     * @param formatKey               identifies format options that affect parsing
+     * @param tagKeyToDataStoreMapper creates a data store from parsed rows
+     * @return the data store
+     * @see Keys#FEED_SNAPSHOT_DIRECTORY
+     */
     @NotNull
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public DataStore<?> loadData(
             final InternalFeedContext<?> feedContext,
             final DataLoader<?> dataLoader,
+            final String formatKey,
             final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper) {
 
-        final DataSource dataSource = feedContext.getDataSource();
         final String tagKey = feedContext.getTagKey();
+        final String snapshotDirectory = feedContext.getGeneratorContext().getSettings()
+                .get(Keys.FEED_SNAPSHOT_DIRECTORY);
 
-        final Object cacheKey = dataSource instanceof CacheableDataSource
-                ? ((CacheableDataSource) dataSource).getKey()
-                : null;
-
-        if (cacheKey == null) {
-            final List<?> data = tryLoad(dataLoader, dataSource);
-            return tagKeyToDataStoreMapper.apply(tagKey, data);
+        if (snapshotDirectory != null && feedContext.getDataSource() instanceof CacheableDataSource) {
+            return loadData(feedContext, new SnapshotDataStoreLoader(
+                    feedContext, dataLoader, formatKey, tagKeyToDataStoreMapper, Paths.get(snapshotDirectory)));
         }
 
-        return CACHE.computeIfAbsent(cacheKey, mapKey -> {
-            final List<?> data = tryLoad(dataLoader, dataSource);
+        return loadData(feedContext, dataSource -> {
+            final List<?> data = (List<?>) dataLoader.load(dataSource);
             return tagKeyToDataStoreMapper.apply(tagKey, data);
         });
     }
 
-    private static List<?> tryLoad(final DataLoader<?> dataLoader, final DataSource dataSource) {
+    @NotNull
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    public DataStore<?> loadData(
+            final InternalFeedContext<?> feedContext,
+            final DataStoreLoader dataStoreLoader) {
+
+        final DataSource dataSource = feedContext.getDataSource();
+        final int maxSize = feedContext.getGeneratorContext().getSettings().get(Keys.FEED_CACHE_MAX_SIZE);
+
+        // a feed's max size can only disable caching; the cache
+        // is bounded by the value from instancio.properties
+        if (!(dataSource instanceof CacheableDataSource) || maxSize == 0 || CACHE_MAX_SIZE == 0) {
+            return tryLoad(dataStoreLoader, dataSource);
+        }
+
+        // the same source may be stored differently depending on the settings
+        final Object cacheKey = Arrays.asList(
+                ((CacheableDataSource) dataSource).getKey(),
+                feedContext.getFeedDataStorage());
+
+        return CACHE.get(cacheKey, () -> tryLoad(dataStoreLoader, dataSource));
+    }
+
+    private static DataStore<?> tryLoad(final DataStoreLoader dataStoreLoader, final DataSource dataSource) {
+        final Object event = JfrEvents.beginFeedLoad();
+        if (event == null) {
+            return load(dataStoreLoader, dataSource);
+        }
+
+        // Files may be read without an InputStream (e.g. memory-mapped),
+        // therefore the file size is reported instead of bytes read
+        final Path path = FileDataSource.pathOf(dataSource);
+        if (path != null) {
+            final DataStore<?> dataStore = load(dataStoreLoader, dataSource);
+            JfrEvents.commitFeedLoad(event, dataSource, dataStore.size(), path.toFile().length());
+            return dataStore;
+        }
+
+        final ByteCountingDataSource counter = new ByteCountingDataSource(dataSource);
+        final DataSource countingSource = dataSource instanceof CacheableDataSource
+                ? new CacheableDataSource(counter, ((CacheableDataSource) dataSource).getKey())
+                : counter;
+
+        final DataStore<?> dataStore = load(dataStoreLoader, countingSource);
+        JfrEvents.commitFeedLoad(event, dataSource, dataStore.size(), counter.getBytesRead());
+        return dataStore;
+    }
+
+    private static DataStore<?> load(final DataStoreLoader dataStoreLoader, final DataSource dataSource) {
         try {
-            return (List<?>) dataLoader.load(dataSource);
+            return dataStoreLoader.load(dataSource);
         } catch (InstancioTerminatingException ex) {
             throw ex;
         } catch (Exception ex) {
             throw Fail.withUsageError(feedDataSourceIoErrorMessage(dataSource, ex), ex);
         }
     }
+
+    /**
+     * Creates a data store from the given data source.
+     */
+    @FunctionalInterface
+    public interface DataStoreLoader {
+
+        @SuppressWarnings(Sonar.DEFINE_DEDICATED_EXCEPTION)
+        DataStore<?> load(DataSource dataSource) throws Exception; //NOPMD
+    }
 }
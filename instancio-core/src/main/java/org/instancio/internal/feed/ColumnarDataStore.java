@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.internal.ApiValidator;
+import org.instancio.settings.FeedDataStorage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Stores data column by column using dictionary encoding.
+ *
+ * <p>Each distinct value of a column is stored once in the column's
+ * dictionary, and each cell is stored as an {@code int} id referring
+ * to a dictionary entry. This significantly reduces memory usage for
+ * columns with a small number of distinct values. Rows are assembled
+ * from the columns when they are requested.
+ *
+ * <p>The data is accepted in the same format as {@link TabularDataStore},
+ * with the first row containing the property names.
+ *
+ * @see FeedDataStorage#COLUMNAR
+ */
+public final class ColumnarDataStore implements DataStore<String[]> {
+
+    private final String tagKey;
+    private final Map<String, Integer> fieldIndexMap;
+    private final int size;
+
+    /**
+     * Dictionary ids of each column, indexed by row.
+     */
+    private final int[][] columns;
+
+    /**
+     * Distinct values of each column, indexed by dictionary id.
+     */
+    private final String[][] dictionaries;
+
+    /**
+     * Row indices grouped by tag value. Rows are decoded only when accessed.
+     */
+    private final Map<String, List<String[]>> groupedByTag;
+    private final List<String> tagKeys;
+
+    public ColumnarDataStore(final String tagKey, final List<String[]> data) {
+        ApiValidator.isFalse(data.isEmpty(), "empty data source");
+
+        final String[] headers = data.get(0);
+        this.tagKey = tagKey;
+        this.fieldIndexMap = TabularDataStore.createFieldIndexMap(headers);
+        this.size = data.size() - 1;
+        this.columns = new int[headers.length][];
+        this.dictionaries = new String[headers.length][];
+
+        for (int col = 0; col < headers.length; col++) {
+            encodeColumn(data, col);
+        }
+
+        final int tagIndex = fieldIndexMap.getOrDefault(tagKey, -1);
+        this.groupedByTag = IndexedRecordList.groupByTag(this::get, size,
+                tagIndex == -1 ? null : row -> dictionaries[tagIndex][columns[tagIndex][row]]);
+        this.tagKeys = unmodifiableList(new ArrayList<>(groupedByTag.keySet()));
+    }
+
+    private void encodeColumn(final List<String[]> data, final int col) {
+        final Map<String, Integer> ids = new HashMap<>();
+        final List<String> values = new ArrayList<>();
+        final int[] column = new int[size];
+
+        // start from 1 to skip column headers
+        for (int row = 1; row < data.size(); row++) {
+            final String[] record = data.get(row);
+            final String value = col < record.length ? record[col] : null;
+
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            column[row - 1] = id;
+        }
+
+        columns[col] = column;
+        dictionaries[col] = values.toArray(new String[0]);
+    }
+
+    @Override
+    public List<String[]> get(final String tagValue) {
+        final List<String[]> tagData = groupedByTag.get(tagValue);
+        ApiValidator.notNull(tagData, () -> String.format(
+                "no data found with tag value: '%s' (tagKey is set to: '%s')", tagValue, tagKey));
+        return tagData;
+    }
+
+    @Override
+    public String[] get(final int index) {
+        final String[] row = new String[columns.length];
+        for (int col = 0; col < columns.length; col++) {
+            row[col] = dictionaries[col][columns[col][index]];
+        }
+        return row;
+    }
+
+    @Override
+    public List<String> getTagKeys() {
+        return tagKeys;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<String> getPropertyKeys() {
+        return fieldIndexMap.keySet();
+    }
+
+    @Override
+    public int indexOf(final String propertyName) {
+        return fieldIndexMap.getOrDefault(propertyName, -1);
+    }
+
+    @Override
+    public boolean contains(final String propertyName) {
+        return fieldIndexMap.containsKey(propertyName);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.documentation.InternalApi;
+import org.instancio.settings.FeedDataAccess;
+
+/**
+ * Supplies data records to a feed in the order
+ * defined by the feed's {@link FeedDataAccess}.
+ *
+ * @param <R> the type of data record
+ */
+@InternalApi
+public interface DataCursor<R> {
+
+    /**
+     * Returns the next data record.
+     *
+     * @return next record, never {@code null}
+     */
+    R next();
+
+    /**
+     * Releases resources held by this cursor, if any.
+     * The cursor can still be used after it has been closed.
+     */
+    default void close() {
+        // no-op by default
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.documentation.InternalApi;
+
+import java.util.Set;
+
+/**
+ * Describes the properties contained in feed data,
+ * for example, column headers of a CSV file.
+ */
+@InternalApi
+public interface DataSchema {
+
+    Set<String> getPropertyKeys();
+
+    /**
+     * Returns index of the property, or {@code -1} if the data
+     * does not contain the property (e.g. for function spec properties).
+     */
+    int indexOf(String propertyName);
+
+    boolean contains(String propertyName);
+}
@@ -19,10 +19,9 @@ import org.instancio.documentation.InternalApi;
 import org.instancio.settings.Keys;
 
 import java.util.List;
-import java.util.Set;
 
 @InternalApi
-public interface DataStore<T> {
+public interface DataStore<T> extends DataSchema {
 
     /**
      * Returns all data records with the specified {@code tagValue}.
@@ -36,17 +35,7 @@ public interface DataStore<T> {
 
     T get(int index);
 
-    Set<String> getPropertyKeys();
-
     List<String> getTagKeys();
 
-    /**
-     * Returns index of the property, or {@code null} if the data
-     * does not contain the property (e.g. for function spec properties).
-     */
-    int indexOf(String propertyName);
-
-    boolean contains(String propertyName);
-
     int size();
 }
\ No newline at end of file
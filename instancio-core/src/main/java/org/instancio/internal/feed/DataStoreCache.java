@@ -0,0 +1,221 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.feed.FeedCacheStatistics;
+import org.instancio.internal.util.Sonar;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of data stores that evicts the least
+ * recently used entry once the maximum size is exceeded.
+ *
+ * <p>Each data store is loaded at most once while it remains
+ * in the cache. If multiple threads request the same key
+ * concurrently, one thread loads the data while the others
+ * wait for the result. Loading is done outside the lock,
+ * so that data stores with different keys can be loaded
+ * in parallel. If loading fails, the entry is removed
+ * and the next request will attempt to load the data again.
+ */
+final class DataStoreCache {
+
+    private final Lock lock = new ReentrantLock();
+    private final Map<Object, CompletableFuture<DataStore<?>>> map =
+            new LinkedHashMap<>(16, 0.75f, /* accessOrder = */ true);
+
+    private final int maxSize;
+    private long hitCount;
+    private long missCount;
+    private long loadCount;
+    private long evictionCount;
+    private long totalLoadTimeNanos;
+
+    DataStoreCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the data store associated with the given key,
+     * loading it using the given loader if it is not cached.
+     *
+     * @param key    the cache key
+     * @param loader loads the data store on a cache miss
+     * @return the cached or loaded data store
+     */
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    DataStore<?> get(final Object key, final Supplier<DataStore<?>> loader) {
+        CompletableFuture<DataStore<?>> future;
+        boolean isMiss = false;
+
+        lock.lock();
+        try {
+            future = map.get(key);
+            if (future == null) {
+                isMiss = true;
+                missCount++;
+                future = new CompletableFuture<>();
+                map.put(key, future);
+                evictLeastRecentlyUsed();
+            } else {
+                hitCount++;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // If another thread is loading the data, wait for the result
+        return isMiss ? load(key, future, loader) : join(future);
+    }
+
+    private DataStore<?> load(
+            final Object key,
+            final CompletableFuture<DataStore<?>> future,
+            final Supplier<DataStore<?>> loader) {
+
+        final long start = System.nanoTime();
+        final DataStore<?> dataStore;
+        try {
+            dataStore = loader.get();
+        } catch (RuntimeException | Error ex) {
+            // waiting threads will receive the same exception
+            removeFailed(key, future);
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+
+        lock.lock();
+        try {
+            loadCount++;
+            totalLoadTimeNanos += System.nanoTime() - start;
+        } finally {
+            lock.unlock();
+        }
+        future.complete(dataStore);
+        return dataStore;
+    }
+
+    private void removeFailed(final Object key, final CompletableFuture<DataStore<?>> future) {
+        lock.lock();
+        try {
+            map.remove(key, future);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final Iterator<CompletableFuture<DataStore<?>>> iterator = map.values().iterator();
+        while (map.size() > maxSize) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private static DataStore<?> join(final CompletableFuture<DataStore<?>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            // rethrow the loader's exception, e.g. an error reading the data source
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    FeedCacheStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new Statistics(hitCount, missCount, loadCount, evictionCount,
+                    Duration.ofNanos(totalLoadTimeNanos), map.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Statistics implements FeedCacheStatistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadCount;
+        private final long evictionCount;
+        private final Duration totalLoadTime;
+        private final int size;
+
+        @SuppressWarnings("PMD.ExcessiveParameterList")
+        Statistics(final long hitCount,
+                   final long missCount,
+                   final long loadCount,
+                   final long evictionCount,
+                   final Duration totalLoadTime,
+                   final int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadCount = loadCount;
+            this.evictionCount = evictionCount;
+            this.totalLoadTime = totalLoadTime;
+            this.size = size;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        @Override
+        public Duration getTotalLoadTime() {
+            return totalLoadTime;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("FeedCacheStatistics[hits=%s, misses=%s, loads=%s, evictions=%s, totalLoadTime=%s, size=%s]",
+                    hitCount, missCount, loadCount, evictionCount, totalLoadTime, size);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * A read-only list of records backed by an array of record indices.
+ * Records are not held by the list, but are obtained from the
+ * given lookup function when accessed.
+ *
+ * @param <R> the type of data record
+ */
+public final class IndexedRecordList<R> extends AbstractList<R> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final IntFunction<R> recordLookup;
+    private final int[] indices;
+    private final int size;
+
+    private IndexedRecordList(final IntFunction<R> recordLookup, final int[] indices, final int size) {
+        this.recordLookup = recordLookup;
+        this.indices = indices;
+        this.size = size;
+    }
+
+    /**
+     * Creates a list containing records from zero to {@code size - 1}.
+     *
+     * @param recordLookup returns a record given its index
+     * @param size         the number of records
+     * @param <R>          the type of data record
+     * @return a list of all records
+     */
+    public static <R> List<R> range(final IntFunction<R> recordLookup, final int size) {
+        return new IndexedRecordList<>(recordLookup, null, size);
+    }
+
+    /**
+     * Groups record indices from zero to {@code size - 1} by tag value.
+     * Only the indices are retained; records are obtained from the
+     * {@code recordLookup} function when the lists are accessed.
+     *
+     * <p>If {@code tagLookup} is {@code null}, all records are
+     * mapped to the {@code null} tag.
+     *
+     * @param recordLookup returns a record given its index
+     * @param size         the number of records
+     * @param tagLookup    returns the tag value of a record given its index,
+     *                     or {@code null} if the data is not tagged
+     * @param <R>          the type of data record
+     * @return records grouped by tag value, or an empty map if size is zero
+     */
+    public static <R> Map<String, List<R>> groupByTag(
+            final IntFunction<R> recordLookup,
+            final int size,
+            final IntFunction<String> tagLookup) {
+
+        final Map<String, List<R>> map = new HashMap<>();
+        if (size == 0) {
+            return map;
+        }
+        if (tagLookup == null) {
+            map.put(null, range(recordLookup, size));
+            return map;
+        }
+
+        final Map<String, IndexBuffer> indicesByTag = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            indicesByTag.computeIfAbsent(tagLookup.apply(i), k -> new IndexBuffer()).add(i);
+        }
+        indicesByTag.forEach((tag, buffer) -> map.put(tag,
+                new IndexedRecordList<>(recordLookup, buffer.toArray(), buffer.size)));
+        return map;
+    }
+
+    @Override
+    public R get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return recordLookup.apply(indices == null ? index : indices[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static final class IndexBuffer {
+        private int[] indices = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void add(final int index) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+
+        int[] toArray() {
+            return indices.length == size ? indices : Arrays.copyOf(indices, size);
+        }
+    }
+}
@@ -57,4 +57,10 @@ public interface InternalFeed {
      */
     <T> FeedSpec<T> createSpec(String propertyName, Class<T> targetType);
 
+    /**
+     * Releases resources held by the feed, such as an open data source.
+     * The feed can still be used after it has been closed.
+     */
+    void close();
+
 }
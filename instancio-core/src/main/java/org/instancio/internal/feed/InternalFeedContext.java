@@ -35,6 +35,7 @@ import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
 import org.instancio.settings.FeedDataAccess;
 import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedDataStorage;
 import org.instancio.settings.FeedFormatType;
 import org.instancio.settings.Keys;
 import org.instancio.settings.SettingKey;
@@ -46,6 +47,7 @@ import org.jetbrains.annotations.Nullable;
 import java.nio.file.Paths;
 import java.util.function.Function;
 
+@SuppressWarnings("PMD.ExcessiveImports")
 public final class InternalFeedContext<F extends Feed> {
 
     private final Class<F> feedClass;
@@ -57,6 +59,8 @@ public final class InternalFeedContext<F extends Feed> {
     private final FeedFormatType feedFormatType;
     private final FeedDataAccess feedDataAccess;
     private final FeedDataEndAction feedDataEndAction;
+    private final FeedDataStorage feedDataStorage;
+    private final boolean threadSafe;
 
     private InternalFeedContext(final Builder<F> builder) {
         this.feedClass = builder.feedClass;
@@ -75,6 +79,8 @@ public final class InternalFeedContext<F extends Feed> {
         this.feedDataEndAction = builder.feedDataEndAction != null
                 ? builder.feedDataEndAction
                 : settings.get(Keys.FEED_DATA_END_ACTION);
+        this.feedDataStorage = settings.get(Keys.FEED_DATA_STORAGE);
+        this.threadSafe = settings.get(Keys.FEED_THREAD_SAFE);
     }
 
     private static FeedFormatType resolveDataFormatType(
@@ -200,6 +206,26 @@ public final class InternalFeedContext<F extends Feed> {
         return feedDataEndAction;
     }
 
+    public FeedDataStorage getFeedDataStorage() {
+        return feedDataStorage;
+    }
+
+    /**
+     * Returns {@code true} if records should be streamed from
+     * the data source instead of being loaded into memory.
+     */
+    public boolean isStreaming() {
+        return feedDataStorage == FeedDataStorage.STREAMING
+                && feedDataAccess == FeedDataAccess.SEQUENTIAL;
+    }
+
+    /**
+     * Returns {@code true} if the feed may be used by multiple threads.
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
     public FeedFormatType getDataFormatType() {
         return feedFormatType;
     }
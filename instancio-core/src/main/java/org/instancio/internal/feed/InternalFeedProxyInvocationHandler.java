@@ -17,10 +17,18 @@ package org.instancio.internal.feed;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class InternalFeedProxyInvocationHandler implements InvocationHandler {
     private final InternalFeed internalFeed;
 
+    /**
+     * Spec methods resolved from invoked methods, to avoid
+     * re-reading method annotations on each invocation.
+     */
+    private final Map<Method, SpecMethod> specMethods = new ConcurrentHashMap<>();
+
     public InternalFeedProxyInvocationHandler(final InternalFeed internalFeed) {
         this.internalFeed = internalFeed;
     }
@@ -31,6 +39,15 @@ public class InternalFeedProxyInvocationHandler implements InvocationHandler {
 
     @Override
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, method, args);
+        }
+        final SpecMethod specMethod = specMethods.computeIfAbsent(method, SpecMethod::new);
+        return internalFeed.createSpec(specMethod, args);
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static Object invokeObjectMethod(final Object proxy, final Method method, final Object[] args) {
         final String invokedMethodName = method.getName();
 
         if ("equals".equals(invokedMethodName)) {
@@ -39,9 +56,6 @@ public class InternalFeedProxyInvocationHandler implements InvocationHandler {
         if ("hashCode".equals(invokedMethodName)) {
             return System.identityHashCode(proxy);
         }
-        if ("toString".equals(invokedMethodName)) {
-            return String.format("Proxy[%s]", proxy.getClass().getInterfaces()[0].getName());
-        }
-        return internalFeed.createSpec(new SpecMethod(method), args);
+        return String.format("Proxy[%s]", proxy.getClass().getInterfaces()[0].getName());
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Selects records of a {@link DataStore} at random, optionally
+ * restricted to records with a given tag value.
+ *
+ * <p>If the feed is thread-safe, each thread selects records
+ * using its own random number generator, seeded from
+ * the feed's generator.
+ */
+final class RandomDataCursor<R> implements DataCursor<R> {
+
+    private final DataStore<R> dataStore;
+    private final String tagValue;
+    private final Supplier<Random> random;
+    private final Lock seedLock = new ReentrantLock();
+
+    RandomDataCursor(final InternalFeedContext<?> feedContext, final DataStore<R> dataStore) {
+        this.dataStore = dataStore;
+        this.tagValue = feedContext.getTagValue();
+
+        final Random feedRandom = feedContext.getGeneratorContext().random();
+        if (feedContext.isThreadSafe()) {
+            final ThreadLocal<Random> threadRandom = ThreadLocal.withInitial(() ->
+                    new DefaultRandom(nextSeed(feedRandom), Seeds.Source.RANDOM));
+            this.random = threadRandom::get;
+        } else {
+            this.random = () -> feedRandom;
+        }
+    }
+
+    private long nextSeed(final Random random) {
+        seedLock.lock();
+        try {
+            return random.longRange(Long.MIN_VALUE, Long.MAX_VALUE);
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    @Override
+    public R next() {
+        final Random random = this.random.get();
+        final String tag = tagValue == null
+                ? random.oneOf(dataStore.getTagKeys())
+                : tagValue;
+
+        return random.oneOf(dataStore.get(tag));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads records from a data source one at a time.
+ *
+ * <p>The first record returned by a reader is the header
+ * containing property names, followed by data records
+ * whose values are in the same order as the header.
+ *
+ * @see StreamingDataCursor
+ */
+public interface RecordReader extends Closeable {
+
+    /**
+     * Reads the next record.
+     *
+     * @return the next record, or {@code null} if the end of data was reached
+     * @throws IOException if an I/O error occurs
+     */
+    String[] readRecord() throws IOException;
+}
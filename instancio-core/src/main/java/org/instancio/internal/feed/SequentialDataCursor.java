@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.internal.util.ErrorMessageUtils;
+import org.instancio.internal.util.Fail;
+import org.instancio.settings.FeedDataEndAction;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Iterates over records of a {@link DataStore} in the order
+ * they appear in the data, optionally restricted to records
+ * with a given tag value.
+ *
+ * <p>Records are claimed using an atomic index, therefore
+ * if the cursor is shared by multiple threads, each record
+ * is returned to exactly one of them.
+ */
+final class SequentialDataCursor<R> implements DataCursor<R> {
+
+    private final InternalFeedContext<?> feedContext;
+    private final DataStore<R> dataStore;
+    private final String tagValue;
+    private final AtomicInteger sequentialAccessIndex = new AtomicInteger();
+
+    SequentialDataCursor(final InternalFeedContext<?> feedContext, final DataStore<R> dataStore) {
+        this.feedContext = feedContext;
+        this.dataStore = dataStore;
+        this.tagValue = feedContext.getTagValue();
+    }
+
+    @Override
+    public R next() {
+        if (tagValue == null) {
+            final int nextIndex = nextIndex(dataStore.size());
+            return dataStore.get(nextIndex);
+        }
+        final List<R> tagData = dataStore.get(tagValue);
+        final int next = nextIndex(tagData.size());
+        return tagData.get(next);
+    }
+
+    private int nextIndex(final int dataSize) {
+        while (true) {
+            final int index = sequentialAccessIndex.get();
+
+            if (index < dataSize) {
+                if (sequentialAccessIndex.compareAndSet(index, index + 1)) {
+                    return index;
+                }
+            } else if (feedContext.getFeedDataEndStrategy() == FeedDataEndAction.FAIL) {
+                throw Fail.withUsageError(ErrorMessageUtils.feedDataEnd(
+                        feedContext.getFeedClass(), feedContext.getGeneratorContext().getSettings()));
+            } else if (sequentialAccessIndex.compareAndSet(index, 1)) {
+                // recycle: claim the first record
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.internal.ApiValidator;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A data store backed by a memory-mapped snapshot of parsed rows.
+ *
+ * <p>The snapshot contains a table of row offsets followed by the rows,
+ * where each value is stored as a length-prefixed UTF-8 string.
+ * Strings that cannot be encoded as UTF-8 without loss, that is
+ * strings containing unpaired surrogates, are stored as UTF-16.
+ * Opening a snapshot requires reading only the header row and,
+ * if a tag key is specified, the tag values. Other values are
+ * decoded when a row is requested.
+ *
+ * <p>Rows are returned exactly as they were written, so this store
+ * returns the same data as a {@link TabularDataStore} created
+ * from the same rows.
+ *
+ * @see SnapshotDataStoreLoader
+ */
+final class SnapshotDataStore implements DataStore<String[]> {
+
+    private static final int MAGIC = 0x49465344; // "IFSD"
+    private static final int VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    // lengths of UTF-16 values are encoded as -(charCount + UTF16_LENGTH_OFFSET)
+    private static final int UTF16_LENGTH_OFFSET = 2;
+
+    // magic, version, and row count
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final String tagKey;
+    private final int size;
+    private final Map<String, Integer> fieldIndexMap;
+    private final Map<String, List<String[]>> groupedByTag;
+    private final List<String> tagKeys;
+
+    SnapshotDataStore(final Path snapshot, final String tagKey) throws IOException {
+        this.tagKey = tagKey;
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            // snapshots larger than 2GB are not written
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Invalid snapshot header: " + snapshot);
+        }
+
+        final int rowCount = buffer.getInt(2 * Integer.BYTES);
+        ApiValidator.isTrue(rowCount > 0, "empty data source");
+
+        this.size = rowCount - 1;
+        this.fieldIndexMap = TabularDataStore.createFieldIndexMap(readRow(0));
+        final int tagIndex = fieldIndexMap.getOrDefault(tagKey, -1);
+        this.groupedByTag = IndexedRecordList.groupByTag(this::get, size,
+                tagIndex == -1 ? null : row -> readValue(row + 1, tagIndex));
+        this.tagKeys = unmodifiableList(new ArrayList<>(groupedByTag.keySet()));
+    }
+
+    /**
+     * Writes the given rows, including the header row, to a snapshot file.
+     *
+     * @param snapshot the file to write to
+     * @param rows     the rows to write
+     * @return the size of the snapshot in bytes
+     * @throws IOException if an I/O error occurs
+     */
+    static long write(final Path snapshot, final List<String[]> rows) throws IOException {
+        long offset = HEADER_SIZE + (long) rows.size() * Integer.BYTES;
+
+        try (OutputStream os = Files.newOutputStream(snapshot);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows.size());
+
+            for (String[] row : rows) {
+                // offsets of snapshots larger than 2GB are invalid,
+                // but such snapshots are discarded by the caller
+                out.writeInt((int) Math.min(offset, Integer.MAX_VALUE));
+                offset += Integer.BYTES;
+                for (String value : row) {
+                    offset += Integer.BYTES + payloadSize(value);
+                }
+            }
+
+            for (String[] row : rows) {
+                out.writeInt(row.length);
+                for (String value : row) {
+                    writeValue(out, value);
+                }
+            }
+        }
+        return offset;
+    }
+
+    private static void writeValue(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+        } else if (utf8Length(value) == -1) {
+            out.writeInt(-(value.length() + UTF16_LENGTH_OFFSET));
+            out.writeChars(value);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static int payloadSize(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        final int utf8Length = utf8Length(value);
+        return utf8Length == -1 ? value.length() * Character.BYTES : utf8Length;
+    }
+
+    /**
+     * Returns the number of bytes required to encode the given string
+     * as UTF-8, or {@code -1} if the string contains unpaired surrogates.
+     */
+    static int utf8Length(final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++; //NOPMD
+            } else if (Character.isSurrogate(c)) {
+                return -1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Reads all rows, including the header row, into memory.
+     *
+     * @return all rows
+     */
+    List<String[]> readRows() {
+        final List<String[]> rows = new ArrayList<>(size + 1);
+        for (int i = 0; i <= size; i++) {
+            rows.add(readRow(i));
+        }
+        return rows;
+    }
+
+    @Override
+    public List<String[]> get(final String tagValue) {
+        final List<String[]> tagData = groupedByTag.get(tagValue);
+        ApiValidator.notNull(tagData, () -> String.format(
+                "no data found with tag value: '%s' (tagKey is set to: '%s')", tagValue, tagKey));
+        return tagData;
+    }
+
+    @Override
+    public String[] get(final int index) {
+        // offset by one to exclude the header row
+        return readRow(index + 1);
+    }
+
+    @Override
+    public List<String> getTagKeys() {
+        return tagKeys;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<String> getPropertyKeys() {
+        return fieldIndexMap.keySet();
+    }
+
+    @Override
+    public int indexOf(final String propertyName) {
+        return fieldIndexMap.getOrDefault(propertyName, -1);
+    }
+
+    @Override
+    public boolean contains(final String propertyName) {
+        return fieldIndexMap.containsKey(propertyName);
+    }
+
+    private int rowOffset(final int row) {
+        return buffer.getInt(HEADER_SIZE + row * Integer.BYTES);
+    }
+
+    private String[] readRow(final int row) {
+        int pos = rowOffset(row);
+        final String[] values = new String[buffer.getInt(pos)];
+        pos += Integer.BYTES;
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = decode(pos);
+            pos += valueSize(pos);
+        }
+        return values;
+    }
+
+    /**
+     * Reads a single value without decoding the rest of the row.
+     */
+    private String readValue(final int row, final int column) {
+        int pos = rowOffset(row);
+        if (column >= buffer.getInt(pos)) {
+            return null;
+        }
+        pos += Integer.BYTES;
+
+        for (int i = 0; i < column; i++) {
+            pos += valueSize(pos);
+        }
+        return decode(pos);
+    }
+
+    /**
+     * Returns the size of the value at the given position, including its length.
+     */
+    private int valueSize(final int pos) {
+        final int length = buffer.getInt(pos);
+        if (length == NULL_LENGTH) {
+            return Integer.BYTES;
+        }
+        return length >= 0
+                ? Integer.BYTES + length
+                : Integer.BYTES + -(length + UTF16_LENGTH_OFFSET) * Character.BYTES;
+    }
+
+    private String decode(final int pos) {
+        final int length = buffer.getInt(pos);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final ByteBuffer slice = buffer.duplicate();
+        // Buffer.position(int) for Java 8 compatibility (ByteBuffer override is Java 9+)
+        ((Buffer) slice).position(pos + Integer.BYTES); // NOPMD
+
+        if (length < 0) {
+            final char[] chars = new char[-(length + UTF16_LENGTH_OFFSET)];
+            slice.asCharBuffer().get(chars);
+            return new String(chars);
+        }
+        final byte[] bytes = new byte[length];
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
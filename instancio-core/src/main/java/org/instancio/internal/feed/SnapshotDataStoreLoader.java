@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.feed.DataSource;
+import org.instancio.internal.feed.CachingDataLoader.DataStoreLoader;
+import org.instancio.internal.feed.datasource.CacheableDataSource;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Loads data stores from snapshots of parsed data stored in a local
+ * directory, so that data sources that have not changed do not
+ * need to be parsed again by subsequent JVMs.
+ *
+ * <p>A snapshot's file name is derived from the data source's cache key,
+ * the format options, and a hash of the data source's content. Therefore,
+ * modified data results in a new snapshot rather than stale data.
+ * Snapshots are written to a temporary file first and then moved into
+ * place, which allows concurrent JVMs to share the directory.
+ *
+ * <p>Snapshots are a cache: if a snapshot cannot be read or written,
+ * the data is parsed by the data loader.
+ *
+ * @see Keys#FEED_SNAPSHOT_DIRECTORY
+ */
+final class SnapshotDataStoreLoader implements DataStoreLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotDataStoreLoader.class);
+
+    private static final String SUFFIX = ".snapshot";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final DataLoader<?> dataLoader;
+    private final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper;
+    private final Path directory;
+    private final String formatKey;
+    private final String tagKey;
+    private final FeedDataStorage feedDataStorage;
+
+    SnapshotDataStoreLoader(
+            final InternalFeedContext<?> feedContext,
+            final DataLoader<?> dataLoader,
+            final String formatKey,
+            final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper,
+            final Path directory) {
+
+        this.dataLoader = dataLoader;
+        this.tagKeyToDataStoreMapper = tagKeyToDataStoreMapper;
+        this.directory = directory;
+        this.formatKey = formatKey;
+        this.tagKey = feedContext.getTagKey();
+        this.feedDataStorage = feedContext.getFeedDataStorage();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DataStore<?> load(final DataSource dataSource) throws Exception {
+        final Path snapshot = directory.resolve(getSnapshotName(dataSource));
+
+        if (Files.isRegularFile(snapshot)) {
+            try {
+                final SnapshotDataStore dataStore = new SnapshotDataStore(snapshot, tagKey);
+                return feedDataStorage == FeedDataStorage.COLUMNAR
+                        ? tagKeyToDataStoreMapper.apply(tagKey, dataStore.readRows())
+                        : dataStore;
+            } catch (IOException | RuntimeException ex) {
+                LOG.debug("Could not read feed snapshot {}", snapshot, ex);
+            }
+        }
+
+        final List<String[]> rows = (List<String[]>) dataLoader.load(dataSource);
+        if (!rows.isEmpty()) {
+            try {
+                writeSnapshot(snapshot, rows);
+            } catch (IOException ex) {
+                LOG.debug("Could not write feed snapshot {}", snapshot, ex);
+            }
+        }
+        return tagKeyToDataStoreMapper.apply(tagKey, rows);
+    }
+
+    private String getSnapshotName(final DataSource dataSource) throws IOException {
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = dataLoader.getInputStream(dataSource)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) { //NOPMD
+                digest.update(buffer, 0, n);
+            }
+        }
+        final byte[] contentHash = digest.digest();
+
+        // the data source's key also includes the tag key
+        final Object sourceKey = ((CacheableDataSource) dataSource).getKey();
+        digest.update(String.valueOf(sourceKey).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(formatKey.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(contentHash);
+        return toHex(digest.digest()) + SUFFIX;
+    }
+
+    private static void writeSnapshot(final Path snapshot, final List<String[]> rows) throws IOException {
+        Files.createDirectories(snapshot.getParent());
+        final Path tmp = Files.createTempFile(snapshot.getParent(), "instancio-", ".tmp");
+
+        try {
+            final long size = SnapshotDataStore.write(tmp, rows);
+
+            // snapshots are memory-mapped as a single buffer
+            if (size <= Integer.MAX_VALUE) {
+                moveIntoPlace(tmp, snapshot);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void moveIntoPlace(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -22,13 +22,22 @@ import org.instancio.feed.FeedSpecAnnotations.FunctionSpec;
 import org.instancio.feed.FeedSpecAnnotations.GeneratedSpec;
 import org.instancio.feed.FeedSpecAnnotations.NullableSpec;
 import org.instancio.feed.FeedSpecAnnotations.TemplateSpec;
+import org.instancio.feed.FeedSpecAnnotations.WithPostProcessor;
+import org.instancio.feed.FeedSpecAnnotations.WithStringMapper;
+import org.instancio.feed.PostProcessor;
+import org.instancio.generator.Generator;
 import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.TypeUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 import static org.instancio.internal.util.ErrorMessageUtils.invalidSpecMethod;
 
@@ -44,6 +53,15 @@ public final class SpecMethod {
     private final FunctionSpec functionSpec;
     private final TemplateSpec templateSpec;
     private final String dataPropertyName;
+    private final boolean nullable;
+
+    // Resolved once per spec method and reused for subsequent values,
+    // so that templates are not re-parsed and user-defined classes
+    // are not instantiated for each generated value.
+    private final SpecTemplate compiledTemplate;
+    private final Generator<?> generator;
+    private final Function<String, ?> stringMapper;
+    private final List<PostProcessor<?>> postProcessors;
 
     public SpecMethod(final Method method) {
         this.method = method;
@@ -53,6 +71,11 @@ public final class SpecMethod {
         this.templateSpec = getAnnotation(TemplateSpec.class);
         final DataSpec dataSpec = getAnnotation(DataSpec.class);
         this.dataPropertyName = dataSpec == null ? method.getName() : dataSpec.value();
+        this.nullable = getAnnotation(NullableSpec.class) != null;
+        this.compiledTemplate = compileTemplate();
+        this.generator = createGenerator();
+        this.stringMapper = createStringMapper();
+        this.postProcessors = createPostProcessors();
     }
 
     public Method getMethod() {
@@ -71,6 +94,64 @@ public final class SpecMethod {
         return templateSpec;
     }
 
+    SpecTemplate getCompiledTemplate() {
+        return compiledTemplate;
+    }
+
+    /**
+     * Returns the generator specified via {@link GeneratedSpec},
+     * or {@code null} if the annotation is absent.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Generator<T> getGenerator() {
+        return (Generator<T>) generator;
+    }
+
+    /**
+     * Returns the function specified via {@link WithStringMapper},
+     * or {@code null} if the annotation is absent.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Function<String, T> getStringMapper() {
+        return (Function<String, T>) stringMapper;
+    }
+
+    /**
+     * Returns post-processors specified via {@link WithPostProcessor}.
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<PostProcessor<T>> getPostProcessors() {
+        return (List<PostProcessor<T>>) (List<?>) postProcessors;
+    }
+
+    private SpecTemplate compileTemplate() {
+        return templateSpec == null ? null : SpecTemplate.compile(templateSpec.value());
+    }
+
+    private Generator<?> createGenerator() {
+        return generatedSpec == null ? null : (Generator<?>) ReflectionUtils.newInstance(generatedSpec.value());
+    }
+
+    private Function<String, ?> createStringMapper() {
+        final WithStringMapper withStringMapper = getAnnotation(WithStringMapper.class);
+        return withStringMapper == null ? null : ReflectionUtils.newInstance(withStringMapper.value());
+    }
+
+    private List<PostProcessor<?>> createPostProcessors() {
+        final WithPostProcessor withPostProcessor = getAnnotation(WithPostProcessor.class);
+
+        if (withPostProcessor == null) {
+            return Collections.emptyList();
+        }
+
+        final Class<?>[] processorClasses = withPostProcessor.value();
+        final List<PostProcessor<?>> list = new ArrayList<>(processorClasses.length);
+        for (Class<?> c : processorClasses) {
+            list.add((PostProcessor<?>) ReflectionUtils.newInstance(c));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
     /**
      * Returns the name of the property key in the data file
      * that maps to this spec method.
@@ -89,7 +170,7 @@ public final class SpecMethod {
     }
 
     public boolean hasNullableAnnotation() {
-        return method.getDeclaredAnnotation(NullableSpec.class) != null;
+        return nullable;
     }
 
     public <A extends Annotation> A getAnnotation(final Class<A> annotationClass) {
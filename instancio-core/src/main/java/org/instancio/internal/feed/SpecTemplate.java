@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.feed.FeedSpecAnnotations.TemplateSpec;
+import org.instancio.internal.util.Fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.instancio.internal.util.ErrorMessageUtils.invalidStringTemplate;
+
+/**
+ * A {@link TemplateSpec} template that has been parsed into literal
+ * segments and placeholders, so that it can be rendered repeatedly
+ * without re-parsing.
+ *
+ * <p>Each distinct key is resolved once per rendering, even if
+ * the key is referenced by multiple placeholders.
+ */
+final class SpecTemplate {
+
+    /**
+     * Literal text; {@code literals[i]} precedes
+     * the placeholder at index {@code i}.
+     */
+    private final String[] literals;
+
+    /**
+     * Index into {@link #keys} of each placeholder.
+     */
+    private final int[] placeholders;
+
+    /**
+     * Distinct keys in the order of their first occurrence.
+     */
+    private final String[] keys;
+
+    private final int literalsLength;
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private SpecTemplate(final String[] literals, final int[] placeholders, final String[] keys) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.keys = keys;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Parses the given template.
+     *
+     * @param template containing {@code ${key}} placeholders
+     * @return compiled template
+     */
+    static SpecTemplate compile(final String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> placeholderKeys = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+
+        final int length = template.length();
+        int literalStart = 0;
+        int i = 0;
+
+        while (i < length) {
+            if (template.startsWith("${", i)) {
+                final int j = template.indexOf('}', i + 2);
+                final String key = parseKey(template, i, j);
+                literals.add(template.substring(literalStart, i));
+                placeholderKeys.add(key);
+                if (!keys.contains(key)) {
+                    keys.add(key);
+                }
+                i = j + 1;
+                literalStart = i;
+            } else {
+                i++;
+            }
+        }
+        literals.add(template.substring(literalStart));
+
+        final int[] placeholders = new int[placeholderKeys.size()];
+        for (int p = 0; p < placeholders.length; p++) {
+            placeholders[p] = keys.indexOf(placeholderKeys.get(p));
+        }
+
+        return new SpecTemplate(
+                literals.toArray(new String[0]),
+                placeholders,
+                keys.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the key of the placeholder that starts at {@code start}
+     * and ends at {@code end}, the index of the closing brace.
+     */
+    private static String parseKey(final String template, final int start, final int end) {
+        if (end == -1) {
+            throw Fail.withUsageError(invalidStringTemplate(
+                    template, "unterminated placeholder"));
+        }
+        final String key = template.substring(start + 2, end);
+        if (key.isEmpty() || key.contains("${")) {
+            final String reason = String.format("invalid key \"${%s}\"", key);
+            throw Fail.withUsageError(invalidStringTemplate(template, reason));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the number of distinct keys referenced by this template.
+     *
+     * @return number of keys
+     */
+    int getKeyCount() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the key at the given index. Values passed to
+     * {@link #render(String[])} must be in the same order as the keys.
+     *
+     * @param index of the key
+     * @return template key
+     */
+    String getKey(final int index) {
+        return keys[index];
+    }
+
+    /**
+     * Renders the template by replacing placeholders with given values.
+     * A {@code null} value is rendered as an empty string.
+     *
+     * @param values of the template keys, indexed the same as the keys
+     * @return the rendered string
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    String render(final String[] values) {
+        final StringBuilder sb = new StringBuilder(literalsLength + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            sb.append(literals[i]);
+            final String value = values[placeholders[i]];
+            if (value != null) {
+                sb.append(value);
+            }
+        }
+        return sb.append(literals[placeholders.length]).toString();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.DataSource;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.util.ErrorMessageUtils;
+import org.instancio.internal.util.Fail;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedDataStorage;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.instancio.internal.util.ErrorMessageUtils.feedDataSourceIoErrorMessage;
+
+/**
+ * Reads records lazily from the data source as they are requested.
+ *
+ * <p>Only the header and the reader's buffer are held in memory,
+ * which allows feeds to consume data sources that are too large
+ * to be loaded upfront. The data source is opened on first access
+ * and closed once the end of data is reached, after which it is
+ * either re-opened or an error is raised, depending on the
+ * feed's {@link FeedDataEndAction}. The data source is also closed
+ * via {@link #close()} when the feed is no longer in use.
+ *
+ * @see FeedDataStorage#STREAMING
+ */
+public final class StreamingDataCursor implements DataCursor<String[]>, DataSchema {
+
+    private final InternalFeedContext<?> feedContext;
+    private final RecordReaderFactory readerFactory;
+    private final DataSource dataSource;
+    private final String tagKey;
+    private final String tagValue;
+    private final Lock lock = new ReentrantLock();
+    private Map<String, Integer> fieldIndexMap;
+    private int tagIndex;
+
+    /**
+     * The current reader, or {@code null} if the data source is not open.
+     */
+    private RecordReader reader;
+
+    /**
+     * Number of records returned since the data source was last opened.
+     */
+    private int recordsRead;
+
+    /**
+     * Whether the end of data was reached and the data
+     * source should not be re-opened.
+     */
+    private boolean endOfData;
+
+    public StreamingDataCursor(
+            final InternalFeedContext<?> feedContext,
+            final RecordReaderFactory readerFactory) {
+
+        this.feedContext = feedContext;
+        this.readerFactory = readerFactory;
+        this.dataSource = feedContext.getDataSource();
+        this.tagKey = feedContext.getTagKey();
+        this.tagValue = feedContext.getTagValue();
+    }
+
+    @Override
+    public String[] next() {
+        lock.lock();
+        try {
+            if (reader == null) {
+                if (endOfData) {
+                    throw endOfDataError();
+                }
+                open();
+            }
+            while (true) {
+                final String[] row = read();
+                if (row == null) {
+                    recycle();
+                } else if (tagValue == null || tagValue.equals(getTag(row))) {
+                    recordsRead++;
+                    return row;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the data source if it is open. If more records are
+     * requested afterwards, the data source is re-opened and
+     * records are read from the beginning, unless the end of
+     * data has already been reached.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (reader != null) {
+                closeReader();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> getPropertyKeys() {
+        return getFieldIndexMap().keySet();
+    }
+
+    @Override
+    public int indexOf(final String propertyName) {
+        return getFieldIndexMap().getOrDefault(propertyName, -1);
+    }
+
+    @Override
+    public boolean contains(final String propertyName) {
+        return getFieldIndexMap().containsKey(propertyName);
+    }
+
+    private Map<String, Integer> getFieldIndexMap() {
+        lock.lock();
+        try {
+            if (fieldIndexMap == null) {
+                // the header is read when the data source is opened;
+                // the reader is kept open for reading records
+                open();
+            }
+            return fieldIndexMap;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private String getTag(final String[] row) {
+        return tagIndex == -1 || tagIndex >= row.length ? null : row[tagIndex];
+    }
+
+    private void recycle() {
+        closeReader();
+
+        if (recordsRead == 0 || feedContext.getFeedDataEndStrategy() == FeedDataEndAction.FAIL) {
+            endOfData = true;
+            throw endOfDataError();
+        }
+
+        open();
+    }
+
+    private InstancioApiException endOfDataError() {
+        if (recordsRead == 0 && tagValue != null) {
+            return Fail.withUsageError(String.format(
+                    "no data found with tag value: '%s' (tagKey is set to: '%s')", tagValue, tagKey));
+        }
+        return Fail.withUsageError(ErrorMessageUtils.feedDataEnd(
+                feedContext.getFeedClass(), feedContext.getGeneratorContext().getSettings()));
+    }
+
+    /**
+     * Opens the data source and reads the header row.
+     */
+    private void open() {
+        final String[] headers;
+        try {
+            reader = readerFactory.open(dataSource);
+            headers = reader.readRecord();
+        } catch (IOException ex) {
+            throw Fail.withUsageError(feedDataSourceIoErrorMessage(dataSource, ex), ex);
+        }
+        recordsRead = 0;
+
+        if (fieldIndexMap == null) {
+            if (headers == null) {
+                closeReader();
+            }
+            ApiValidator.notNull(headers, "empty data source");
+            fieldIndexMap = TabularDataStore.createFieldIndexMap(headers);
+            tagIndex = fieldIndexMap.getOrDefault(tagKey, -1);
+        }
+    }
+
+    private String[] read() {
+        try {
+            return reader.readRecord();
+        } catch (IOException ex) {
+            throw Fail.withUsageError(feedDataSourceIoErrorMessage(dataSource, ex), ex);
+        }
+    }
+
+    private void closeReader() {
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            throw Fail.withUsageError(feedDataSourceIoErrorMessage(dataSource, ex), ex);
+        } finally {
+            reader = null; // NOPMD
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordReaderFactory {
+        RecordReader open(DataSource dataSource) throws IOException;
+    }
+}
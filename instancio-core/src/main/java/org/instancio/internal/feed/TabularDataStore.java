@@ -13,9 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.instancio.internal.feed.csv;
-
-import org.instancio.internal.feed.AbstractDataStore;
+package org.instancio.internal.feed;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -23,15 +21,23 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-public class CsvDataStore extends AbstractDataStore<String[]> {
+/**
+ * Stores data as rows of string values, where
+ * the first row contains the property names.
+ */
+public class TabularDataStore extends AbstractDataStore<String[]> {
 
-    public CsvDataStore(final String tagKey, final List<String[]> data) {
+    public TabularDataStore(final String tagKey, final List<String[]> data) {
         super(tagKey, data);
     }
 
     @Override
     protected Map<String, Integer> createFieldIndexMap(final List<String[]> data) {
-        final String[] headers = data.get(0);
+        return createFieldIndexMap(data.get(0));
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    public static Map<String, Integer> createFieldIndexMap(final String[] headers) {
         final Map<String, Integer> fieldIndexMap = new LinkedHashMap<>();
 
         for (int i = 0; i < headers.length; i++) {
@@ -17,11 +17,16 @@ package org.instancio.internal.feed.csv;
 
 import org.instancio.feed.DataSource;
 import org.instancio.internal.feed.DataLoader;
+import org.instancio.internal.feed.RecordReader;
+import org.instancio.internal.util.Sonar;
 import org.instancio.settings.FeedDataTrim;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.instancio.settings.FeedDataTrim.UNQUOTED;
@@ -42,26 +47,82 @@ public final class CsvDataLoader implements DataLoader<List<String[]>> {
     }
 
     @Override
-    @SuppressWarnings("PMD.CyclomaticComplexity")
     public List<String[]> load(final DataSource dataSource) throws Exception {
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(getInputStream(dataSource)))) {
-
+        try (BufferedReader br = newReader(dataSource)) {
             final List<String[]> results = new ArrayList<>();
 
-            String line;
-            while ((line = br.readLine()) != null) { //NOPMD
-                if (line.isEmpty() || line.startsWith(commentChar)) {
-                    continue;
-                }
-                String[] tokens = parseLine(line);
+            String[] tokens;
+            while ((tokens = readRecord(br)) != null) { //NOPMD
                 results.add(tokens);
             }
             return results;
         }
     }
+
+    /**
+     * Checks whether the given charset encodes line terminators as single
+     * ASCII bytes. Input in such charsets can be split into records at
+     * the byte level without decoding.
+     *
+     * @param charset to check
+     * @return {@code true} if line terminators are single ASCII bytes
+     */
+    static boolean hasSingleByteLineTerminators(final Charset charset) {
+        return Arrays.equals("\r\n".getBytes(charset), new byte[]{'\r', '\n'});
+    }
+
+    /**
+     * Returns a key identifying the options that affect
+     * how data is parsed by this loader.
+     */
+    String getFormatKey() {
+        return "csv:" + delimiter + ':' + feedDataTrim + ':' + commentChar;
+    }
+
+    String getCommentPrefix() {
+        return commentChar;
+    }
+
+    BufferedReader newReader(final DataSource dataSource) throws IOException {
+        return new BufferedReader(new InputStreamReader(getInputStream(dataSource)));
+    }
+
+    RecordReader newRecordReader(final DataSource dataSource) throws IOException {
+        final BufferedReader br = newReader(dataSource);
+
+        return new RecordReader() {
+            @Override
+            public String[] readRecord() throws IOException {
+                return CsvDataLoader.this.readRecord(br);
+            }
+
+            @Override
+            public void close() throws IOException {
+                br.close();
+            }
+        };
+    }
+
+    /**
+     * Reads the next record skipping empty lines and comments.
+     *
+     * @param br reader to read from
+     * @return parsed record, or {@code null} if the end of input was reached
+     * @throws IOException if an I/O error occurs
+     */
+    @SuppressWarnings({"PMD.ReturnEmptyCollectionRatherThanNull", Sonar.RETURN_EMPTY_COLLECTION})
+    String[] readRecord(final BufferedReader br) throws IOException {
+        String line;
+        while ((line = br.readLine()) != null) { //NOPMD
+            if (!line.isEmpty() && !line.startsWith(commentChar)) {
+                return parseLine(line);
+            }
+        }
+        return null;
+    }
+
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.EmptyControlStatement"})
-    private String[] parseLine(String line) {
+    String[] parseLine(String line) {
         List<String> tokens = new ArrayList<>();
         StringBuilder currentToken = new StringBuilder();
         boolean inQuotes = false;
@@ -18,6 +18,7 @@ package org.instancio.internal.feed.csv;
 import org.instancio.internal.feed.AbstractFeed;
 import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeedContext;
+import org.instancio.internal.feed.StreamingDataCursor;
 
 class CsvFeed extends AbstractFeed<String[]> {
 
@@ -28,6 +29,13 @@ class CsvFeed extends AbstractFeed<String[]> {
         super(feedContext, dataStore);
     }
 
+    CsvFeed(
+            final InternalFeedContext<?> feedContext,
+            final StreamingDataCursor streamingCursor) {
+
+        super(feedContext, streamingCursor, streamingCursor);
+    }
+
     @Override
     protected String getValue(final String propertyKey) {
         final int index = getPropertyIndex(propertyKey);
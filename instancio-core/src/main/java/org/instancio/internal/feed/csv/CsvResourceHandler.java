@@ -17,12 +17,18 @@ package org.instancio.internal.feed.csv;
 
 import org.instancio.feed.FormatOptionsProvider.FormatOptions;
 import org.instancio.internal.feed.CachingDataLoader;
-import org.instancio.internal.feed.DataLoader;
+import org.instancio.internal.feed.ColumnarDataStore;
 import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeed;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.ResourceHandler;
+import org.instancio.internal.feed.StreamingDataCursor;
+import org.instancio.internal.feed.TabularDataStore;
+import org.instancio.internal.feed.datasource.FileDataSource;
+import org.instancio.settings.FeedDataStorage;
 
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -37,14 +43,43 @@ public final class CsvResourceHandler implements ResourceHandler {
                 ? InternalCsvFormatOptions.defaults(feedContext.getGeneratorContext().getSettings())
                 : options;
 
-        final DataLoader<?> dataLoader = new CsvDataLoader((InternalCsvFormatOptions) csvOptions);
+        final CsvDataLoader dataLoader = new CsvDataLoader((InternalCsvFormatOptions) csvOptions);
+
+        if (feedContext.isStreaming()) {
+            return new CsvFeed(feedContext, new StreamingDataCursor(feedContext, dataLoader::newRecordReader));
+        }
+
+        final Path path = getMappablePath(feedContext);
+        if (path != null) {
+            final DataStore<?> dataStore = cachingDataLoader.loadData(feedContext, dataSource ->
+                    new MappedCsvDataStore(path, feedContext.getTagKey(), dataLoader, Charset.defaultCharset()));
+
+            return new CsvFeed(feedContext, (DataStore<String[]>) dataStore);
+        }
 
         final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper =
-                (tagKey, data) -> new CsvDataStore(tagKey, (List<String[]>) data);
+                (tagKey, data) -> feedContext.getFeedDataStorage() == FeedDataStorage.COLUMNAR
+                        ? new ColumnarDataStore(tagKey, (List<String[]>) data)
+                        : new TabularDataStore(tagKey, (List<String[]>) data);
 
         final DataStore<?> dataStore = cachingDataLoader.loadData(
-                feedContext, dataLoader, tagKeyToDataStoreMapper);
+                feedContext,
+                new ParallelCsvDataLoader(dataLoader),
+                dataLoader.getFormatKey(),
+                tagKeyToDataStoreMapper);
 
         return new CsvFeed(feedContext, (DataStore<String[]>) dataStore);
     }
+
+    /**
+     * Returns the path of the data source if the feed
+     * should be backed by a memory-mapped file.
+     */
+    private static Path getMappablePath(final InternalFeedContext<?> feedContext) {
+        if (feedContext.getFeedDataStorage() != FeedDataStorage.MEMORY_MAPPED
+                || !CsvDataLoader.hasSingleByteLineTerminators(Charset.defaultCharset())) {
+            return null;
+        }
+        return FileDataSource.pathOf(feedContext.getDataSource());
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.feed.DataStore;
+import org.instancio.internal.feed.IndexedRecordList;
+import org.instancio.internal.feed.TabularDataStore;
+import org.instancio.settings.FeedDataStorage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A CSV data store backed by a memory-mapped file.
+ *
+ * <p>Instead of holding parsed records in memory, this store keeps
+ * the offset of each record within the file, and the indices of
+ * records grouped by tag value. A record is decoded only when
+ * it is requested, which keeps the heap footprint to a few
+ * bytes per record regardless of the size of the file.
+ *
+ * <p>Records are located by scanning for line terminators,
+ * therefore only charsets that encode line terminators as
+ * single ASCII bytes are supported.
+ *
+ * @see FeedDataStorage#MEMORY_MAPPED
+ */
+final class MappedCsvDataStore implements DataStore<String[]> {
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final CsvDataLoader dataLoader;
+    private final Charset charset;
+    private final String tagKey;
+    private final MappedByteBuffer[] segments;
+    private final long fileSize;
+    private final Map<String, Integer> fieldIndexMap;
+
+    /**
+     * Start offset of each record, excluding the header.
+     */
+    private final long[] offsets;
+    private final Map<String, List<String[]>> groupedByTag;
+    private final List<String> tagKeys;
+
+    MappedCsvDataStore(
+            final Path path,
+            final String tagKey,
+            final CsvDataLoader dataLoader,
+            final Charset charset) throws IOException {
+
+        this.dataLoader = dataLoader;
+        this.charset = charset;
+        this.tagKey = tagKey;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.fileSize = channel.size();
+            this.segments = map(channel, fileSize);
+        }
+
+        final byte[] commentPrefix = dataLoader.getCommentPrefix().getBytes(charset);
+        long pos = 0;
+        String[] headers = null;
+
+        while (headers == null && pos < fileSize) {
+            final long end = lineEnd(pos);
+            if (isRecord(pos, end, commentPrefix)) {
+                headers = decode(pos, end);
+            }
+            pos = nextLine(end);
+        }
+
+        ApiValidator.notNull(headers, "empty data source");
+        this.fieldIndexMap = TabularDataStore.createFieldIndexMap(headers);
+
+        final int tagIndex = fieldIndexMap.getOrDefault(tagKey, -1);
+        long[] recordOffsets = new long[INITIAL_CAPACITY];
+        int count = 0;
+
+        while (pos < fileSize) {
+            final long end = lineEnd(pos);
+            if (isRecord(pos, end, commentPrefix)) {
+                if (count == recordOffsets.length) {
+                    recordOffsets = Arrays.copyOf(recordOffsets, count * 2);
+                }
+                recordOffsets[count] = pos;
+                count++;
+            }
+            pos = nextLine(end);
+        }
+
+        this.offsets = Arrays.copyOf(recordOffsets, count);
+        this.groupedByTag = IndexedRecordList.groupByTag(this::get, count,
+                tagIndex == -1 ? null : row -> getTag(row, tagIndex));
+        this.tagKeys = unmodifiableList(new ArrayList<>(groupedByTag.keySet()));
+    }
+
+    @Override
+    public List<String[]> get(final String tagValue) {
+        final List<String[]> tagData = groupedByTag.get(tagValue);
+        ApiValidator.notNull(tagData, () -> String.format(
+                "no data found with tag value: '%s' (tagKey is set to: '%s')", tagValue, tagKey));
+        return tagData;
+    }
+
+    @Override
+    public String[] get(final int index) {
+        final long start = offsets[index];
+        return decode(start, lineEnd(start));
+    }
+
+    @Override
+    public List<String> getTagKeys() {
+        return tagKeys;
+    }
+
+    @Override
+    public int size() {
+        return offsets.length;
+    }
+
+    @Override
+    public Set<String> getPropertyKeys() {
+        return fieldIndexMap.keySet();
+    }
+
+    @Override
+    public int indexOf(final String propertyName) {
+        return fieldIndexMap.getOrDefault(propertyName, -1);
+    }
+
+    @Override
+    public boolean contains(final String propertyName) {
+        return fieldIndexMap.containsKey(propertyName);
+    }
+
+    private static MappedByteBuffer[] map(final FileChannel channel, final long fileSize) throws IOException {
+        final int count = (int) ((fileSize + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        final MappedByteBuffer[] buffers = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            final long position = (long) i << SEGMENT_SHIFT;
+            final long length = Math.min(SEGMENT_SIZE, fileSize - position);
+            buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+        return buffers;
+    }
+
+    private byte byteAt(final long pos) {
+        return segments[(int) (pos >>> SEGMENT_SHIFT)].get((int) (pos & SEGMENT_MASK));
+    }
+
+    /**
+     * Returns the offset of the line terminator (or end of file)
+     * of the line starting at the given offset.
+     */
+    private long lineEnd(final long start) {
+        long pos = start;
+        while (pos < fileSize) {
+            final byte b = byteAt(pos);
+            if (b == '\n' || b == '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the start offset of the line following the
+     * line terminator at the given offset.
+     */
+    private long nextLine(final long end) {
+        if (end + 1 < fileSize && byteAt(end) == '\r' && byteAt(end + 1) == '\n') {
+            return end + 2;
+        }
+        return end + 1;
+    }
+
+    /**
+     * Returns {@code true} if the line is neither empty nor a comment.
+     */
+    private boolean isRecord(final long start, final long end, final byte[] commentPrefix) {
+        if (end == start) {
+            return false;
+        }
+        if (end - start < commentPrefix.length) {
+            return true;
+        }
+        for (int i = 0; i < commentPrefix.length; i++) {
+            if (byteAt(start + i) != commentPrefix[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String[] decode(final long start, final long end) {
+        final byte[] bytes = new byte[(int) (end - start)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = byteAt(start + i);
+        }
+        return dataLoader.parseLine(new String(bytes, charset));
+    }
+
+    private String getTag(final int index, final int tagIndex) {
+        final String[] row = get(index);
+        return tagIndex >= row.length ? null : row[tagIndex];
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.feed.DataSource;
+import org.instancio.internal.feed.DataLoader;
+import org.instancio.internal.feed.datasource.FileDataSource;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Loads large CSV files by splitting them into chunks
+ * that are parsed by a parallel stream (that is, using the common fork-join pool).
+ *
+ * <p>Chunk boundaries are placed after a line feed. This is consistent
+ * with {@link CsvDataLoader}, which parses input line by line and does not
+ * support values spanning multiple lines. Parsed chunks are merged in order,
+ * therefore the result is the same as loading the file sequentially.
+ *
+ * <p>Sources that are not files, files smaller than the threshold, and
+ * files in charsets that do not encode line terminators as single bytes
+ * are loaded sequentially using the delegate loader.
+ */
+final class ParallelCsvDataLoader implements DataLoader<List<String[]>> {
+
+    private static final long DEFAULT_MIN_FILE_SIZE = 8L * 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    private final CsvDataLoader delegate;
+    private final Charset charset;
+    private final int parallelism;
+    private final long minFileSize;
+    private final int minChunkSize;
+
+    ParallelCsvDataLoader(final CsvDataLoader delegate) {
+        this(delegate, Charset.defaultCharset(), Runtime.getRuntime().availableProcessors(),
+                DEFAULT_MIN_FILE_SIZE, MIN_CHUNK_SIZE);
+    }
+
+    ParallelCsvDataLoader(
+            final CsvDataLoader delegate,
+            final Charset charset,
+            final int parallelism,
+            final long minFileSize,
+            final int minChunkSize) {
+
+        this.delegate = delegate;
+        this.charset = charset;
+        this.parallelism = parallelism;
+        this.minFileSize = minFileSize;
+        this.minChunkSize = minChunkSize;
+    }
+
+    @Override
+    public List<String[]> load(final DataSource dataSource) throws Exception {
+        final Path path = FileDataSource.pathOf(dataSource);
+        if (path == null
+                || parallelism < 2
+                || !CsvDataLoader.hasSingleByteLineTerminators(charset)) {
+            return delegate.load(dataSource);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            if (fileSize < minFileSize) {
+                return delegate.load(dataSource);
+            }
+            return loadChunks(channel, split(channel, fileSize));
+        }
+    }
+
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private List<String[]> loadChunks(final FileChannel channel, final List<Long> bounds) throws IOException {
+        final List<List<String[]>> chunks;
+        try {
+            chunks = IntStream.range(0, bounds.size() - 1)
+                    .parallel()
+                    .mapToObj(i -> parseChunk(channel, bounds.get(i), bounds.get(i + 1)))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        int size = 0;
+        for (List<String[]> chunk : chunks) {
+            size += chunk.size();
+        }
+        final List<String[]> results = new ArrayList<>(size);
+        chunks.forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * Returns chunk boundaries, each of which (apart from the first
+     * and last) is the offset immediately following a line feed.
+     */
+    private List<Long> split(final FileChannel channel, final long fileSize) throws IOException {
+        final long targetChunks = (long) parallelism * CHUNKS_PER_THREAD;
+        final long chunkSize = Math.max(minChunkSize, Math.min(MAX_CHUNK_SIZE, fileSize / targetChunks));
+        final byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        final List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+
+        long start = 0;
+        while (fileSize - start > chunkSize) {
+            final long boundary = nextLineStart(channel, start + chunkSize, fileSize, buffer);
+            if (boundary >= fileSize) {
+                break;
+            }
+            bounds.add(boundary);
+            start = boundary;
+        }
+        bounds.add(fileSize);
+        return bounds;
+    }
+
+    private static long nextLineStart(
+            final FileChannel channel,
+            final long from,
+            final long fileSize,
+            final byte[] buffer) throws IOException {
+
+        long pos = from;
+        while (pos < fileSize) {
+            final int read = channel.read(ByteBuffer.wrap(buffer), pos);
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return fileSize;
+    }
+
+    private List<String[]> parseChunk(final FileChannel channel, final long start, final long end) {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        int length = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                final int read = channel.read(buffer, start + length);
+                if (read == -1) {
+                    break;
+                }
+                length += read;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(buffer.array(), 0, length), charset))) {
+
+            final List<String[]> results = new ArrayList<>();
+            String[] tokens;
+            while ((tokens = delegate.readRecord(br)) != null) { //NOPMD
+                results.add(tokens);
+            }
+            return results;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
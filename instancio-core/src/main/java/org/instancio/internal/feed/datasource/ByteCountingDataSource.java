@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.datasource;
+
+import org.instancio.documentation.InternalApi;
+import org.instancio.feed.DataSource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A data source that counts the number of bytes read
+ * from all input streams it has opened.
+ */
+@InternalApi
+public final class ByteCountingDataSource implements DataSource {
+    private final DataSource delegate;
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    public ByteCountingDataSource(final DataSource delegate) {
+        this.delegate = delegate;
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        final InputStream in = delegate.getInputStream();
+        return in == null ? null : new CountingInputStream(in);
+    }
+
+    private final class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                bytesRead.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                bytesRead.addAndGet(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            bytesRead.addAndGet(skipped);
+            return skipped;
+        }
+    }
+}
@@ -29,6 +29,10 @@ public class CacheableDataSource implements CacheableSource {
         this.cacheKey = cacheKey;
     }
 
+    public DataSource getDelegate() {
+        return delegate;
+    }
+
     @Override
     public String getName() {
         return delegate.getName();
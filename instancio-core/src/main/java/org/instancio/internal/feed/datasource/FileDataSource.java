@@ -17,6 +17,7 @@ package org.instancio.internal.feed.datasource;
 
 import org.instancio.documentation.InternalApi;
 import org.instancio.feed.DataSource;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -31,6 +32,25 @@ public class FileDataSource implements DataSource {
         this.path = path;
     }
 
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the path of the given data source if it is backed by a file.
+     *
+     * @param dataSource the data source
+     * @return the path, or {@code null} if the source is not a file
+     */
+    @Nullable
+    public static Path pathOf(final DataSource dataSource) {
+        final DataSource source = dataSource instanceof CacheableDataSource
+                ? ((CacheableDataSource) dataSource).getDelegate()
+                : dataSource;
+
+        return source instanceof FileDataSource ? ((FileDataSource) source).path : null;
+    }
+
     @Override
     public String getName() {
         return path.toString();
@@ -15,31 +15,56 @@
  */
 package org.instancio.internal.feed.json;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
 import org.instancio.feed.DataSource;
 import org.instancio.internal.feed.DataLoader;
+import org.instancio.internal.feed.RecordReader;
 import org.instancio.internal.util.Fail;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.instancio.internal.util.ErrorMessageUtils.jacksonNotOnClasspathErrorMessage;
 
-public final class JsonDataLoader implements DataLoader<List<JsonNode>> {
+/**
+ * Loads a JSON array of objects as rows of string values.
+ *
+ * <p>The first row contains the property names of the first
+ * object, and each subsequent row contains values of these
+ * properties, in the same order, for each object.
+ *
+ * @see JsonRecordReader
+ */
+public final class JsonDataLoader implements DataLoader<List<String[]>> {
 
     @Override
-    public List<JsonNode> load(final DataSource dataSource) throws Exception {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            final JsonNode jsonNode = mapper.readTree(getInputStream(dataSource));
-            final List<JsonNode> results = new ArrayList<>(jsonNode.size());
-            for (int i = 0; i < jsonNode.size(); i++) {
-                results.add(jsonNode.get(i));
+    public List<String[]> load(final DataSource dataSource) throws Exception {
+        try (RecordReader reader = newRecordReader(dataSource)) {
+            final List<String[]> results = new ArrayList<>();
+
+            String[] row;
+            while ((row = reader.readRecord()) != null) { //NOPMD
+                results.add(row);
             }
             return results;
+        }
+    }
+
+    RecordReader newRecordReader(final DataSource dataSource) throws IOException {
+        try {
+            return new JsonRecordReader(FactoryHolder.JSON_FACTORY.createParser(getInputStream(dataSource)));
         } catch (NoClassDefFoundError error) {
             throw Fail.withUsageError(jacksonNotOnClasspathErrorMessage(), error);
         }
     }
+
+    /**
+     * Holds the shared factory, which is thread-safe once configured.
+     * Jackson classes are resolved lazily so that a missing dependency
+     * results in a {@link NoClassDefFoundError} when a parser is created.
+     */
+    private static final class FactoryHolder {
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    }
 }
@@ -15,27 +15,30 @@
  */
 package org.instancio.internal.feed.json;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import org.instancio.internal.feed.AbstractFeed;
 import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeedContext;
+import org.instancio.internal.feed.StreamingDataCursor;
 
-class JsonFeed extends AbstractFeed<JsonNode> {
+class JsonFeed extends AbstractFeed<String[]> {
 
     JsonFeed(
             final InternalFeedContext<?> feedContext,
-            final DataStore<JsonNode> dataStore) {
+            final DataStore<String[]> dataStore) {
 
         super(feedContext, dataStore);
     }
 
+    JsonFeed(
+            final InternalFeedContext<?> feedContext,
+            final StreamingDataCursor streamingCursor) {
+
+        super(feedContext, streamingCursor, streamingCursor);
+    }
+
     @Override
     protected String getValue(final String propertyKey) {
-        // We don't need the value, just fail if property key not found
-        getPropertyIndex(propertyKey);
-
-        final JsonNode currentEntry = getCurrentEntry();
-        final JsonNode node = currentEntry.get(propertyKey);
-        return node == null ? null : node.asText();
+        final int index = getPropertyIndex(propertyKey);
+        return getCurrentEntry()[index];
     }
 }
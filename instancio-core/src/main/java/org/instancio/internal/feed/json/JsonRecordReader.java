@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.instancio.internal.feed.RecordReader;
+import org.instancio.internal.feed.TabularDataStore;
+import org.instancio.internal.util.Sonar;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads a JSON array of objects one object at a time
+ * using Jackson's streaming API, without building a tree
+ * of the whole document.
+ *
+ * <p>The header is made up of the property names of the first
+ * object. Each object is converted to a row containing values
+ * of these properties in the same order. Properties not present
+ * in the first object are ignored, and properties missing from
+ * an object have {@code null} values. Values are converted to
+ * strings the same way as {@code JsonNode.asText()}.
+ */
+final class JsonRecordReader implements RecordReader {
+
+    private final JsonParser parser;
+    private Map<String, Integer> fieldIndexMap;
+
+    /**
+     * Values of the first object, held while the header is returned.
+     */
+    private String[] firstRow;
+
+    JsonRecordReader(final JsonParser parser) throws IOException {
+        this.parser = parser;
+
+        final JsonToken token = parser.nextToken();
+        if (token != null && token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "expected a JSON array of objects");
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"PMD.ReturnEmptyCollectionRatherThanNull", Sonar.RETURN_EMPTY_COLLECTION})
+    public String[] readRecord() throws IOException {
+        if (firstRow != null) {
+            final String[] row = firstRow;
+            firstRow = null; // NOPMD
+            return row;
+        }
+
+        final JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "expected a JSON object");
+        }
+        return fieldIndexMap == null ? readHeader() : readRow();
+    }
+
+    private String[] readHeader() throws IOException {
+        // preserves the position of the first occurrence of duplicate
+        // properties, while retaining the last value, as JsonNode does
+        final Map<String, String> firstObject = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            firstObject.put(name, readValue());
+        }
+
+        final String[] headers = firstObject.keySet().toArray(new String[0]);
+        fieldIndexMap = TabularDataStore.createFieldIndexMap(headers);
+        firstRow = firstObject.values().toArray(new String[0]);
+        return headers;
+    }
+
+    private String[] readRow() throws IOException {
+        final String[] row = new String[fieldIndexMap.size()];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final Integer index = fieldIndexMap.get(parser.currentName());
+            parser.nextToken();
+            if (index == null) {
+                parser.skipChildren();
+            } else {
+                row[index] = readValue();
+            }
+        }
+        return row;
+    }
+
+    private String readValue() throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+            case START_ARRAY:
+                parser.skipChildren();
+                return "";
+            case VALUE_NULL:
+                return "null";
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue().toString();
+            case VALUE_NUMBER_FLOAT:
+                return String.valueOf(parser.getDoubleValue());
+            default:
+                return parser.getText();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
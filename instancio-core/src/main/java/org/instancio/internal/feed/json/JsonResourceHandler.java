@@ -15,13 +15,15 @@
  */
 package org.instancio.internal.feed.json;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import org.instancio.internal.feed.CachingDataLoader;
-import org.instancio.internal.feed.DataLoader;
+import org.instancio.internal.feed.ColumnarDataStore;
 import org.instancio.internal.feed.DataStore;
 import org.instancio.internal.feed.InternalFeed;
 import org.instancio.internal.feed.InternalFeedContext;
 import org.instancio.internal.feed.ResourceHandler;
+import org.instancio.internal.feed.StreamingDataCursor;
+import org.instancio.internal.feed.TabularDataStore;
+import org.instancio.settings.FeedDataStorage;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -32,14 +34,20 @@ public final class JsonResourceHandler implements ResourceHandler {
 
     @Override
     public InternalFeed createFeed(final InternalFeedContext<?> feedContext) {
-        final DataLoader<?> dataLoader = new JsonDataLoader();
+        final JsonDataLoader dataLoader = new JsonDataLoader();
+
+        if (feedContext.isStreaming()) {
+            return new JsonFeed(feedContext, new StreamingDataCursor(feedContext, dataLoader::newRecordReader));
+        }
 
         final BiFunction<String, List<?>, DataStore<?>> tagKeyToDataStoreMapper =
-                (tagKey, data) -> new JsonDataStore(tagKey, (List<JsonNode>) data);
+                (tagKey, data) -> feedContext.getFeedDataStorage() == FeedDataStorage.COLUMNAR
+                        ? new ColumnarDataStore(tagKey, (List<String[]>) data)
+                        : new TabularDataStore(tagKey, (List<String[]>) data);
 
         final DataStore<?> dataStore = cachingDataLoader.loadData(
-                feedContext, dataLoader, tagKeyToDataStoreMapper);
+                feedContext, dataLoader, "json", tagKeyToDataStoreMapper);
 
-        return new JsonFeed(feedContext, (DataStore<JsonNode>) dataStore);
+        return new JsonFeed(feedContext, (DataStore<String[]>) dataStore);
     }
 }
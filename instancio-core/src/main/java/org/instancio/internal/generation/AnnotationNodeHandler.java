@@ -62,6 +62,10 @@ import static org.instancio.internal.util.ErrorMessageUtils.invalidAnnotationHan
  * <p>All of the above is done on a best-effort basis and is not guaranteed
  * to work in all circumstances.
  *
+ * <p>Annotations are processed once per node. The resulting generator
+ * is cached in the {@link ModelContext} and reused for subsequent values
+ * of the same node, including by other engines using the same context.
+ *
  * @see AnnotationMap
  */
 @SuppressWarnings("PMD.ExcessiveImports")
@@ -75,6 +79,7 @@ final class AnnotationNodeHandler implements NodeHandler {
     private final GeneratedValuePostProcessor stringPostProcessor;
     private final Map<Class<?>, List<AnnotatedMethod>> annotatedMethodsMap;
     private final boolean beanValidationOrJpaEnabled;
+    private final Map<InternalNode, AnnotatedNodeGenerator> nodeGenerators;
 
     private AnnotationNodeHandler(
             final ModelContext<?> modelContext,
@@ -91,6 +96,7 @@ final class AnnotationNodeHandler implements NodeHandler {
         this.generatorContext = new GeneratorContext(modelContext.getSettings(), modelContext.getRandom());
         this.annotatedMethodsMap = collectAnnotatedMethods(annotationProcessors);
         this.beanValidationOrJpaEnabled = beanValidationOrJpaEnabled;
+        this.nodeGenerators = modelContext.getNodeCache(AnnotationNodeHandler.class);
     }
 
     static NodeHandler create(final ModelContext<?> context, final GeneratorResolver generatorResolver) {
@@ -139,10 +145,44 @@ final class AnnotationNodeHandler implements NodeHandler {
     @NotNull
     @Override
     public GeneratorResult getResult(@NotNull final InternalNode node) {
+        AnnotatedNodeGenerator nodeGenerator = nodeGenerators.get(node);
+        if (nodeGenerator == null) {
+            nodeGenerator = createNodeGenerator(node);
+            nodeGenerators.put(node, nodeGenerator);
+        }
+
+        final Generator<?> generator = nodeGenerator.generator;
+        if (generator == null) {
+            return GeneratorResult.emptyResult();
+        }
+
+        Object obj = generator.generate(modelContext.getRandom());
+
+        // Some generators return a different type than the target class,
+        // e.g. URLGenerator returns a java.net.URL object.
+        // However, the @URL annotation is only applicable to strings.
+        // There might be other types that need to be handled as well,
+        // but so far string seems to be sufficient
+        if (node.getTargetClass() == String.class) {
+            obj = obj.toString();
+        }
+        // It's possible an annotation is placed on a field that
+        // doesn't support it. To avoid an error in such cases,
+        // re-generate the value for the given node using a generator
+        // matching the target class, rather than the primary annotation
+        else if (!isObjectAssignableToNode(node, obj)) {
+            obj = nodeGenerator.getFallbackGenerator(node).generate(modelContext.getRandom());
+        }
+
+        final Object processed = stringPostProcessor.process(obj, node, generator);
+        return GeneratorResult.create(processed, generator.hints());
+    }
+
+    private AnnotatedNodeGenerator createNodeGenerator(final InternalNode node) {
         final Annotation[] annotations = annotationExtractor.getAnnotations(node);
 
         if (annotations.length == 0) {
-            return GeneratorResult.emptyResult();
+            return AnnotatedNodeGenerator.NONE;
         }
 
         Generator<?> generator;
@@ -161,33 +201,13 @@ final class AnnotationNodeHandler implements NodeHandler {
         }
 
         if (generator == null) {
-            return GeneratorResult.emptyResult();
+            return AnnotatedNodeGenerator.NONE;
         }
 
         // Invoke @AnnotationHandler methods defined via SPI
         invokeAnnotationHandlerMethods(node, annotations, generator);
 
-        Object obj = generator.generate(modelContext.getRandom());
-
-        // Some generators return a different type than the target class,
-        // e.g. URLGenerator returns a java.net.URL object.
-        // However, the @URL annotation is only applicable to strings.
-        // There might be other types that need to be handled as well,
-        // but so far string seems to be sufficient
-        if (node.getTargetClass() == String.class) {
-            obj = obj.toString();
-        }
-        // It's possible an annotation is placed on a field that
-        // doesn't support it. To avoid an error in such cases,
-        // re-generate the value for the given node using a generator
-        // matching the target class, rather than the primary annotation
-        else if (!isObjectAssignableToNode(node, obj)) {
-            final Generator<?> builtInGenerator = generatorResolver.get(node);
-            obj = builtInGenerator.generate(modelContext.getRandom());
-        }
-
-        final Object processed = stringPostProcessor.process(obj, node, generator);
-        return GeneratorResult.create(processed, generator.hints());
+        return new AnnotatedNodeGenerator(generator, generatorResolver);
     }
 
     private void invokeAnnotationHandlerMethods(
@@ -205,6 +225,35 @@ final class AnnotationNodeHandler implements NodeHandler {
         }
     }
 
+    /**
+     * Generator configured from a node's annotations.
+     */
+    private static final class AnnotatedNodeGenerator {
+        private static final AnnotatedNodeGenerator NONE = new AnnotatedNodeGenerator(null, null);
+
+        private final Generator<?> generator;
+        private final GeneratorResolver generatorResolver;
+
+        /**
+         * Built-in generator for the node's target class, resolved
+         * lazily if the annotation-derived generator produces
+         * a value that is not assignable to the node.
+         */
+        private Generator<?> fallbackGenerator;
+
+        AnnotatedNodeGenerator(final Generator<?> generator, final GeneratorResolver generatorResolver) {
+            this.generator = generator;
+            this.generatorResolver = generatorResolver;
+        }
+
+        Generator<?> getFallbackGenerator(final InternalNode node) {
+            if (fallbackGenerator == null) {
+                fallbackGenerator = generatorResolver.get(node);
+            }
+            return fallbackGenerator;
+        }
+    }
+
     private static final class AnnotatedMethod {
         private final AnnotationProcessor processor;
         private final Method method;
@@ -19,15 +19,18 @@ import org.instancio.TargetSelector;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.InternalNode;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A store for keeping track of generated values for destination
@@ -43,7 +46,12 @@ public class AssigmentObjectStore implements GenerationListener {
     private final Deque<Object> scopes = new ArrayDeque<>();
     private final ModelContext<?> context;
 
-    private boolean hasNewValues;
+    // Destination selectors that received values since they were last polled.
+    // Kept in insertion order so that generation is reproducible for a given seed
+    private final Deque<TargetSelector> newValueDestinations = new ArrayDeque<>();
+    private final Set<TargetSelector> pendingDestinations = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private TargetSelector lastMissingDestination;
 
     private AssigmentObjectStore(final ModelContext<?> context) {
         this.context = context;
@@ -57,9 +65,35 @@ public class AssigmentObjectStore implements GenerationListener {
     }
 
     public boolean hasNewValues() {
-        final boolean tmp = hasNewValues;
-        hasNewValues = false;
-        return tmp;
+        return !newValueDestinations.isEmpty();
+    }
+
+    /**
+     * Returns the next destination selector for which a value
+     * was stored since the last call to this method.
+     *
+     * @return destination selector, or {@code null} if there are no new values
+     */
+    @Nullable
+    public TargetSelector pollNewValueDestination() {
+        final TargetSelector destination = newValueDestinations.pollFirst();
+        if (destination != null) {
+            pendingDestinations.remove(destination);
+        }
+        return destination;
+    }
+
+    /**
+     * Returns the destination selector of the most recent
+     * {@link #getValue(TargetSelector)} call that did not find a value.
+     * Since a node is delayed when a value is not found, this is
+     * the selector that the most recently delayed node is waiting on.
+     *
+     * @return the destination selector, or {@code null} if none
+     */
+    @Nullable
+    public TargetSelector getLastMissingDestination() {
+        return lastMissingDestination;
     }
 
     public void enterScope() {
@@ -97,6 +131,7 @@ public class AssigmentObjectStore implements GenerationListener {
             }
         }
 
+        lastMissingDestination = destination;
         return null;
     }
 
@@ -106,7 +141,10 @@ public class AssigmentObjectStore implements GenerationListener {
                 objectStore.computeIfAbsent(scope, k -> new IdentityHashMap<>());
 
         destinationValues.put(selector, generatedValue);
-        hasNewValues = true;
+
+        if (pendingDestinations.add(selector)) {
+            newValueDestinations.addLast(selector);
+        }
     }
 
     //@formatter:off
@@ -114,6 +152,8 @@ public class AssigmentObjectStore implements GenerationListener {
     static final class NoopAssigmentObjectStore extends AssigmentObjectStore {
         NoopAssigmentObjectStore() { super(null); }
         @Override public boolean hasNewValues() { return false; }
+        @Override public TargetSelector pollNewValueDestination() { return null; }
+        @Override public TargetSelector getLastMissingDestination() { return null; }
         @Override public void enterScope() { /* no-op */ }
         @Override public void exitScope() { /* no-op */ }
         @Override public void objectCreated(InternalNode node, GeneratorResult result) { /* no-op */ }
@@ -25,6 +25,8 @@ import org.instancio.internal.generator.SpiGeneratorResolver;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Format;
+import org.instancio.spi.GenerationMetrics.Strategy;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,9 +42,16 @@ public class GeneratorFacade {
     private final NodeHandler userSuppliedGeneratorHandler;
     private final GeneratedPojoStore generatedPojoStore;
     private final List<NodeHandler> nodeHandlers = new ArrayList<>();
+    private final List<Strategy> nodeHandlerStrategies = new ArrayList<>();
+    private final InternalGenerationMetrics metrics;
+
+    public GeneratorFacade(
+            final ModelContext<?> context,
+            final AssigmentObjectStore assigmentObjectStore,
+            @Nullable final InternalGenerationMetrics metrics) {
 
-    public GeneratorFacade(final ModelContext<?> context, final AssigmentObjectStore assigmentObjectStore) {
         this.context = context;
+        this.metrics = metrics;
         this.generatedPojoStore = GeneratedPojoStore.createStore(context);
 
         final GeneratorContext generatorContext = new GeneratorContext(
@@ -59,18 +68,19 @@ public class GeneratorFacade {
         userSuppliedGeneratorHandler = UserSuppliedGeneratorHandler.create(context, userSuppliedGeneratorProcessor);
 
         // handlers in order of precedence, starting from highest
-        addHandler(assignmentNodeHandler);
-        addHandler(userSuppliedGeneratorHandler);
-        addHandler(new SpiGeneratorNodeHandler(context, spiGeneratorResolver));
-        addHandler(AnnotationNodeHandler.create(context, generatorResolver));
-        addHandler(new UsingGeneratorResolverHandler(context, generatorResolver));
-        addHandler(new InstantiatingHandler(context));
+        addHandler(assignmentNodeHandler, Strategy.ASSIGNMENT);
+        addHandler(userSuppliedGeneratorHandler, Strategy.USER_SUPPLIED);
+        addHandler(new SpiGeneratorNodeHandler(context, spiGeneratorResolver), Strategy.SPI_GENERATOR);
+        addHandler(AnnotationNodeHandler.create(context, generatorResolver), Strategy.ANNOTATION);
+        addHandler(new UsingGeneratorResolverHandler(context, generatorResolver), Strategy.BUILT_IN_GENERATOR);
+        addHandler(new InstantiatingHandler(context), Strategy.INSTANTIATED);
     }
 
     @SuppressWarnings("PMD.CompareObjectsWithEquals")
-    private void addHandler(final NodeHandler handler) {
+    private void addHandler(final NodeHandler handler, final Strategy strategy) {
         if (handler != NodeHandler.NOOP_HANDLER) {
             nodeHandlers.add(handler);
+            nodeHandlerStrategies.add(strategy);
         }
     }
 
@@ -97,7 +107,17 @@ public class GeneratorFacade {
 
     private boolean shouldReturnNullForNullable(final InternalNode node) {
         final boolean precondition = context.isNullable(node);
-        return context.getRandom().diceRoll(precondition);
+        final boolean isNull = context.getRandom().diceRoll(precondition);
+        if (isNull && metrics != null) {
+            metrics.nullResult();
+        }
+        return isNull;
+    }
+
+    private void recordObjectCreated(final GeneratorResult result, final Strategy strategy) {
+        if (metrics != null && result.isNormal() && !result.containsNull()) {
+            metrics.objectCreated(strategy);
+        }
     }
 
     @SuppressWarnings("PMD.CognitiveComplexity")
@@ -111,20 +131,25 @@ public class GeneratorFacade {
         } else if (node.isCyclic()) {
             // Cyclic nodes can only be generated by a subset of handlers
             result = assignmentNodeHandler.getResult(node);
+            Strategy strategy = Strategy.ASSIGNMENT;
 
             if (result.isEmpty()) {
                 result = userSuppliedGeneratorHandler.getResult(node);
+                strategy = Strategy.USER_SUPPLIED;
             }
             if (result.isEmpty()) {
                 // if Keys.SET_BACK_REFERENCES is enabled, attempt to
                 // set value to parent object
                 result = generatedPojoStore.getParentObject(node);
+                strategy = Strategy.BACK_REFERENCE;
             }
+            recordObjectCreated(result, strategy);
         } else {
-            for (NodeHandler handler : nodeHandlers) {
-                result = handler.getResult(node);
+            for (int i = 0; i < nodeHandlers.size(); i++) {
+                result = nodeHandlers.get(i).getResult(node);
 
                 if (!result.isEmpty() || result.isDelayed()) {
+                    recordObjectCreated(result, nodeHandlerStrategies.get(i));
                     break;
                 }
             }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generation;
+
+import org.instancio.spi.GenerationMetrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * Collects metrics for a single root object. An instance is only created
+ * if a metrics listener is registered; otherwise the engine holds
+ * a {@code null} reference and skips collection entirely.
+ *
+ * <p>Not thread-safe, since each root object is generated by a single thread.
+ */
+public final class InternalGenerationMetrics implements GenerationMetrics {
+
+    private final Type rootType;
+    private final long modelBuildNanos;
+    private final long[] objectsCreated = new long[Strategy.values().length];
+    private long nodesVisited;
+    private long filterRejections;
+    private long retries;
+    private long delayedNodes;
+    private long nullResults;
+    private long generationNanos;
+
+    public InternalGenerationMetrics(final Type rootType, final long modelBuildNanos) {
+        this.rootType = rootType;
+        this.modelBuildNanos = modelBuildNanos;
+    }
+
+    public void nodeVisited() {
+        nodesVisited++;
+    }
+
+    public void objectCreated(final Strategy strategy) {
+        objectsCreated[strategy.ordinal()]++;
+    }
+
+    public void filterRejected() {
+        filterRejections++;
+    }
+
+    public void retried() {
+        retries++;
+    }
+
+    public void nodeDelayed() {
+        delayedNodes++;
+    }
+
+    public void nullResult() {
+        nullResults++;
+    }
+
+    public void setGenerationNanos(final long generationNanos) {
+        this.generationNanos = generationNanos;
+    }
+
+    @Override
+    public Type getRootType() {
+        return rootType;
+    }
+
+    @Override
+    public long getNodesVisited() {
+        return nodesVisited;
+    }
+
+    @Override
+    public long getObjectsCreated(final Strategy strategy) {
+        return objectsCreated[strategy.ordinal()];
+    }
+
+    @Override
+    public long getFilterRejections() {
+        return filterRejections;
+    }
+
+    @Override
+    public long getRetries() {
+        return retries;
+    }
+
+    @Override
+    public long getDelayedNodes() {
+        return delayedNodes;
+    }
+
+    @Override
+    public long getNullResults() {
+        return nullResults;
+    }
+
+    @Override
+    public long getModelBuildNanos() {
+        return modelBuildNanos;
+    }
+
+    @Override
+    public long getGenerationNanos() {
+        return generationNanos;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(256)
+                .append("GenerationMetrics[rootType=").append(rootType.getTypeName())
+                .append(", nodesVisited=").append(nodesVisited)
+                .append(", objectsCreated={");
+
+        String separator = "";
+        for (Strategy strategy : Strategy.values()) {
+            if (objectsCreated[strategy.ordinal()] > 0) {
+                sb.append(separator).append(strategy).append('=').append(objectsCreated[strategy.ordinal()]);
+                separator = ", ";
+            }
+        }
+        return sb.append("}, filterRejections=").append(filterRejections)
+                .append(", retries=").append(retries)
+                .append(", delayedNodes=").append(delayedNodes)
+                .append(", nullResults=").append(nullResults)
+                .append(", modelBuildNanos=").append(modelBuildNanos)
+                .append(", generationNanos=").append(generationNanos)
+                .append(']')
+                .toString();
+    }
+}
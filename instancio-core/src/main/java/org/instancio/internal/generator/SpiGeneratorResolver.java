@@ -35,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
 
@@ -47,6 +48,13 @@ public class SpiGeneratorResolver {
     private final List<ProviderEntry<GeneratorProvider>> providerEntries;
     private final AfterGenerate afterGenerate;
 
+    /**
+     * Cached results of {@link #getSpiGenerator(InternalNode)}, including
+     * {@code null} values for nodes that have no SPI generator.
+     * The cache is held by the model context, so it outlives this resolver.
+     */
+    private final Map<InternalNode, Generator<?>> generatorCache;
+
     public SpiGeneratorResolver(
             final ModelContext<?> modelContext,
             final GeneratorContext generatorContext,
@@ -57,23 +65,61 @@ public class SpiGeneratorResolver {
         this.generatorResolver = generatorResolver;
         this.providerEntries = modelContext.getServiceProviders().getGeneratorProviders();
         this.afterGenerate = modelContext.getSettings().get(Keys.AFTER_GENERATE_HINT);
+        this.generatorCache = modelContext.getNodeCache(SpiGeneratorResolver.class);
     }
 
-    @SuppressWarnings({"PMD.AvoidBranchingStatementAsLastInLoop", Sonar.GENERIC_WILDCARD_IN_RETURN})
+    /**
+     * Returns a generator for the given node from {@link GeneratorProvider}
+     * implementations. The result is cached per node unless one of the
+     * providers consulted to resolve it is not cacheable.
+     *
+     * @param node to resolve the generator for
+     * @return SPI generator, or {@code null} if none of the providers
+     * returned a generator for the given node
+     * @see GeneratorProvider#isCacheable()
+     */
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public Generator<?> getSpiGenerator(final InternalNode node) {
-        for (ProviderEntry<GeneratorProvider> entry : providerEntries) {
-            final GeneratorSpec<?> spec = entry.getProvider().getGenerator(node, generators);
+        if (providerEntries.isEmpty()) {
+            return null;
+        }
+
+        Generator<?> generator = generatorCache.get(node);
 
-            if (spec != null) {
-                validateSpec(entry, spec);
-                LOG.trace("Custom generator '{}' found for {}", spec.getClass().getName(), node);
+        if (generator == null && !generatorCache.containsKey(node)) {
+            boolean cacheable = true;
 
-                final Generator<?> generator = processGenerator((Generator<?>) spec, node);
-                generator.init(generatorContext);
-                return GeneratorDecorator.decorateIfNullAfterGenerate(generator, afterGenerate);
+            for (ProviderEntry<GeneratorProvider> entry : providerEntries) {
+                final GeneratorProvider provider = entry.getProvider();
+                cacheable &= provider.isCacheable();
+                generator = resolveGenerator(entry, node);
+
+                if (generator != null) {
+                    break;
+                }
+            }
+
+            if (cacheable) {
+                generatorCache.put(node, generator);
             }
         }
-        return null;
+        return generator;
+    }
+
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    private Generator<?> resolveGenerator(final ProviderEntry<GeneratorProvider> entry, final InternalNode node) {
+        final GeneratorSpec<?> spec = entry.getProvider().getGenerator(node, generators);
+
+        if (spec == null) {
+            return null;
+        }
+
+        validateSpec(entry, spec);
+        LOG.trace("Custom generator '{}' found for {}", spec.getClass().getName(), node);
+
+        final Generator<?> generator = processGenerator((Generator<?>) spec, node);
+        generator.init(generatorContext);
+        return GeneratorDecorator.decorateIfNullAfterGenerate(generator, afterGenerate);
     }
 
     /**
@@ -32,14 +32,17 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
         implements EnumSpec<E> {
 
     private final Class<E> enumClass;
-    private final Set<E> values;
-    private Set<E> valuesWithExclusions;
+
+    /**
+     * Candidate values in ordinal order, with exclusions applied,
+     * to allow selecting a random value by index.
+     */
+    private E[] values;
 
     public EnumGenerator(final GeneratorContext context, final Class<E> enumClass) {
         super(context);
         this.enumClass = ApiValidator.notNull(enumClass, "enum class must not be null");
-        this.values = EnumSet.allOf(enumClass);
-        this.valuesWithExclusions = EnumSet.noneOf(enumClass);
+        this.values = enumClass.getEnumConstants();
     }
 
     @Override
@@ -54,7 +57,13 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
 
         // Allow passing empty array, meaning 'no exclusions'
         if (values.length > 0) {
-            valuesWithExclusions = EnumSet.complementOf(EnumSet.copyOf(Arrays.asList(values)));
+            final Set<E> valuesWithExclusions = EnumSet.complementOf(EnumSet.copyOf(Arrays.asList(values)));
+
+            // If all values are excluded, fall back to selecting from all values
+            final E[] allValues = enumClass.getEnumConstants();
+            this.values = valuesWithExclusions.isEmpty()
+                    ? allValues
+                    : valuesWithExclusions.toArray(Arrays.copyOf(allValues, 0));
         }
         return this;
     }
@@ -67,12 +76,10 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
 
     @Override
     protected E tryGenerateNonNull(final Random random) {
-        if (values.isEmpty()) {
+        if (values.length == 0) {
             return null;
         }
-        return valuesWithExclusions.isEmpty()
-                ? random.oneOf(values)
-                : random.oneOf(valuesWithExclusions);
+        return values[random.intRange(0, values.length - 1)];
     }
 
     @Override
@@ -22,16 +22,13 @@ import org.instancio.generator.specs.StringSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.specs.InternalLengthGeneratorSpec;
-import org.instancio.internal.util.Constants;
+import org.instancio.internal.util.CodePointTable;
 import org.instancio.internal.util.NumberUtils;
 import org.instancio.internal.util.UnicodeBlocks;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Locale;
 
 @SuppressWarnings("PMD.GodClass")
@@ -46,7 +43,12 @@ public class StringGenerator extends AbstractGenerator<String>
     private String suffix;
     private StringType stringType;
     private StringCase stringCase;
-    private List<Character.UnicodeBlock> unicodeBlocks = Collections.emptyList();
+
+    /**
+     * Valid code points of the blocks specified via {@link #unicode(Character.UnicodeBlock...)},
+     * or an empty array if code points should be selected from the default range.
+     */
+    private CodePointTable[] unicodeTables = new CodePointTable[0];
 
     /**
      * Delegate for internal use only. It is used to support Bean Validation.
@@ -201,7 +203,14 @@ public class StringGenerator extends AbstractGenerator<String>
     @Override
     public StringGenerator unicode(Character.UnicodeBlock... blocks) {
         stringType = StringType.UNICODE;
-        unicodeBlocks = Arrays.asList(blocks);
+        unicodeTables = new CodePointTable[blocks.length];
+        for (int i = 0; i < blocks.length; i++) {
+            final Character.UnicodeBlock block = ApiValidator.notNull(blocks[i], "unicode block must not be null");
+            final CodePointTable table = UnicodeBlocks.getInstance().getCodePointTable(block);
+            ApiValidator.isTrue(table != null && !table.isEmpty(),
+                    "unicode block %s contains only private-use, surrogate, or unassigned code points", block);
+            unicodeTables[i] = table;
+        }
         return this;
     }
 
@@ -251,32 +260,22 @@ public class StringGenerator extends AbstractGenerator<String>
         return new String(s);
     }
 
-    @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
     private String generateUnicodeString(final Random random, final int length) {
         final StringBuilder sb = new StringBuilder(length);
 
-        for (int i = 0; i < length; ) {
-            final int codePoint = getCodePoint(random);
-            int type = Character.getType(codePoint);
-            if (type == Character.PRIVATE_USE
-                    || type == Character.SURROGATE
-                    || type == Character.UNASSIGNED) {
-                continue;
-            }
-
-            sb.appendCodePoint(codePoint);
-            i++; // NOSONAR
+        for (int i = 0; i < length; i++) {
+            sb.appendCodePoint(getCodePointTable(random).nextCodePoint(random));
         }
         return sb.toString();
     }
 
-    private int getCodePoint(final Random random) {
-        if (unicodeBlocks.isEmpty()) {
-            return random.intRange(0, Constants.MAX_CODE_POINT);
+    private CodePointTable getCodePointTable(final Random random) {
+        if (unicodeTables.length == 0) {
+            return CodePointTable.getDefault();
         }
-        final Character.UnicodeBlock block = random.oneOf(unicodeBlocks);
-        final UnicodeBlocks.BlockRange range = UnicodeBlocks.getInstance().getRange(block);
-        return random.intRange(range.min(), range.max());
+        return unicodeTables.length == 1
+                ? unicodeTables[0]
+                : unicodeTables[random.intRange(0, unicodeTables.length - 1)];
     }
 
     private char[] getStringCharacters() {
@@ -22,6 +22,9 @@ import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.util.Fail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class TextPatternGenerator extends AbstractGenerator<String>
         implements TextPatternSpec {
 
@@ -34,19 +37,25 @@ public class TextPatternGenerator extends AbstractGenerator<String>
             + "%n\t#H - upper case hexadecimal character [A-F, 0-9]"
             + "%n\t## - hash symbol escape%n");
 
-    private static final char ALNUM_CHAR = 'a';
-    private static final char LCASE_CHAR = 'c';
-    private static final char UCASE_CHAR = 'C';
-    private static final char LCASE_HEX_CHAR = 'h';
-    private static final char UCASE_HEX_CHAR = 'H';
-    private static final char DIGIT = 'd';
     private static final char HASH = '#';
-    private final String pattern;
+
+    /**
+     * The pattern compiled into a sequence of operations,
+     * each of which appends one or more characters.
+     */
+    private final PatternOp[] ops;
+
+    /**
+     * The length of every string generated from the pattern.
+     */
+    private final int length;
     private boolean allowEmpty;
 
     public TextPatternGenerator(GeneratorContext context, final String pattern) {
         super(context);
-        this.pattern = ApiValidator.notNull(pattern, "Text pattern must not be null");
+        ApiValidator.notNull(pattern, "Text pattern must not be null");
+        this.ops = compile(pattern);
+        this.length = computeLength(ops);
     }
 
     @Override
@@ -67,48 +76,169 @@ public class TextPatternGenerator extends AbstractGenerator<String>
     }
 
     @Override
-    @SuppressWarnings("PMD.CyclomaticComplexity")
     protected String tryGenerateNonNull(final Random random) {
         if (random.diceRoll(allowEmpty)) {
             return "";
         }
 
-        final StringBuilder res = new StringBuilder(pattern.length());
-        final char[] p = pattern.toCharArray();
+        final char[] res = new char[length];
+        int pos = 0;
+        for (PatternOp op : ops) {
+            pos = op.apply(random, res, pos);
+        }
+        return new String(res);
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static int computeLength(final PatternOp[] ops) {
+        int length = 0;
+        for (PatternOp op : ops) {
+            length += op.length();
+        }
+        return length;
+    }
+
+    /**
+     * Parses the pattern into literal runs and character class operations.
+     * Errors are reported eagerly, so that an invalid pattern fails
+     * when the spec is created rather than when a value is generated.
+     */
+    private static PatternOp[] compile(final String pattern) {
+        final List<PatternOp> ops = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
 
         int i = 0;
-        while (i < p.length) {
-            final char c = p[i++];
-
-            if (c == HASH) {
-                ApiValidator.isFalse(i == p.length,
-                        "invalid text pattern '%s'. Expected a character after the last '#'", pattern);
-
-                final char tag = p[i++];
-                if (tag == ALNUM_CHAR) {
-                    res.append(random.alphanumericCharacter());
-                } else if (tag == LCASE_CHAR) {
-                    res.append(random.lowerCaseCharacter());
-                } else if (tag == UCASE_CHAR) {
-                    res.append(random.upperCaseCharacter());
-                } else if (tag == LCASE_HEX_CHAR) {
-                    res.append(Character.toLowerCase(upperCaseHexChar(random)));
-                } else if (tag == UCASE_HEX_CHAR) {
-                    res.append(upperCaseHexChar(random));
-                } else if (tag == DIGIT) {
-                    res.append(random.digits(1));
-                } else if (tag == HASH) {
-                    res.append(HASH);
-                } else {
-                    throw Fail.withUsageError("text pattern '" + pattern
-                            + "' contains an invalid hashtag '#" + tag + "'" + ALLOWED_HASHTAGS_MESSAGE);
-                }
-            } else {
-                res.append(c);
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i++);
+
+            if (c != HASH) {
+                literal.append(c);
+                continue;
+            }
+
+            ApiValidator.isFalse(i == pattern.length(),
+                    "invalid text pattern '%s'. Expected a character after the last '#'", pattern);
+
+            final char tag = pattern.charAt(i++);
+            if (tag == HASH) {
+                literal.append(HASH);
+                continue;
+            }
+
+            final CharClassOp op = CharClassOp.forTag(tag);
+            if (op == null) {
+                throw Fail.withUsageError("text pattern '" + pattern
+                        + "' contains an invalid hashtag '#" + tag + "'" + ALLOWED_HASHTAGS_MESSAGE);
+            }
+            if (literal.length() > 0) {
+                ops.add(new LiteralOp(literal.toString()));
+                literal.setLength(0);
+            }
+            ops.add(op);
+        }
+
+        if (literal.length() > 0) {
+            ops.add(new LiteralOp(literal.toString()));
+        }
+        return ops.toArray(new PatternOp[0]);
+    }
+
+    private interface PatternOp {
+
+        /**
+         * Writes this operation's characters to the buffer.
+         *
+         * @return position in the buffer after the written characters
+         */
+        int apply(Random random, char[] buf, int pos);
+
+        int length();
+    }
+
+    private static final class LiteralOp implements PatternOp {
+        private final String text;
+
+        LiteralOp(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int apply(final Random random, final char[] buf, final int pos) {
+            text.getChars(0, text.length(), buf, pos);
+            return pos + text.length();
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+    }
+
+    private enum CharClassOp implements PatternOp {
+        ALPHANUMERIC('a') {
+            @Override
+            char next(final Random random) {
+                return random.alphanumericCharacter();
+            }
+        },
+        LOWER_CASE('c') {
+            @Override
+            char next(final Random random) {
+                return random.lowerCaseCharacter();
+            }
+        },
+        UPPER_CASE('C') {
+            @Override
+            char next(final Random random) {
+                return random.upperCaseCharacter();
+            }
+        },
+        LOWER_CASE_HEX('h') {
+            @Override
+            char next(final Random random) {
+                return Character.toLowerCase(upperCaseHexChar(random));
             }
+        },
+        UPPER_CASE_HEX('H') {
+            @Override
+            char next(final Random random) {
+                return upperCaseHexChar(random);
+            }
+        },
+        DIGIT('d') {
+            @Override
+            char next(final Random random) {
+                return random.characterRange('0', '9');
+            }
+        };
+
+        private final char tag;
+
+        CharClassOp(final char tag) {
+            this.tag = tag;
+        }
+
+        abstract char next(Random random);
+
+        @Override
+        public int apply(final Random random, final char[] buf, final int pos) {
+            buf[pos] = next(random);
+            return pos + 1;
+        }
+
+        @Override
+        public int length() {
+            return 1;
         }
 
-        return res.toString();
+        static CharClassOp forTag(final char tag) {
+            for (CharClassOp op : values()) {
+                if (op.tag == tag) {
+                    return op;
+                }
+            }
+            return null;
+        }
     }
 
     private static char upperCaseHexChar(final Random random) {
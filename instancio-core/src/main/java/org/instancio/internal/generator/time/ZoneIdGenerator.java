@@ -23,6 +23,9 @@ import java.time.ZoneId;
 
 public class ZoneIdGenerator extends AbstractGenerator<ZoneId> {
 
+    // getAvailableZoneIds() returns a new set on each invocation
+    private static final String[] ZONE_IDS = ZoneId.getAvailableZoneIds().toArray(new String[0]);
+
     public ZoneIdGenerator(final GeneratorContext context) {
         super(context);
     }
@@ -34,6 +37,6 @@ public class ZoneIdGenerator extends AbstractGenerator<ZoneId> {
 
     @Override
     protected ZoneId tryGenerateNonNull(final Random random) {
-        return ZoneId.of(random.oneOf(ZoneId.getAvailableZoneIds()));
+        return ZoneId.of(random.oneOf(ZONE_IDS));
     }
 }
@@ -27,8 +27,10 @@ import org.instancio.internal.util.NumberUtils;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.Sonar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 public class EnumSetGenerator<E extends Enum<E>> extends AbstractGenerator<Set<E>> implements EnumSetGeneratorSpec<E> {
@@ -107,6 +109,26 @@ public class EnumSetGenerator<E extends Enum<E>> extends AbstractGenerator<Set<E
         return null;
     }
 
+    /**
+     * Selects up to {@code size} distinct values from the given choices.
+     * Choices are copied to a list (preserving the set's iteration order)
+     * so that each value can be selected and removed by index.
+     */
+    private static <E extends Enum<E>> Set<E> selectRandom(
+            final Class<E> targetClass,
+            final Set<E> choices,
+            final int size,
+            final Random random) {
+
+        final List<E> remaining = new ArrayList<>(choices);
+        final Set<E> result = EnumSet.noneOf(targetClass);
+
+        while (result.size() < size && !remaining.isEmpty()) {
+            result.add(remaining.remove(random.intRange(0, remaining.size() - 1)));
+        }
+        return result;
+    }
+
     private Set<E> createEnumSet(final Class<E> targetClass, final Random random) {
 
         if (CollectionUtils.isNullOrEmpty(including) && CollectionUtils.isNullOrEmpty(excluding)) {
@@ -114,14 +136,7 @@ public class EnumSetGenerator<E extends Enum<E>> extends AbstractGenerator<Set<E
             final int min = ObjectUtils.defaultIfNull(minSize, 1);
             final int max = ObjectUtils.defaultIfNull(maxSize, choices.size());
             final int size = random.intRange(min, max);
-            final Set<E> result = EnumSet.noneOf(targetClass);
-
-            while (result.size() < size && !choices.isEmpty()) {
-                final E next = random.oneOf(choices);
-                result.add(next);
-                choices.remove(next);
-            }
-            return result;
+            return selectRandom(targetClass, choices, size, random);
         }
 
         if (!CollectionUtils.isNullOrEmpty(including)) {
@@ -129,15 +144,7 @@ public class EnumSetGenerator<E extends Enum<E>> extends AbstractGenerator<Set<E
             final int max = ObjectUtils.defaultIfNull(maxSize, including.size());
             final int size = random.intRange(min, max);
 
-            final Set<E> result = EnumSet.noneOf(targetClass);
-            final Set<E> choices = EnumSet.copyOf(including);
-
-            while (result.size() < size && !choices.isEmpty()) {
-                final E next = random.oneOf(choices);
-                result.add(next);
-                choices.remove(next);
-            }
-            return result;
+            return selectRandom(targetClass, including, size, random);
         }
 
         Set<E> result = EnumSet.allOf(targetClass);
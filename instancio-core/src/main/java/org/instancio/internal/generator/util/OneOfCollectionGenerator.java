@@ -25,7 +25,7 @@ import java.util.Collection;
 
 public class OneOfCollectionGenerator<T> extends AbstractGenerator<T> implements OneOfCollectionSpec<T> {
 
-    private Collection<T> values;
+    private Object[] values;
 
     public OneOfCollectionGenerator(final GeneratorContext context) {
         super(context);
@@ -38,7 +38,10 @@ public class OneOfCollectionGenerator<T> extends AbstractGenerator<T> implements
 
     @Override
     public OneOfCollectionGenerator<T> oneOf(final Collection<T> values) {
-        this.values = ApiValidator.notEmpty(values, "Collection must have at least one element");
+        ApiValidator.notEmpty(values, "Collection must have at least one element");
+        // Copy to an array to support selecting elements by index
+        // regardless of the collection type
+        this.values = values.toArray();
         return this;
     }
 
@@ -49,7 +52,8 @@ public class OneOfCollectionGenerator<T> extends AbstractGenerator<T> implements
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T tryGenerateNonNull(final Random random) {
-        return random.oneOf(values);
+        return (T) values[random.intRange(0, values.length - 1)];
     }
 }
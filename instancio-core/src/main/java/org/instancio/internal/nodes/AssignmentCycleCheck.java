@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.internal.assignment.AssignmentErrorUtil;
+import org.instancio.internal.assignment.InternalAssignment;
+import org.instancio.internal.util.Fail;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports assignment cycles that can never be resolved
+ * before any objects are generated.
+ *
+ * @see AssignmentDependencyGraph
+ */
+final class AssignmentCycleCheck {
+
+    private final NodeContext nodeContext;
+
+    // destination -> origin whose value is required to generate the destination
+    private final Map<InternalNode, InternalNode> requiredOrigins;
+    private final Map<InternalNode, InternalAssignment> requiredAssignments;
+
+    AssignmentCycleCheck(
+            final NodeContext nodeContext,
+            final Map<InternalNode, InternalNode> requiredOrigins,
+            final Map<InternalNode, InternalAssignment> requiredAssignments) {
+
+        this.nodeContext = nodeContext;
+        this.requiredOrigins = requiredOrigins;
+        this.requiredAssignments = requiredAssignments;
+    }
+
+    /**
+     * Fails if any of the given destinations is part of an unresolvable cycle.
+     *
+     * @param destinationNodes nodes that are destinations of assignments
+     */
+    void check(final List<InternalNode> destinationNodes) {
+        final Map<InternalNode, Boolean> visited = new IdentityHashMap<>();
+
+        for (InternalNode start : destinationNodes) {
+            final List<InternalNode> path = new ArrayList<>();
+            InternalNode node = start;
+
+            while (node != null && visited.put(node, Boolean.TRUE) == null) {
+                path.add(node);
+                node = requiredOrigins.get(node);
+            }
+
+            final int cycleStart = node == null ? -1 : indexOf(path, node);
+
+            if (cycleStart != -1) {
+                final List<InternalNode> cycle = path.subList(cycleStart, path.size());
+
+                if (isUnresolvable(cycle)) {
+                    final List<InternalAssignment> assignments = new ArrayList<>(cycle.size());
+                    for (InternalNode cycleNode : cycle) {
+                        assignments.add(requiredAssignments.get(cycleNode));
+                    }
+                    throw Fail.withUnresolvedAssignment(
+                            AssignmentErrorUtil.getAssignmentCycleErrorMessage(assignments, cycle));
+                }
+            }
+        }
+    }
+
+    /**
+     * A cycle is only reported if it is guaranteed to fail during generation.
+     * It can be resolved at generation time if any of its nodes is assigned
+     * a value by other means, for instance, if the node is nullable,
+     * or it is a pre-initialised field that is not overwritten.
+     */
+    private boolean isUnresolvable(final List<InternalNode> cycle) {
+        final Settings settings = nodeContext.getSettings();
+
+        if (!settings.get(Keys.OVERWRITE_EXISTING_VALUES)
+                || settings.get(Keys.ASSIGNMENT_TYPE) == AssignmentType.METHOD
+                || nodeContext.hasGeneratorProviders()) {
+            return false;
+        }
+
+        for (InternalNode node : cycle) {
+            if (!isAlwaysGenerated(node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the node is always generated as part of its parent object.
+     * This is not the case if it is within a collection, or if any of its
+     * ancestors are nullable or created by a generator. The path is checked
+     * starting from the root, so that only selectors for nodes that
+     * will be generated are looked up.
+     */
+    private boolean isAlwaysGenerated(final InternalNode node) {
+        final Deque<InternalNode> path = new ArrayDeque<>();
+        for (InternalNode current = node; current != null; current = current.getParent()) {
+            path.push(current);
+        }
+
+        for (InternalNode current : path) {
+            if (nodeContext.isNullable(current)) {
+                return false;
+            }
+            if (current != node && (!AssignmentDependencyGraph.isPojoOrRecord(current) || nodeContext.hasGenerator(current))) { // NOPMD
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(final List<InternalNode> nodes, final InternalNode node) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i) == node) { // NOPMD
+                return i;
+            }
+        }
+        return -1;
+    }
+}
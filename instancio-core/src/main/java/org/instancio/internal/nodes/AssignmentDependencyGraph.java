@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.TargetSelector;
+import org.instancio.internal.assignment.InternalAssignment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes dependencies between assignment origin and destination nodes
+ * once the node hierarchy has been created. The dependencies are used to:
+ *
+ * <ul>
+ *   <li>reorder children of POJOs and records, so that a child containing
+ *       an origin is generated before a sibling containing its destination
+ *       (see {@link SiblingOrder});</li>
+ *   <li>report assignment cycles that can never be resolved
+ *       before any objects are generated (see {@link AssignmentCycleCheck}).</li>
+ * </ul>
+ *
+ * <p>Dependencies that cannot be satisfied by reordering siblings,
+ * for example, if the destination is a descendant of the origin,
+ * or the siblings depend on each other, are left to the engine,
+ * which delays such nodes until the origin value becomes available.
+ */
+final class AssignmentDependencyGraph {
+
+    private final NodeContext nodeContext;
+    private final Map<TargetSelector, InternalNode> originNodes = new HashMap<>();
+    private final List<InternalNode> destinationNodes = new ArrayList<>();
+
+    // destination -> origin whose value is required to generate the destination
+    private final Map<InternalNode, InternalNode> requiredOrigins = new IdentityHashMap<>();
+    private final Map<InternalNode, InternalAssignment> requiredAssignments = new IdentityHashMap<>();
+
+    // parent -> (child -> siblings that should be generated after the child)
+    private final Map<InternalNode, Map<InternalNode, Set<InternalNode>>> siblingDependencies = new IdentityHashMap<>();
+
+    private AssignmentDependencyGraph(final NodeContext nodeContext) {
+        this.nodeContext = nodeContext;
+    }
+
+    static void resolve(final NodeContext nodeContext, final InternalNode root) {
+        final AssignmentDependencyGraph graph = new AssignmentDependencyGraph(nodeContext);
+        graph.collectNodes(root);
+
+        for (InternalNode destination : graph.destinationNodes) {
+            graph.addDependencies(destination);
+        }
+
+        new AssignmentCycleCheck(nodeContext, graph.requiredOrigins, graph.requiredAssignments)
+                .check(graph.destinationNodes);
+        graph.siblingDependencies.forEach(SiblingOrder::apply);
+    }
+
+    private void collectNodes(final InternalNode root) {
+        final Deque<InternalNode> stack = new ArrayDeque<>();
+        stack.push(root);
+
+        while (!stack.isEmpty()) {
+            final InternalNode node = stack.pop();
+
+            if (node.isIgnored()) {
+                continue;
+            }
+
+            for (TargetSelector selector : nodeContext.getAssignmentOriginSelectors(node)) {
+                originNodes.putIfAbsent(selector, node);
+            }
+
+            if (!nodeContext.peekAssignments(node).isEmpty()) {
+                destinationNodes.add(node);
+            }
+
+            final List<InternalNode> children = node.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+    }
+
+    /**
+     * Mirrors the evaluation performed by the {@code AssignmentNodeHandler}:
+     * assignments are evaluated starting from the last one, and evaluation
+     * stops at an unconditional assignment since it does not require an origin.
+     * The first evaluated assignment always requires its origin value.
+     */
+    private void addDependencies(final InternalNode destination) {
+        final List<InternalAssignment> assignments = nodeContext.peekAssignments(destination);
+
+        for (int i = assignments.size() - 1; i >= 0; i--) {
+            final InternalAssignment assignment = assignments.get(i);
+
+            if (assignment.getOriginPredicate() == null && assignment.getGenerator() != null) {
+                break;
+            }
+
+            final InternalNode origin = originNodes.get(assignment.getOrigin());
+            if (origin == null) {
+                continue;
+            }
+
+            if (i == assignments.size() - 1) {
+                requiredOrigins.put(destination, origin);
+                requiredAssignments.put(destination, assignment);
+            }
+
+            addSiblingDependency(origin, destination);
+        }
+    }
+
+    private void addSiblingDependency(final InternalNode origin, final InternalNode destination) {
+        InternalNode before = origin;
+        InternalNode after = destination;
+
+        while (before.getDepth() > after.getDepth()) {
+            before = before.getParent();
+        }
+        while (after.getDepth() > before.getDepth()) {
+            after = after.getParent();
+        }
+        // origin and destination are on the same path,
+        // therefore reordering children will not help
+        if (before == after) { // NOPMD
+            return;
+        }
+        while (before.getParent() != after.getParent()) { // NOPMD
+            before = before.getParent();
+            after = after.getParent();
+        }
+
+        final InternalNode parent = before.getParent();
+
+        // children of containers are not generated in sequence
+        if (isPojoOrRecord(parent)) {
+            siblingDependencies
+                    .computeIfAbsent(parent, k -> new IdentityHashMap<>())
+                    .computeIfAbsent(before, k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(after);
+        }
+    }
+
+    static boolean isPojoOrRecord(final InternalNode node) {
+        return node.is(NodeKind.POJO) || node.is(NodeKind.RECORD);
+    }
+}
@@ -24,7 +24,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,6 +46,10 @@ public final class InternalNode implements Node {
     private final int depth;
     private final boolean cyclic;
     private List<InternalNode> children;
+    private List<InternalNode> generationOrder;
+
+    // non-null if creating children has been deferred until first access
+    private NodeFactory pendingChildrenFactory;
     private int hash;
 
     private InternalNode(final Builder builder) {
@@ -186,16 +192,73 @@ public final class InternalNode implements Node {
      * A node (including container nodes) may not have children in case of cyclic relationships.
      * An empty list would be returned to break the cycle.
      *
+     * <p>
+     * If lazy node creation is enabled, children are created
+     * when this method is called for the first time.
+     *
      * @return this node's children or an empty list if none
      */
     public List<InternalNode> getChildren() {
+        if (pendingChildrenFactory != null) {
+            final NodeFactory factory = pendingChildrenFactory;
+            pendingChildrenFactory = null; // NOPMD
+            factory.createChildrenOf(this);
+        }
         return children;
     }
 
+    /**
+     * Returns this node's children without creating
+     * them if their creation has been deferred.
+     *
+     * @return this node's children, or an empty list if
+     * none have been created
+     */
+    List<InternalNode> getCreatedChildren() {
+        return pendingChildrenFactory == null ? children : Collections.emptyList();
+    }
+
+    /**
+     * Defers creating this node's children until {@link #getChildren()}
+     * is called for the first time.
+     *
+     * @param factory for creating the children
+     */
+    void deferChildren(final NodeFactory factory) {
+        this.pendingChildrenFactory = factory;
+    }
+
+    /**
+     * Creates all descendants of this node whose creation has been deferred.
+     */
+    public void createDeferredDescendants() {
+        final Deque<InternalNode> queue = new ArrayDeque<>();
+        queue.add(this);
+
+        while (!queue.isEmpty()) {
+            queue.addAll(queue.poll().getChildren());
+        }
+    }
+
     void setChildren(final List<InternalNode> children) {
         this.children = children;
     }
 
+    /**
+     * Returns this node's children in the order in which they should be generated.
+     * This is the same as {@link #getChildren()} unless the children have been
+     * reordered so that assignment origins are generated before their destinations.
+     *
+     * @return children in generation order, or an empty list if none
+     */
+    public List<InternalNode> getGenerationOrder() {
+        return generationOrder == null ? getChildren() : generationOrder;
+    }
+
+    void setGenerationOrder(final List<InternalNode> generationOrder) {
+        this.generationOrder = Collections.unmodifiableList(generationOrder);
+    }
+
     /**
      * This method is used to determine if this is a cyclic node.
      */
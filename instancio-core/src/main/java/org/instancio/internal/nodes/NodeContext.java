@@ -20,6 +20,7 @@ import org.instancio.Random;
 import org.instancio.TargetSelector;
 import org.instancio.feed.Feed;
 import org.instancio.generator.Generator;
+import org.instancio.internal.assignment.InternalAssignment;
 import org.instancio.internal.context.BooleanSelectorMap;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.context.SelectorMap;
@@ -45,6 +46,7 @@ public final class NodeContext {
     private final BooleanSelectorMap ignoredSelectorMap;
     private final SubtypeSelectorMap subtypeSelectorMap;
     private final BooleanSelectorMap assignmentOriginSelectors;
+    private final boolean hasAssignments;
     private final Map<Class<?>, Class<?>> subtypeMappingFromSettings;
     private final TypeResolverFacade typeResolverFacade;
     private final List<InternalServiceProvider> internalServiceProviders;
@@ -58,6 +60,7 @@ public final class NodeContext {
         ignoredSelectorMap = modelContext.getIgnoreSelectorMap();
         subtypeSelectorMap = modelContext.getSubtypeSelectorMap();
         assignmentOriginSelectors = modelContext.getAssignmentOriginSelectorMap();
+        hasAssignments = modelContext.getSelectorMaps().hasAssignments();
         subtypeMappingFromSettings = settings.getSubtypeMap();
         internalServiceProviders = modelContext.getInternalServiceProviders();
         typeResolverFacade = new TypeResolverFacade(modelContext.getServiceProviders().getTypeResolvers());
@@ -83,6 +86,31 @@ public final class NodeContext {
         return assignmentOriginSelectors.getSelectorMap().getSelectors(node);
     }
 
+    boolean hasAssignments() {
+        return hasAssignments;
+    }
+
+    /**
+     * Returns assignments whose destination is the given node.
+     * Unlike most other lookups, this does not mark the matching
+     * selector as used, since the node may never be generated.
+     */
+    List<InternalAssignment> peekAssignments(final InternalNode node) {
+        return modelContext.peekAssignments(node);
+    }
+
+    boolean hasGenerator(final InternalNode node) {
+        return modelContext.getGenerator(node).isPresent();
+    }
+
+    boolean hasGeneratorProviders() {
+        return !modelContext.getServiceProviders().getGeneratorProviders().isEmpty();
+    }
+
+    boolean isNullable(final InternalNode node) {
+        return modelContext.isNullable(node);
+    }
+
     void putGenerator(final TargetSelector selector, final Generator<?> generator) {
         modelContext.putGenerator(selector, generator);
     }
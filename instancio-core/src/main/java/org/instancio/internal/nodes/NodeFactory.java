@@ -19,6 +19,7 @@ import org.instancio.exception.InstancioException;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.TypeUtils;
+import org.instancio.settings.Keys;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +50,7 @@ public final class NodeFactory {
     private final TypeHelper typeHelper;
     private final OriginSelectorValidator originSelectorValidator;
     private final InternalFeedSpecHandler feedSpecHandler;
+    private final boolean lazy;
 
     public NodeFactory(final NodeContext nodeContext) {
         this.nodeContext = nodeContext;
@@ -57,11 +59,23 @@ public final class NodeFactory {
         this.originSelectorValidator = new OriginSelectorValidator(nodeContext);
         this.memberCollector = new DeclaredAndInheritedMemberCollector(nodeContext.getSettings());
         this.feedSpecHandler = DefaultFeedSpecHandler.create(nodeContext);
+
+        // Assignments and feeds are resolved against the entire node
+        // hierarchy before generation starts, therefore they require
+        // all nodes to be created upfront
+        this.lazy = nodeContext.getSettings().get(Keys.LAZY_NODE_CREATION)
+                && !nodeContext.hasAssignments()
+                && nodeContext.getFeedSelectorMap().isEmpty();
     }
 
     public InternalNode createRootNode(final Type type) {
         final InternalNode root = nodeCreator.createNode(type, null, null);
 
+        if (lazy) {
+            deferChildren(root);
+            return root;
+        }
+
         final Queue<InternalNode> nodeQueue = new ArrayDeque<>();
         nodeQueue.offer(root);
 
@@ -72,18 +86,45 @@ public final class NodeFactory {
                 continue;
             }
 
-            originSelectorValidator.checkNode(node);
+            nodeQueue.addAll(setChildren(node));
+        }
 
-            final List<InternalNode> children = createChildren(node);
-            node.setChildren(children);
-            nodeQueue.addAll(children);
-            // must be done after children have been set since
-            // these are applied to child nodes of POJOs or records
-            feedSpecHandler.applyFeedSpecs(node);
+        if (nodeContext.hasAssignments()) {
+            AssignmentDependencyGraph.resolve(nodeContext, root);
         }
         return root;
     }
 
+    /**
+     * Creates children of a node whose children have been deferred.
+     * The children's own children are deferred in turn.
+     *
+     * @param node to create children for
+     */
+    void createChildrenOf(final InternalNode node) {
+        for (InternalNode child : setChildren(node)) {
+            deferChildren(child);
+        }
+    }
+
+    private void deferChildren(final InternalNode node) {
+        // nodes created from templates already have children
+        if (!node.isCyclic() && node.getChildren().isEmpty()) {
+            node.deferChildren(this);
+        }
+    }
+
+    private List<InternalNode> setChildren(final InternalNode node) {
+        originSelectorValidator.checkNode(node);
+
+        final List<InternalNode> children = createChildren(node);
+        node.setChildren(children);
+        // must be done after children have been set since
+        // these are applied to child nodes of POJOs or records
+        feedSpecHandler.applyFeedSpecs(node);
+        return children;
+    }
+
     /**
      * Creates children for the given node.
      * Returned children will not have children of their own
@@ -17,7 +17,10 @@ package org.instancio.internal.nodes;
 
 import org.instancio.internal.util.Format;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.instancio.internal.util.Constants.NL;
 
@@ -37,18 +40,63 @@ public final class NodeStats {
     }
 
     public static NodeStats compute(final InternalNode rootNode) {
+        return compute(rootNode, node -> "");
+    }
+
+    /**
+     * Counts the nodes of the given tree and computes its height
+     * without rendering the tree. Unlike {@link #compute(InternalNode)},
+     * this method does not create children whose creation has been
+     * deferred, therefore only nodes created so far are counted.
+     *
+     * @param rootNode the root of the tree
+     * @return computed stats with an empty tree string
+     */
+    public static NodeStats count(final InternalNode rootNode) {
+        int totalNodes = 0;
+        int height = 0;
+
+        final Deque<InternalNode> stack = new ArrayDeque<>();
+        stack.push(rootNode);
+
+        while (!stack.isEmpty()) {
+            final InternalNode node = stack.pop();
+            totalNodes++;
+            height = Math.max(height, node.getDepth());
+
+            for (InternalNode child : node.getCreatedChildren()) {
+                stack.push(child);
+            }
+        }
+        return new NodeStats("", totalNodes, height);
+    }
+
+    /**
+     * Computes stats for the given node, appending the
+     * result of {@code annotator} to each line of the tree.
+     *
+     * @param rootNode  the root of the tree
+     * @param annotator returns a suffix for a given node's tree line
+     * @return computed stats
+     */
+    public static NodeStats compute(final InternalNode rootNode,
+                                    final Function<InternalNode, String> annotator) {
         final int[] stats = new int[2];
         stats[NUM_NODES] = 1; // root node
 
         final StringBuilder sb = new StringBuilder(SB_SIZE);
-        sb.append(Format.formatAsTreeNode(rootNode)).append(NL);
-        appendTreeLine(rootNode, sb, stats, "");
+        sb.append(Format.formatAsTreeNode(rootNode)).append(annotator.apply(rootNode)).append(NL);
+        appendTreeLine(rootNode, sb, stats, "", annotator);
         return new NodeStats(sb.toString(), stats[NUM_NODES], stats[MAX_DEPTH]);
     }
 
     // Based on: https://github.com/kddnewton/tree
     private static void appendTreeLine(
-            final InternalNode node, final StringBuilder sb, final int[] stats, final String prefix) {
+            final InternalNode node,
+            final StringBuilder sb,
+            final int[] stats,
+            final String prefix,
+            final Function<InternalNode, String> annotator) {
 
         final List<InternalNode> children = node.getChildren();
         final int size = children.size();
@@ -59,11 +107,13 @@ public final class NodeStats {
             final InternalNode n = children.get(i);
 
             if (i == size - 1) {
-                sb.append(prefix).append(" └──").append(Format.formatAsTreeNode(n)).append(NL);
-                appendTreeLine(n, sb, stats, prefix + "    ");
+                sb.append(prefix).append(" └──").append(Format.formatAsTreeNode(n))
+                        .append(annotator.apply(n)).append(NL);
+                appendTreeLine(n, sb, stats, prefix + "    ", annotator);
             } else {
-                sb.append(prefix).append(" ├──").append(Format.formatAsTreeNode(n)).append(NL);
-                appendTreeLine(n, sb, stats, prefix + " │  ");
+                sb.append(prefix).append(" ├──").append(Format.formatAsTreeNode(n))
+                        .append(annotator.apply(n)).append(NL);
+                appendTreeLine(n, sb, stats, prefix + " │  ", annotator);
             }
         }
     }
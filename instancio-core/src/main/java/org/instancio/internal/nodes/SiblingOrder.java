@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Sorts children of a node topologically, using the declaration order
+ * to break ties, so that the original order is retained unless
+ * a child depends on a subsequent sibling.
+ *
+ * @see AssignmentDependencyGraph
+ */
+final class SiblingOrder {
+
+    private final List<InternalNode> children;
+
+    // child -> siblings that should be generated after the child
+    private final Map<InternalNode, Set<InternalNode>> dependencies;
+    private final Map<InternalNode, Integer> indexes = new IdentityHashMap<>();
+    private final int[] inDegree;
+
+    private SiblingOrder(
+            final List<InternalNode> children,
+            final Map<InternalNode, Set<InternalNode>> dependencies) {
+
+        this.children = children;
+        this.dependencies = dependencies;
+        this.inDegree = new int[children.size()];
+    }
+
+    /**
+     * Sets the generation order of the parent's children
+     * if the dependencies require them to be reordered.
+     *
+     * @param parent       whose children should be reordered
+     * @param dependencies child -> siblings that should be generated after the child
+     */
+    static void apply(final InternalNode parent, final Map<InternalNode, Set<InternalNode>> dependencies) {
+        final List<InternalNode> children = parent.getChildren();
+        final List<InternalNode> order = new SiblingOrder(children, dependencies).sort();
+
+        if (!order.equals(children)) {
+            parent.setGenerationOrder(order);
+        }
+    }
+
+    private List<InternalNode> sort() {
+        computeInDegrees();
+
+        final Queue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < inDegree.length; i++) {
+            if (inDegree[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        final List<InternalNode> order = new ArrayList<>(children.size());
+        final boolean[] added = new boolean[children.size()];
+
+        while (!ready.isEmpty()) {
+            final int index = ready.poll();
+            final InternalNode child = children.get(index);
+            order.add(child);
+            added[index] = true;
+            releaseSuccessors(child, ready);
+        }
+
+        // Siblings that depend on each other retain their original order.
+        // These will be delayed by the engine until their origins are available.
+        for (int i = 0; i < added.length; i++) {
+            if (!added[i]) {
+                order.add(children.get(i));
+            }
+        }
+        return order;
+    }
+
+    private void computeInDegrees() {
+        for (int i = 0; i < children.size(); i++) {
+            indexes.put(children.get(i), i);
+        }
+        for (Set<InternalNode> successors : dependencies.values()) {
+            for (InternalNode successor : successors) {
+                inDegree[indexes.get(successor)]++;
+            }
+        }
+    }
+
+    /**
+     * Marks successors of the given child as ready
+     * once all of their predecessors have been added.
+     */
+    private void releaseSuccessors(final InternalNode child, final Queue<Integer> ready) {
+        for (InternalNode successor : dependencies.getOrDefault(child, Collections.emptySet())) {
+            final int successorIndex = indexes.get(successor);
+            inDegree[successorIndex]--;
+            if (inDegree[successorIndex] == 0) {
+                ready.add(successorIndex);
+            }
+        }
+    }
+}
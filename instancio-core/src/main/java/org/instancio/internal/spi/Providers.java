@@ -18,6 +18,7 @@ package org.instancio.internal.spi;
 import org.instancio.internal.util.ServiceLoaders;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.InstancioServiceProvider.AnnotationProcessor;
+import org.instancio.spi.InstancioServiceProvider.GenerationMetricsListener;
 import org.instancio.spi.InstancioServiceProvider.GeneratorProvider;
 import org.instancio.spi.InstancioServiceProvider.SetterMethodResolver;
 import org.instancio.spi.InstancioServiceProvider.TypeInstantiator;
@@ -34,6 +35,7 @@ public final class Providers {
     private final List<ProviderEntry<TypeInstantiator>> typeInstantiators;
     private final List<ProviderEntry<SetterMethodResolver>> setterMethodResolvers;
     private final List<ProviderEntry<AnnotationProcessor>> annotationProcessors;
+    private final List<ProviderEntry<GenerationMetricsListener>> generationMetricsListeners;
 
     public Providers(final ServiceProviderContext context) {
         this(ServiceLoaders.loadAll(InstancioServiceProvider.class), context);
@@ -48,6 +50,7 @@ public final class Providers {
         typeInstantiators = ProviderEntry.from(spList, InstancioServiceProvider::getTypeInstantiator);
         setterMethodResolvers = ProviderEntry.from(spList, InstancioServiceProvider::getSetterMethodResolver);
         annotationProcessors = ProviderEntry.from(spList, InstancioServiceProvider::getAnnotationProcessor);
+        generationMetricsListeners = ProviderEntry.from(spList, InstancioServiceProvider::getGenerationMetricsListener);
     }
 
     public List<ProviderEntry<GeneratorProvider>> getGeneratorProviders() {
@@ -69,4 +72,8 @@ public final class Providers {
     public List<ProviderEntry<AnnotationProcessor>> getAnnotationProcessors() {
         return annotationProcessors;
     }
+
+    public List<ProviderEntry<GenerationMetricsListener>> getGenerationMetricsListeners() {
+        return generationMetricsListeners;
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.instancio.Random;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, sorted table of code point ranges that are valid
+ * for generating Unicode strings, that is, code points that are
+ * assigned and are neither surrogates nor private-use characters.
+ *
+ * <p>Ranges are stored as parallel arrays of range starts and
+ * cumulative counts, which allows selecting a uniformly distributed
+ * code point using a binary search without rejection sampling.
+ */
+public final class CodePointTable {
+
+    private static final CodePointTable EMPTY = new CodePointTable(new int[0], new int[0]);
+
+    /**
+     * First code point of each range.
+     */
+    private final int[] starts;
+
+    /**
+     * Number of valid code points in all ranges up to
+     * and including the range at the given index.
+     */
+    private final int[] cumulativeCounts;
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private CodePointTable(final int[] starts, final int[] cumulativeCounts) {
+        this.starts = starts;
+        this.cumulativeCounts = cumulativeCounts;
+    }
+
+    /**
+     * Returns a table containing all valid code points
+     * up to {@link Constants#MAX_CODE_POINT}, inclusive.
+     *
+     * @return code point table, computed once on first access
+     */
+    public static CodePointTable getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * Returns a table containing all valid code points
+     * within the given range.
+     *
+     * @param min lower bound, inclusive
+     * @param max upper bound, inclusive
+     * @return code point table, possibly empty
+     */
+    static CodePointTable forRange(final int min, final int max) {
+        return max <= Constants.MAX_CODE_POINT
+                ? getDefault().subTable(min, max)
+                : create(min, max);
+    }
+
+    /**
+     * Returns the number of code points in this table.
+     *
+     * @return number of code points
+     */
+    public int size() {
+        return cumulativeCounts.length == 0 ? 0 : cumulativeCounts[cumulativeCounts.length - 1];
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a random code point from this table.
+     * All code points in the table are equally likely to be selected.
+     *
+     * @param random for selecting the code point
+     * @return a random code point
+     */
+    public int nextCodePoint(final Random random) {
+        final int n = random.intRange(0, size() - 1);
+
+        // index of the first range whose cumulative count exceeds n
+        int lo = 0;
+        int hi = cumulativeCounts.length - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (cumulativeCounts[mid] > n) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+
+        final int offset = lo == 0 ? n : n - cumulativeCounts[lo - 1];
+        return starts[lo] + offset;
+    }
+
+    /**
+     * Returns a table containing the code points of this table
+     * that fall within the given range.
+     *
+     * @param min lower bound, inclusive
+     * @param max upper bound, inclusive
+     * @return a new table, possibly empty
+     */
+    CodePointTable subTable(final int min, final int max) {
+        final int[] newStarts = new int[starts.length];
+        final int[] newCounts = new int[starts.length];
+        int total = 0;
+        int count = 0;
+
+        for (int i = 0; i < starts.length; i++) {
+            final int rangeStart = starts[i];
+            final int rangeEnd = rangeStart + rangeSize(i) - 1;
+            final int start = Math.max(rangeStart, min);
+            final int end = Math.min(rangeEnd, max);
+
+            if (start <= end) {
+                total += end - start + 1;
+                newStarts[count] = start;
+                newCounts[count] = total;
+                count++;
+            }
+        }
+
+        return count == 0 ? EMPTY : new CodePointTable(
+                Arrays.copyOf(newStarts, count),
+                Arrays.copyOf(newCounts, count));
+    }
+
+    private int rangeSize(final int index) {
+        return index == 0
+                ? cumulativeCounts[0]
+                : cumulativeCounts[index] - cumulativeCounts[index - 1];
+    }
+
+    private static boolean isValid(final int codePoint) {
+        final int type = Character.getType(codePoint);
+        return type != Character.PRIVATE_USE
+                && type != Character.SURROGATE
+                && type != Character.UNASSIGNED;
+    }
+
+    private static CodePointTable create(final int min, final int max) {
+        int[] starts = new int[256];
+        int[] counts = new int[256];
+        int total = 0;
+        int count = 0;
+        int cp = min;
+
+        while (cp <= max) {
+            if (!isValid(cp)) {
+                cp++;
+                continue;
+            }
+            final int start = cp;
+            while (cp <= max && isValid(cp)) {
+                cp++;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                counts = Arrays.copyOf(counts, count * 2);
+            }
+            total += cp - start;
+            starts[count] = start;
+            counts[count] = total;
+            count++;
+        }
+
+        return new CodePointTable(Arrays.copyOf(starts, count), Arrays.copyOf(counts, count));
+    }
+
+    private static final class Holder {
+        private static final CodePointTable DEFAULT = create(0, Constants.MAX_CODE_POINT);
+    }
+}
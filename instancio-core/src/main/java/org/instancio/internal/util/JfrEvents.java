@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.instancio.feed.DataSource;
+import org.instancio.internal.nodes.InternalNode;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+
+/**
+ * Emits Java Flight Recorder events.
+ *
+ * <p>The {@code begin} methods return an event, or {@code null} if
+ * the event is not enabled. The returned value should be passed to
+ * the corresponding {@code commit} method, which ignores {@code null}.
+ * This way, event data is only computed while a recording is active.
+ *
+ * <p>This class has different implementations depending on Java version.
+ * This implementation does not emit any events as it is used
+ * on Java versions lower than 16.
+ */
+@SuppressWarnings("unused")
+public final class JfrEvents {
+
+    @Nullable
+    public static Object beginModelBuild() {
+        return null;
+    }
+
+    public static void commitModelBuild(@Nullable final Object event, final InternalNode rootNode) {
+        // no-op
+    }
+
+    @Nullable
+    public static Object beginGeneration() {
+        return null;
+    }
+
+    public static void commitGeneration(@Nullable final Object event, final Type rootType, final long seed) {
+        // no-op
+    }
+
+    @Nullable
+    public static Object beginFeedLoad() {
+        return null;
+    }
+
+    public static void commitFeedLoad(
+            @Nullable final Object event, final DataSource dataSource, final int rows, final long bytes) {
+        // no-op
+    }
+
+    public static void retry(final InternalNode node, final int attempt) {
+        // no-op
+    }
+
+    private JfrEvents() {
+        // non-instantiable
+    }
+}
@@ -17,12 +17,14 @@ package org.instancio.internal.util;
 
 import org.instancio.documentation.InternalApi;
 import org.instancio.settings.AssignmentType;
+import org.instancio.settings.GenerationEngine;
 
 @InternalApi
 public final class SystemProperties {
 
     public static final String FAIL_ON_ERROR = "instancio.failOnError";
     public static final String ASSIGNMENT_TYPE = "instancio.assignmentType";
+    public static final String GENERATION_ENGINE = "instancio.generationEngine";
 
     private SystemProperties() {
         // non-instantiable
@@ -40,4 +42,9 @@ public final class SystemProperties {
         final String type = System.getProperty(ASSIGNMENT_TYPE);
         return type == null ? null : AssignmentType.valueOf(type);
     }
+
+    public static GenerationEngine getGenerationEngine() {
+        final String engine = System.getProperty(GENERATION_ENGINE);
+        return engine == null ? null : GenerationEngine.valueOf(engine);
+    }
 }
@@ -21,16 +21,21 @@ import org.slf4j.LoggerFactory;
 import java.lang.Character.UnicodeBlock;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for querying the code point range
  * for a given {@link UnicodeBlock}.
+ *
+ * <p>Tables of valid code points per block are computed
+ * on first access and cached for the lifetime of the JVM.
  */
 @SuppressWarnings("PMD.FieldDeclarationsShouldBeAtStartOfClass")
 public final class UnicodeBlocks {
     private static final Logger LOG = LoggerFactory.getLogger(UnicodeBlocks.class);
 
     private final Map<UnicodeBlock, BlockRange> blockRangeMap = new HashMap<>(800);
+    private final Map<UnicodeBlock, CodePointTable> codePointTableMap = new ConcurrentHashMap<>();
 
     private UnicodeBlocks() {
         for (BlockRange blockRange : BLOCK_RANGES) {
@@ -52,6 +57,22 @@ public final class UnicodeBlocks {
         return blockRangeMap.get(block);
     }
 
+    /**
+     * Returns a table of valid code points for the given block.
+     *
+     * @param block to get the code points for
+     * @return code point table, or {@code null} if the block is not supported
+     * @see CodePointTable
+     */
+    public CodePointTable getCodePointTable(final UnicodeBlock block) {
+        final BlockRange range = blockRangeMap.get(block);
+        if (range == null) {
+            return null;
+        }
+        return codePointTableMap.computeIfAbsent(block,
+                b -> CodePointTable.forRange(range.min, range.max));
+    }
+
     public static final class BlockRange {
         private final int min;
         private final int max;
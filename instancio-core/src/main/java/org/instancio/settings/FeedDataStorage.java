@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.feed.Feed;
+
+/**
+ * Specifies how {@link Feed} data is loaded and stored.
+ *
+ * @see Keys#FEED_DATA_STORAGE
+ * @since 5.1.0
+ */
+@ExperimentalApi
+public enum FeedDataStorage {
+
+    /**
+     * Data is loaded fully into memory when the feed is created.
+     * Loaded data is cached and shared by feeds using the same data source.
+     */
+    IN_MEMORY,
+
+    /**
+     * Like {@link #IN_MEMORY}, but data is stored column by column, with
+     * each distinct value of a column stored only once. This reduces
+     * memory usage for data containing many repeated values,
+     * such as country codes or statuses.
+     */
+    COLUMNAR,
+
+    /**
+     * Records are parsed lazily from the data source as they are consumed,
+     * holding only the current record in memory. This allows using
+     * data sources that are too large to be loaded into memory.
+     *
+     * <p>This mode is only applicable if {@link Keys#FEED_DATA_ACCESS}
+     * is set to {@link FeedDataAccess#SEQUENTIAL}. Feeds with random
+     * data access are loaded {@link #IN_MEMORY}. If the end of data
+     * is reached and {@link FeedDataEndAction#RECYCLE} is specified,
+     * the data source will be re-opened and read from the beginning.
+     *
+     * <p>Streaming is supported by both CSV and JSON feeds. JSON data
+     * is read one object at a time from the top-level array.
+     */
+    STREAMING,
+
+    /**
+     * The data file is memory-mapped and only the offsets of records
+     * are held in memory. A record is parsed each time it is selected.
+     * This allows feeds with random data access to use files that are
+     * too large to be loaded into memory.
+     *
+     * <p>This mode is currently supported by CSV feeds with a file
+     * data source only, provided the platform's default charset encodes
+     * line terminators as single bytes (for example, UTF-8).
+     * Other data sources are loaded {@link #IN_MEMORY}.
+     */
+    MEMORY_MAPPED
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.settings;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.util.StringUtils;
+
+/**
+ * A setting that specifies how the engine traverses
+ * the object graph when generating an object.
+ *
+ * <p>Both engines produce the same object given the same seed.
+ *
+ * @see Keys#GENERATION_ENGINE
+ * @since 5.1.0
+ */
+@ExperimentalApi
+public enum GenerationEngine {
+
+    /**
+     * Traverses the object graph recursively (default behaviour).
+     */
+    RECURSIVE,
+
+    /**
+     * Traverses the object graph using an explicit stack
+     * instead of recursion. This allows generating deeply
+     * nested objects without a {@link StackOverflowError}
+     * at the cost of slightly lower performance.
+     */
+    ITERATIVE;
+
+    @Override
+    public String toString() {
+        return StringUtils.enumToString(this);
+    }
+}
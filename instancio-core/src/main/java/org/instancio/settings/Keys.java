@@ -20,9 +20,13 @@ import org.instancio.InstancioApi;
 import org.instancio.TargetSelector;
 import org.instancio.documentation.ExperimentalApi;
 import org.instancio.feed.Feed;
+import org.instancio.feed.FeedCacheStatistics;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.internal.settings.InternalKey;
 import org.instancio.internal.settings.RangeAdjuster;
+import org.instancio.spi.GenerationMetrics;
+import org.instancio.spi.InstancioServiceProvider;
+import org.instancio.spi.InstancioServiceProvider.GenerationMetricsListener;
 import org.instancio.settings.SettingKey.SettingKeyBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -259,6 +263,38 @@ public final class Keys {
     public static final SettingKey<Boolean> FLOAT_NULLABLE = registerRequiredNonAdjustable(
             "float.nullable", Boolean.class, false);
 
+    /**
+     * Specifies how the object graph is traversed when generating objects;
+     * default is {@link GenerationEngine#RECURSIVE}; property name {@code generation.engine}.
+     *
+     * <p>The {@link GenerationEngine#ITERATIVE} engine can be used for
+     * generating objects that are too deeply nested for the default engine,
+     * for example, when {@link #MAX_DEPTH} is set to a large value.
+     *
+     * @see GenerationEngine
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<GenerationEngine> GENERATION_ENGINE = registerRequiredNonAdjustable(
+            "generation.engine", GenerationEngine.class, GenerationEngine.RECURSIVE);
+
+    /**
+     * Specifies a listener that receives metrics collected while
+     * generating objects; default is {@code null}; property name
+     * {@code generation.metrics.listener}.
+     *
+     * <p>Metrics are only collected if a listener is specified using this
+     * setting or via {@link InstancioServiceProvider#getGenerationMetricsListener()}.
+     * Since the value is an object, this setting cannot be specified
+     * in a properties file.
+     *
+     * @see GenerationMetrics
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<GenerationMetricsListener> GENERATION_METRICS_LISTENER = register(
+            "generation.metrics.listener", GenerationMetricsListener.class, null, null, true, false);
+
     /**
      * Specifies the number of samples for the {@code @InstancioSource}
      * annotation from the {@code instancio-junit} module;
@@ -302,6 +338,53 @@ public final class Keys {
     public static final SettingKey<Boolean> JPA_ENABLED = registerRequiredNonAdjustable(
             "jpa.enabled", Boolean.class, false);
 
+    /**
+     * Specifies whether nodes should be created lazily;
+     * default is {@code false}; property name {@code lazy.node.creation}.
+     *
+     * <p>By default, the entire node hierarchy up to the {@link #MAX_DEPTH}
+     * is created before an object is generated. If this setting is enabled,
+     * a node's children are created only when the node is visited during
+     * generation. This avoids creating nodes for parts of the object that
+     * are not generated, for example, when the parent is {@code null},
+     * or is created by a custom generator.
+     *
+     * <p>Lazy node creation is not applied to objects that use
+     * assignments or feeds, since these require all nodes upfront.
+     *
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> LAZY_NODE_CREATION = registerRequiredNonAdjustable(
+            "lazy.node.creation", Boolean.class, false);
+
+    /**
+     * Specifies whether objects declared as interfaces should be generated lazily;
+     * default is {@code false}; property name {@code lazy.proxies}.
+     *
+     * <p>If enabled, a field or element declared as a public interface,
+     * such as a {@code List}, {@code Map}, or a POJO interface with
+     * a {@code subtype()}, is generated as a proxy. The proxied object
+     * is generated when a method is first invoked on the proxy.
+     * This reduces the cost of creating large objects where only
+     * a part of the object is used.
+     *
+     * <p>Each proxy captures a seed when it is created, therefore
+     * the results are reproducible for a given seed regardless of
+     * the order in which proxies are accessed. However, the values
+     * will differ from those generated with this setting disabled.
+     *
+     * <p>Lazy proxies are not created for nodes that are {@code null}able,
+     * or have a generator or {@code onComplete()} callback, or if the object
+     * uses assignments or feeds. Classes (including records) cannot be proxied
+     * and are always generated eagerly.
+     *
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> LAZY_PROXIES = registerRequiredNonAdjustable(
+            "lazy.proxies", Boolean.class, false);
+
     /**
      * Specifies minimum value for longs;
      * default is 1; property name {@code long.min}.
@@ -506,6 +589,25 @@ public final class Keys {
     public static final SettingKey<Boolean> OVERWRITE_EXISTING_VALUES = registerRequiredNonAdjustable(
             "overwrite.existing.values", Boolean.class, true);
 
+    /**
+     * Specifies the maximum number of data sources whose {@link Feed} data
+     * is cached; default is {@code 100}; property name {@code feed.cache.max.size}.
+     *
+     * <p>Data loaded from files, resources, and inline sources is cached
+     * and shared by all feeds using the same data source. Once the limit
+     * is reached, the least recently used data is evicted.
+     * Since the cache is shared, the limit is read from
+     * {@code instancio.properties} when the cache is first used.
+     * Setting the value to zero, either in the properties file
+     * or for a given feed, disables caching.
+     *
+     * @see FeedCacheStatistics
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Integer> FEED_CACHE_MAX_SIZE = registerRequiredNonAdjustable(
+            "feed.cache.max.size", Integer.class, 100);
+
     /**
      * Specifies whether {@link Feed} data is retrieved sequentially or randomly;
      * default is {@link FeedDataAccess#SEQUENTIAL}; property name {@code feed.data.access}.
@@ -531,6 +633,17 @@ public final class Keys {
     public static final SettingKey<FeedDataEndAction> FEED_DATA_END_ACTION = registerRequiredNonAdjustable(
             "feed.data.end.action", FeedDataEndAction.class, FeedDataEndAction.FAIL);
 
+    /**
+     * Specifies how {@link Feed} data is loaded and stored;
+     * default is {@link FeedDataStorage#IN_MEMORY}; property name {@code feed.data.storage}.
+     *
+     * @see FeedDataStorage
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<FeedDataStorage> FEED_DATA_STORAGE = registerRequiredNonAdjustable(
+            "feed.data.storage", FeedDataStorage.class, FeedDataStorage.IN_MEMORY);
+
     /**
      * Specifies the trimming mode for feed data;
      * default is {@link FeedDataTrim#UNQUOTED}; property name {@code feed.data.trim}.
@@ -553,6 +666,25 @@ public final class Keys {
     public static final SettingKey<FeedFormatType> FEED_FORMAT_TYPE = registerRequiredNonAdjustable(
             "feed.format.type", FeedFormatType.class, FeedFormatType.CSV);
 
+    /**
+     * Specifies a directory for storing snapshots of parsed {@link Feed} data;
+     * default is {@code null}; property name {@code feed.snapshot.directory}.
+     *
+     * <p>If set, data loaded from files, resources, and inline sources
+     * is stored in a binary format in the given directory. Subsequent
+     * JVMs read the snapshot instead of parsing the data again, as long
+     * as the content of the data source and the format options have not
+     * changed. This can reduce the start up time of test suites that run
+     * in multiple JVMs. Snapshots are not used by feeds with
+     * {@link FeedDataStorage#STREAMING} or {@link FeedDataStorage#MEMORY_MAPPED}
+     * storage. The directory is created if it does not exist.
+     *
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<String> FEED_SNAPSHOT_DIRECTORY = register(
+            "feed.snapshot.directory", String.class, null, null, true, false);
+
     /**
      * Specifies the tag key for a {@link Feed};
      * default is {@code null}; property name {@code feed.tag.key}.
@@ -575,6 +707,26 @@ public final class Keys {
     public static final SettingKey<String> FEED_TAG_VALUE = register(
             "feed.tag.value", String.class, null, null, true, false);
 
+    /**
+     * Specifies whether a {@link Feed} can be used by multiple threads concurrently;
+     * default is {@code false}; property name {@code feed.thread.safe}.
+     *
+     * <p>If enabled, each thread has its own current record, so that values
+     * of the same record are not mixed between threads. With
+     * {@link FeedDataAccess#SEQUENTIAL} data access, each record is
+     * returned to exactly one thread, and with {@link FeedDataAccess#RANDOM}
+     * data access, each thread selects records using its own random
+     * number generator. In this mode, the sequence of records returned
+     * to each thread depends on thread scheduling and is therefore
+     * not reproducible, even if a seed is specified.
+     *
+     * @see #FEED_DATA_ACCESS
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    public static final SettingKey<Boolean> FEED_THREAD_SAFE = registerRequiredNonAdjustable(
+            "feed.thread.safe", Boolean.class, false);
+
     /**
      * Specifies the seed value;
      * default is {@code null}; property name {@code seed}.
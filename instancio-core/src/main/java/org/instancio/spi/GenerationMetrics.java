@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.InstancioApi;
+import org.instancio.TargetSelector;
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.settings.Keys;
+
+import java.lang.reflect.Type;
+
+/**
+ * Aggregated counters collected while generating a single root object.
+ *
+ * <p>Metrics are only collected if a listener has been registered
+ * via {@link InstancioServiceProvider#getGenerationMetricsListener()}
+ * or the {@link Keys#GENERATION_METRICS_LISTENER} setting.
+ *
+ * @see InstancioServiceProvider.GenerationMetricsListener
+ * @since 5.1.0
+ */
+@ExperimentalApi
+public interface GenerationMetrics {
+
+    /**
+     * Describes how a value was created.
+     *
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    enum Strategy {
+
+        /**
+         * Value was assigned using {@link InstancioApi#assign}.
+         */
+        ASSIGNMENT,
+
+        /**
+         * Value was provided via {@code set()}, {@code supply()},
+         * {@code generate()}, or {@code applyFeed()} methods.
+         */
+        USER_SUPPLIED,
+
+        /**
+         * Value was created by a generator from an {@link InstancioServiceProvider}.
+         */
+        SPI_GENERATOR,
+
+        /**
+         * Value was created by a generator resolved from annotations,
+         * such as Bean Validation or JPA annotations.
+         */
+        ANNOTATION,
+
+        /**
+         * Value was created by a built-in generator.
+         */
+        BUILT_IN_GENERATOR,
+
+        /**
+         * Object was instantiated reflectively and populated by the engine.
+         */
+        INSTANTIATED,
+
+        /**
+         * Record was created by the engine using its canonical constructor.
+         */
+        RECORD_CONSTRUCTOR,
+
+        /**
+         * Value of a cyclic node was set to a previously created object
+         * (see {@link Keys#SET_BACK_REFERENCES}).
+         */
+        BACK_REFERENCE
+    }
+
+    /**
+     * Returns the type of the generated root object.
+     *
+     * @return root type
+     */
+    Type getRootType();
+
+    /**
+     * Returns the number of times a node was visited by the engine
+     * to generate a value, including retries and delayed nodes.
+     *
+     * @return number of node visits
+     */
+    long getNodesVisited();
+
+    /**
+     * Returns the number of non-null values created using the given strategy.
+     *
+     * @param strategy the strategy
+     * @return number of values created using the strategy
+     */
+    long getObjectsCreated(Strategy strategy);
+
+    /**
+     * Returns the number of values generated, but rejected by a
+     * {@link InstancioApi#filter(TargetSelector, org.instancio.FilterPredicate)} predicate.
+     *
+     * @return number of rejected values
+     */
+    long getFilterRejections();
+
+    /**
+     * Returns the number of failed attempts to add an element to a collection
+     * or array, or an entry to a map, for example, due to duplicate or
+     * {@code null} values. These attempts count towards
+     * the {@link Keys#MAX_GENERATION_ATTEMPTS} limit.
+     *
+     * @return number of failed attempts
+     */
+    long getRetries();
+
+    /**
+     * Returns the number of nodes whose generation was delayed
+     * because they depend on values that have not been generated yet,
+     * for example, due to {@link InstancioApi#assign} conditions.
+     *
+     * @return number of delayed nodes
+     */
+    long getDelayedNodes();
+
+    /**
+     * Returns the number of {@code null} values produced by the engine
+     * for nullable targets, such as those specified via
+     * {@link InstancioApi#withNullable(TargetSelector)} or nullable
+     * collection elements. Does not include {@code null} values
+     * returned by generators.
+     *
+     * @return number of {@code null} values from nullable targets
+     */
+    long getNullResults();
+
+    /**
+     * Returns the time spent building the node tree of the model,
+     * in nanoseconds. If a model is reused, for example,
+     * via {@link InstancioApi#toModel()}, the same value
+     * is reported for each object created from the model.
+     *
+     * @return model build time in nanoseconds
+     */
+    long getModelBuildNanos();
+
+    /**
+     * Returns the time spent generating the root object, in nanoseconds.
+     *
+     * @return generation time in nanoseconds
+     */
+    long getGenerationNanos();
+}
@@ -43,6 +43,7 @@ import java.util.ServiceLoader;
  *   <li>class instantiation logic via {@link #getTypeInstantiator()}</li>
  *   <li>setter resolution via {@link #getSetterMethodResolver()}</li>
  *   <li>annotation processing via {@link #getAnnotationProcessor()}</li>
+ *   <li>generation metrics via {@link #getGenerationMetricsListener()}</li>
  * </ul>
  *
  * <p>All of the above are {@code default} methods that return {@code null}.
@@ -157,6 +158,17 @@ public interface InstancioServiceProvider {
         return null;
     }
 
+    /**
+     * Returns a {@code GenerationMetricsListener} implementation.
+     *
+     * @return a generation metrics listener, or {@code null} if not required
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    default GenerationMetricsListener getGenerationMetricsListener() {
+        return null;
+    }
+
     /**
      * Provides custom {@link Generator} classes.
      *
@@ -182,6 +194,29 @@ public interface InstancioServiceProvider {
          * @since 2.11.0
          */
         GeneratorSpec<?> getGenerator(Node node, Generators generators);
+
+        /**
+         * Specifies whether the result of {@link #getGenerator(Node, Generators)}
+         * can be cached per node.
+         *
+         * <p>By default, Instancio invokes {@code getGenerator()} (and
+         * {@link Generator#init(org.instancio.generator.GeneratorContext)}
+         * on the returned generator) once per node when creating an object,
+         * and reuses the generator for all values of that node.
+         * Implementations that may return different generators for the same
+         * node, for example, because they maintain internal state,
+         * should override this method to return {@code false}.
+         * In this case, {@code getGenerator()} will be invoked
+         * each time a value is generated.
+         *
+         * @return {@code true} if the generator returned for a node
+         * can be reused, {@code false} otherwise
+         * @since 5.1.0
+         */
+        @ExperimentalApi
+        default boolean isCacheable() {
+            return true;
+        }
     }
 
     /**
@@ -340,4 +375,34 @@ public interface InstancioServiceProvider {
         @Retention(RetentionPolicy.RUNTIME)
         @interface AnnotationHandler {}
     }
+
+    /**
+     * Receives metrics collected while generating objects.
+     *
+     * <p>A listener can be registered by returning it from
+     * {@link #getGenerationMetricsListener()}, or using the
+     * {@link Keys#GENERATION_METRICS_LISTENER} setting.
+     * If no listener is registered, metrics are not collected.
+     *
+     * <p>Listeners registered via the service provider are shared
+     * by all objects created by Instancio and may be invoked
+     * from multiple threads concurrently.
+     *
+     * @see GenerationMetrics
+     * @since 5.1.0
+     */
+    @ExperimentalApi
+    @FunctionalInterface
+    interface GenerationMetricsListener {
+
+        /**
+         * Invoked after a root object has been generated.
+         * The metrics instance must not be retained
+         * for later use outside of this method.
+         *
+         * @param metrics collected while generating the object
+         * @since 5.1.0
+         */
+        void onGenerationComplete(GenerationMetrics metrics);
+    }
 }
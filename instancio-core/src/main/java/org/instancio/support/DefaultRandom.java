@@ -23,6 +23,7 @@ import org.instancio.internal.util.Verify;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 @InternalApi
 public class DefaultRandom implements Random {
@@ -211,7 +212,7 @@ public class DefaultRandom implements Random {
 
         final int index = intRange(0, collection.size() - 1);
 
-        if (collection instanceof List<?>) {
+        if (collection instanceof List<?> && collection instanceof RandomAccess) {
             return ((List<T>) collection).get(index);
         }
 
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.instancio.feed.DataSource;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.nodes.NodeStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+/**
+ * Emits Java Flight Recorder events.
+ *
+ * <p>The {@code begin} methods return an event, or {@code null} if
+ * the event is not enabled. The returned value should be passed to
+ * the corresponding {@code commit} method, which ignores {@code null}.
+ * This way, event data is only computed while a recording is active.
+ *
+ * <p>Event classes are only loaded if the {@code jdk.jfr} module
+ * is present, therefore they are only referenced via {@code Events}.
+ */
+@IgnoreJRERequirement
+public final class JfrEvents {
+
+    private static final boolean AVAILABLE = initJfr();
+
+    private static boolean initJfr() {
+        final Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+        if (jfr.isEmpty()) {
+            return false;
+        }
+        // The module descriptor is compiled for Java 9, which does not
+        // have the jdk.jfr module, therefore the read edge is added here
+        JfrEvents.class.getModule().addReads(jfr.get());
+        return true;
+    }
+
+    @Nullable
+    public static Object beginModelBuild() {
+        return AVAILABLE ? Events.beginModelBuild() : null;
+    }
+
+    public static void commitModelBuild(@Nullable final Object event, final InternalNode rootNode) {
+        if (event != null) {
+            Events.commitModelBuild((ModelBuildEvent) event, rootNode);
+        }
+    }
+
+    @Nullable
+    public static Object beginGeneration() {
+        return AVAILABLE ? Events.beginGeneration() : null;
+    }
+
+    public static void commitGeneration(@Nullable final Object event, final Type rootType, final long seed) {
+        if (event != null) {
+            Events.commitGeneration((GenerationEvent) event, rootType, seed);
+        }
+    }
+
+    @Nullable
+    public static Object beginFeedLoad() {
+        return AVAILABLE ? Events.beginFeedLoad() : null;
+    }
+
+    public static void commitFeedLoad(
+            @Nullable final Object event, final DataSource dataSource, final int rows, final long bytes) {
+        if (event != null) {
+            Events.commitFeedLoad((FeedLoadEvent) event, dataSource, rows, bytes);
+        }
+    }
+
+    public static void retry(final InternalNode node, final int attempt) {
+        if (AVAILABLE) {
+            Events.retry(node, attempt);
+        }
+    }
+
+    @IgnoreJRERequirement
+    private static final class Events {
+
+        static Object beginModelBuild() {
+            return begin(new ModelBuildEvent());
+        }
+
+        static Object beginGeneration() {
+            return begin(new GenerationEvent());
+        }
+
+        static Object beginFeedLoad() {
+            return begin(new FeedLoadEvent());
+        }
+
+        @Nullable
+        private static Object begin(final Event event) {
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        static void commitModelBuild(final ModelBuildEvent event, final InternalNode rootNode) {
+            event.end();
+            if (event.shouldCommit()) {
+                final NodeStats nodeStats = NodeStats.count(rootNode);
+                event.rootType = rootNode.getType().getTypeName();
+                event.nodeCount = nodeStats.getTotalNodes();
+                event.depth = nodeStats.getHeight();
+                event.commit();
+            }
+        }
+
+        static void commitGeneration(final GenerationEvent event, final Type rootType, final long seed) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.rootType = rootType.getTypeName();
+                event.seed = seed;
+                event.commit();
+            }
+        }
+
+        static void commitFeedLoad(
+                final FeedLoadEvent event, final DataSource dataSource, final int rows, final long bytes) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.source = dataSource.getName();
+                event.rows = rows;
+                event.bytes = bytes;
+                event.commit();
+            }
+        }
+
+        static void retry(final InternalNode node, final int attempt) {
+            final RetryEvent event = new RetryEvent();
+            if (event.shouldCommit()) {
+                event.node = Format.formatNode(node);
+                event.attempt = attempt;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("org.instancio.ModelBuild")
+    @Label("Model Build")
+    @Category("Instancio")
+    @Description("Construction of the node tree for a model")
+    @StackTrace(false)
+    @IgnoreJRERequirement
+    static final class ModelBuildEvent extends Event {
+        @Label("Root Type")
+        String rootType;
+
+        @Label("Node Count")
+        @Description("Number of nodes created, excluding lazily created nodes that were not built yet")
+        int nodeCount;
+
+        @Label("Depth")
+        @Description("Depth of the deepest node created")
+        int depth;
+    }
+
+    @Name("org.instancio.Generation")
+    @Label("Generation")
+    @Category("Instancio")
+    @Description("Creation of a root object")
+    @StackTrace(false)
+    @IgnoreJRERequirement
+    static final class GenerationEvent extends Event {
+        @Label("Root Type")
+        String rootType;
+
+        @Label("Seed")
+        long seed;
+    }
+
+    @Name("org.instancio.FeedLoad")
+    @Label("Feed Load")
+    @Category("Instancio")
+    @Description("Loading of feed data from a data source")
+    @StackTrace(false)
+    @IgnoreJRERequirement
+    static final class FeedLoadEvent extends Event {
+        @Label("Source")
+        String source;
+
+        @Label("Rows")
+        int rows;
+
+        @Label("Bytes Read")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("org.instancio.Retry")
+    @Label("Generation Retry")
+    @Category("Instancio")
+    @Description("Regeneration of a value that could not be used, "
+            + "for example, a duplicate element of a Set")
+    @StackTrace(false)
+    @Enabled(false) // may be emitted many times per object
+    @IgnoreJRERequirement
+    static final class RetryEvent extends Event {
+        @Label("Node")
+        String node;
+
+        @Label("Attempt")
+        int attempt;
+    }
+
+    private JfrEvents() {
+        // non-instantiable
+    }
+}
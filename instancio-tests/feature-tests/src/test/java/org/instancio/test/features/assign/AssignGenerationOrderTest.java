@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.assign;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.UnresolvedAssignmentException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.spi.GenerationMetrics;
+import org.instancio.test.support.pojo.misc.StringsAbc;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.instancio.test.support.tags.RunWith;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Assign.given;
+import static org.instancio.Assign.valueOf;
+import static org.instancio.Select.field;
+
+/**
+ * Children of a POJO are generated in dependency order,
+ * so that destinations are generated after their origins
+ * regardless of the order in which fields are declared.
+ */
+@FeatureTag(Feature.ASSIGN)
+@ExtendWith(InstancioExtension.class)
+class AssignGenerationOrderTest {
+
+    private final List<GenerationMetrics> metrics = new ArrayList<>();
+
+    private static class Pojo {
+        String destination;
+        String source;
+    }
+
+    private static class Inner {
+        String value;
+    }
+
+    private static class Outer {
+        Inner inner;
+        String origin;
+    }
+
+    private static class PreInitialised {
+        String a = "initial";
+        String b;
+    }
+
+    @Test
+    void destinationDeclaredBeforeOrigin() {
+        final Pojo result = Instancio.of(Pojo.class)
+                .assign(valueOf(field(Pojo.class, "source")).to(field(Pojo.class, "destination")))
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, metrics::add)
+                .create();
+
+        assertThat(result.destination).isEqualTo(result.source);
+        assertThat(metrics).singleElement()
+                .satisfies(m -> assertThat(m.getDelayedNodes()).isZero());
+    }
+
+    @Test
+    void destinationWithinSiblingDeclaredBeforeOrigin() {
+        final Outer result = Instancio.of(Outer.class)
+                .assign(given(field(Outer.class, "origin"))
+                        .satisfies(origin -> true)
+                        .set(field(Inner.class, "value"), "foo"))
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, metrics::add)
+                .create();
+
+        assertThat(result.inner.value).isEqualTo("foo");
+        assertThat(metrics).singleElement()
+                .satisfies(m -> assertThat(m.getDelayedNodes()).isZero());
+    }
+
+    @Test
+    void chainedAssignmentsInReverseOrder() {
+        final StringsAbc result = Instancio.of(StringsAbc.class)
+                .assign(valueOf(StringsAbc::getB).to(StringsAbc::getA))
+                .assign(valueOf(StringsAbc::getC).to(StringsAbc::getB))
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, metrics::add)
+                .create();
+
+        assertThat(result.a).isEqualTo(result.b).isEqualTo(result.c);
+        assertThat(metrics).singleElement()
+                .satisfies(m -> assertThat(m.getDelayedNodes()).isZero());
+    }
+
+    /**
+     * Cycles are not reported upfront with method assignment
+     * since setters may assign values by other means.
+     */
+    @Test
+    @RunWith.FieldAssignmentOnly
+    void cycleShouldBeReportedBeforeGeneration() {
+        final InstancioApi<StringsAbc> api = Instancio.of(StringsAbc.class)
+                .assign(valueOf(StringsAbc::getA).to(StringsAbc::getB))
+                .assign(valueOf(StringsAbc::getB).to(StringsAbc::getA))
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, metrics::add);
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(UnresolvedAssignmentException.class)
+                .hasMessageContaining("The following assignments form a cycle");
+
+        assertThat(metrics).isEmpty();
+    }
+
+    @Test
+    void cycleResolvedByPreInitialisedValue() {
+        final PreInitialised result = Instancio.of(PreInitialised.class)
+                .withSetting(Keys.OVERWRITE_EXISTING_VALUES, false)
+                .assign(valueOf(field(PreInitialised.class, "a")).to(field(PreInitialised.class, "b")))
+                .assign(valueOf(field(PreInitialised.class, "b")).to(field(PreInitialised.class, "a")))
+                .lenient()
+                .create();
+
+        assertThat(result.a).isEqualTo("initial");
+        assertThat(result.b).isEqualTo("initial");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.engine;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.TypeTokenSupplier;
+import org.instancio.internal.reflect.ParameterizedTypeImpl;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.GenerationEngine;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Assign.valueOf;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.GENERATION_ENGINE)
+@ExtendWith(InstancioExtension.class)
+class IterativeGenerationEngineTest {
+
+    private static final long SEED = 123;
+
+    private static <T> void assertSameResults(final Function<GenerationEngine, InstancioApi<T>> api) {
+        final T recursive = api.apply(GenerationEngine.RECURSIVE).create();
+        final T iterative = api.apply(GenerationEngine.ITERATIVE).create();
+
+        assertThat(iterative).usingRecursiveComparison().isEqualTo(recursive);
+    }
+
+    @Test
+    void shouldProduceSameResultAsRecursiveEngine() {
+        assertSameResults(engine -> Instancio.of(Person.class)
+                .withSetting(Keys.GENERATION_ENGINE, engine)
+                .withSeed(SEED));
+    }
+
+    @Test
+    void shouldProduceSameResultWithNullableValuesAndFilters() {
+        assertSameResults(engine -> Instancio.of(Person.class)
+                .withSetting(Keys.GENERATION_ENGINE, engine)
+                .withNullable(allStrings())
+                .filter(field(Person::getAge), (Integer age) -> age % 2 == 0)
+                .generate(field(Address::getPhoneNumbers), gen -> gen.collection().size(5))
+                .withSeed(SEED));
+    }
+
+    @Test
+    void shouldProduceSameResultWithAssignments() {
+        assertSameResults(engine -> Instancio.of(Person.class)
+                .withSetting(Keys.GENERATION_ENGINE, engine)
+                .assign(valueOf(Phone::getCountryCode).to(Phone::getNumber))
+                .assign(valueOf(Person::getName).to(Address::getCity))
+                .withSeed(SEED));
+    }
+
+    @Test
+    void shouldGenerateDeeplyNestedObject() {
+        final int depth = 5000;
+        Type type = String.class;
+        for (int i = 0; i < depth; i++) {
+            type = new ParameterizedTypeImpl(List.class, type);
+        }
+
+        final Type listType = type;
+        Object result = Instancio.of((TypeTokenSupplier<List<?>>) () -> listType)
+                .withSetting(Keys.GENERATION_ENGINE, GenerationEngine.ITERATIVE)
+                .withSetting(Keys.MAX_DEPTH, depth + 1)
+                .withSetting(Keys.COLLECTION_MIN_SIZE, 1)
+                .withSetting(Keys.COLLECTION_MAX_SIZE, 1)
+                .create();
+
+        int actualDepth = 0;
+        while (result instanceof List) {
+            result = ((List<?>) result).get(0);
+            actualDepth++;
+        }
+
+        assertThat(actualDepth).isEqualTo(depth);
+        assertThat(result).isInstanceOf(String.class);
+    }
+
+    @Test
+    void shouldInvokeCallbacks() {
+        final List<Phone> phones = Instancio.ofList(Phone.class)
+                .size(3)
+                .withSetting(Keys.GENERATION_ENGINE, GenerationEngine.ITERATIVE)
+                .onComplete(all(Phone.class), (Phone phone) -> phone.setNumber("foo"))
+                .create();
+
+        assertThat(phones).extracting(Phone::getNumber).containsOnly("foo");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.feed.FeedCacheStatistics;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Since the feed cache is shared, the tests verify
+ * the difference between statistics snapshots.
+ */
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedCacheStatisticsTest {
+
+    private static Path createFile(final String data) {
+        return Instancio.gen().nio().path()
+                .tmp()
+                .createFile(new ByteArrayInputStream(data.getBytes()))
+                .get();
+    }
+
+    private static Feed createFeed(final Path path, final int cacheMaxSize) {
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .withSetting(Keys.FEED_CACHE_MAX_SIZE, cacheMaxSize)
+                .create();
+
+        assertThat(feed.stringSpec("value").get()).isEqualTo("foo");
+        return feed;
+    }
+
+    @Test
+    void hitsAndMisses() {
+        final FeedCacheStatistics before = FeedCacheStatistics.current();
+        final Path path = createFile("value\nfoo");
+
+        createFeed(path, 100);
+        createFeed(path, 100);
+        createFeed(path, 100);
+
+        final FeedCacheStatistics after = FeedCacheStatistics.current();
+
+        assertThat(after.getMissCount() - before.getMissCount()).isOne();
+        assertThat(after.getLoadCount() - before.getLoadCount()).isOne();
+        assertThat(after.getHitCount() - before.getHitCount()).isEqualTo(2);
+        assertThat(after.getTotalLoadTime()).isGreaterThanOrEqualTo(before.getTotalLoadTime());
+    }
+
+    @Test
+    void zeroMaxSizeShouldDisableCaching() {
+        final FeedCacheStatistics before = FeedCacheStatistics.current();
+        final Path path = createFile("value\nfoo");
+
+        createFeed(path, 0);
+        createFeed(path, 0);
+
+        final FeedCacheStatistics after = FeedCacheStatistics.current();
+
+        assertThat(after.getHitCount()).isEqualTo(before.getHitCount());
+        assertThat(after.getMissCount()).isEqualTo(before.getMissCount());
+    }
+}
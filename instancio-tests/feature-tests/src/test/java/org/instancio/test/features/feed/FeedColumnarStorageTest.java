@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.FeedDataAccess;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.feed.FeedWithTag;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.root;
+
+@FeatureTag({Feature.FEED, Feature.APPLY_FEED})
+@ExtendWith(InstancioExtension.class)
+class FeedColumnarStorageTest {
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.FEED_DATA_STORAGE, FeedDataStorage.COLUMNAR);
+
+    @Test
+    void sequential() {
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofString("id, country\n1, CA\n2, US\n3"))
+                .create();
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(1);
+        assertThat(feed.stringSpec("country").get()).isEqualTo("CA");
+        assertThat(feed.intSpec("id").get()).isEqualTo(2);
+        assertThat(feed.stringSpec("country").get()).isEqualTo("US");
+        assertThat(feed.intSpec("id").get()).isEqualTo(3);
+        assertThat(feed.stringSpec("country").get()).isNull();
+    }
+
+    @Test
+    void applyFeedWithTagValue() {
+        final FeedWithTag result = Instancio.of(FeedWithTag.class)
+                .applyFeed(root(), feed -> feed.ofResource(FeedWithTag.CSV_FILE)
+                        .dataAccess(FeedDataAccess.RANDOM)
+                        .withTagKey("tag")
+                        .withTagValue("RU"))
+                .create();
+
+        assertThat(result.getTag()).isEqualTo("RU");
+        assertThat(result.getId()).isBetween(201, 203);
+        assertThat(result.getField1()).isEqualTo("Д_" + result.getId());
+    }
+}
@@ -32,7 +32,9 @@ import org.instancio.test.support.util.Constants;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -65,6 +67,9 @@ class FeedGeneratedSpecTest {
         @WithPostProcessor(NumberNegator.class)
         @GeneratedSpec(CustomGenerator.class)
         FeedSpec<Integer> nullableWithPostProcessor();
+
+        @GeneratedSpec(CountingGenerator.class)
+        FeedSpec<Integer> counted();
     }
 
     private static class CustomGenerator implements Generator<Integer> {
@@ -74,6 +79,20 @@ class FeedGeneratedSpecTest {
         }
     }
 
+    private static class CountingGenerator implements Generator<Integer> {
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+        private int count;
+
+        CountingGenerator() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Integer generate(final Random random) {
+            return ++count;
+        }
+    }
+
     private static class NumberNegator implements PostProcessor<Integer> {
         @Override
         public Integer process(final Integer input, final Random random) {
@@ -111,4 +130,17 @@ class FeedGeneratedSpecTest {
 
         assertThat(results).containsExactly(null, -12345);
     }
+
+    @Test
+    void generatorShouldBeCreatedOncePerSpecMethod() {
+        final SampleFeed feed = Instancio.createFeed(SampleFeed.class);
+        final int instancesBefore = CountingGenerator.INSTANCES.get();
+
+        final List<Integer> results = Stream.generate(() -> feed.counted().get())
+                .limit(3)
+                .collect(Collectors.toList());
+
+        assertThat(results).containsExactly(1, 2, 3);
+        assertThat(CountingGenerator.INSTANCES.get() - instancesBefore).isOne();
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.FeedDataAccess;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedMemoryMappedTest {
+
+    private static final String DATA = "" +
+            "# comment\r\n" +
+            "tag, id, value\r\n" +
+            "A, 1, \"foo, bar\"\r\n" +
+            "\r\n" +
+            "B, 2, baz\n" +
+            "A, 3";
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.FEED_DATA_STORAGE, FeedDataStorage.MEMORY_MAPPED);
+
+    private static Path createFile() {
+        return Instancio.gen().nio().path()
+                .tmp()
+                .createFile(new ByteArrayInputStream(DATA.getBytes()))
+                .get();
+    }
+
+    @Test
+    void sequential() {
+        final Path path = createFile();
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .create();
+
+        assertThat(feed.stringSpec("id").get()).isEqualTo("1");
+        assertThat(feed.stringSpec("value").get()).isEqualTo("foo, bar");
+        assertThat(feed.stringSpec("id").get()).isEqualTo("2");
+        assertThat(feed.stringSpec("value").get()).isEqualTo("baz");
+        assertThat(feed.stringSpec("id").get()).isEqualTo("3");
+        assertThat(feed.stringSpec("value").get()).isNull();
+    }
+
+    @Test
+    void random() {
+        final Path path = createFile();
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .dataAccess(FeedDataAccess.RANDOM)
+                .create();
+
+        final Set<String> results = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(feed.stringSpec("id").get());
+        }
+
+        assertThat(results).containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    @Test
+    void randomWithTagValue() {
+        final Path path = createFile();
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .dataAccess(FeedDataAccess.RANDOM)
+                .withTagKey("tag")
+                .withTagValue("A")
+                .create();
+
+        final Set<String> results = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(feed.stringSpec("id").get());
+        }
+
+        assertThat(results).containsExactlyInAnyOrder("1", "3");
+    }
+
+    @Test
+    void shouldProduceSameResultsAsInMemoryStorage() {
+        final Path path = createFile();
+        final Feed mapped = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .dataAccess(FeedDataAccess.RANDOM)
+                .withSetting(Keys.SEED, 123L)
+                .create();
+
+        final Feed inMemory = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .dataAccess(FeedDataAccess.RANDOM)
+                .withSetting(Keys.SEED, 123L)
+                .withSetting(Keys.FEED_DATA_STORAGE, FeedDataStorage.IN_MEMORY)
+                .create();
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(mapped.stringSpec("id").get()).isEqualTo(inMemory.stringSpec("id").get());
+        }
+    }
+
+    @Test
+    void nonFileDataSourceShouldBeLoadedIntoMemory() {
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofString(DATA))
+                .create();
+
+        assertThat(feed.stringSpec("id").get()).isEqualTo("1");
+    }
+}
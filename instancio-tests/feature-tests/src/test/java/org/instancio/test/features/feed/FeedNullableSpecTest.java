@@ -18,6 +18,7 @@ package org.instancio.test.features.feed;
 import org.instancio.Instancio;
 import org.instancio.feed.Feed;
 import org.instancio.feed.FeedSpec;
+import org.instancio.generator.ValueSpec;
 import org.instancio.junit.InstancioExtension;
 import org.instancio.junit.WithSettings;
 import org.instancio.settings.FeedDataAccess;
@@ -49,6 +50,9 @@ class FeedNullableSpecTest {
         @NullableSpec
         @DataSpec("number")
         FeedSpec<Integer> number();
+
+        @DataSpec("number")
+        FeedSpec<Integer> nonNullableNumber();
     }
 
     @Test
@@ -61,4 +65,22 @@ class FeedNullableSpecTest {
 
         assertThat(results).containsOnly(null, 1, 2);
     }
+
+    /**
+     * Each method invocation should return a new spec, therefore
+     * marking one spec as nullable should not affect other specs.
+     */
+    @Test
+    void nullableShouldNotAffectSubsequentlyReturnedSpecs() {
+        final SampleFeed result = Instancio.createFeed(SampleFeed.class);
+        final ValueSpec<Integer> nullableSpec = result.nonNullableNumber().nullable();
+
+        assertThat(result.nonNullableNumber()).isNotSameAs(nullableSpec);
+
+        final Set<Integer> results = Stream.generate(() -> result.nonNullableNumber().get())
+                .limit(Constants.SAMPLE_SIZE_DD)
+                .collect(Collectors.toSet());
+
+        assertThat(results).containsOnly(1, 2);
+    }
 }
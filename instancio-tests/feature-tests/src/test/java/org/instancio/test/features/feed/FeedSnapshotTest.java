@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedSnapshotTest {
+
+    @TempDir
+    private Path snapshotDir;
+
+    @TempDir
+    private Path dataDir;
+
+    private Path createFile(final String data) throws Exception {
+        return Files.write(Files.createTempFile(dataDir, "data", ".csv"),
+                data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Caching is disabled, so data is loaded each time a feed is created.
+     */
+    private Feed createFeed(final Path path, final FeedDataStorage storage) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofFile(path))
+                .withSetting(Keys.FEED_SNAPSHOT_DIRECTORY, snapshotDir.toString())
+                .withSetting(Keys.FEED_CACHE_MAX_SIZE, 0)
+                .withSetting(Keys.FEED_DATA_STORAGE, storage)
+                .create();
+    }
+
+    private static List<String> getValues(final Feed feed, final int count) {
+        final List<String> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            results.add(feed.stringSpec("id").get() + ":" + feed.stringSpec("value").get());
+        }
+        return results;
+    }
+
+    private long countSnapshots() throws Exception {
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            return files.count();
+        }
+    }
+
+    @EnumSource(value = FeedDataStorage.class, names = {"IN_MEMORY", "COLUMNAR"})
+    @ParameterizedTest
+    void shouldReturnSameDataWhenLoadedFromSnapshot(final FeedDataStorage storage) throws Exception {
+        final Path path = createFile("id, value\n1, foo\n# comment\n2,\n3, \"bar, baz\"");
+
+        final List<String> parsed = getValues(createFeed(path, storage), 3);
+        assertThat(countSnapshots()).isOne();
+
+        final List<String> fromSnapshot = getValues(createFeed(path, storage), 3);
+        assertThat(countSnapshots()).isOne();
+
+        assertThat(parsed).containsExactly("1:foo", "2:null", "3:bar, baz");
+        assertThat(fromSnapshot).isEqualTo(parsed);
+    }
+
+    @Test
+    void modifiedDataShouldNotUseStaleSnapshot() throws Exception {
+        final Path path = createFile("id, value\n1, foo");
+        assertThat(getValues(createFeed(path, FeedDataStorage.IN_MEMORY), 1)).containsExactly("1:foo");
+
+        Files.write(path, "id, value\n1, bar".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(getValues(createFeed(path, FeedDataStorage.IN_MEMORY), 1)).containsExactly("1:bar");
+        assertThat(countSnapshots()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidSnapshotShouldBeIgnored() throws Exception {
+        final Path path = createFile("id, value\n1, foo");
+        createFeed(path, FeedDataStorage.IN_MEMORY);
+
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            final Path snapshot = files.findFirst().orElseThrow(AssertionError::new);
+            Files.write(snapshot, "invalid".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(getValues(createFeed(path, FeedDataStorage.IN_MEMORY), 1)).containsExactly("1:foo");
+    }
+
+    @Test
+    void streamingFeedsShouldNotCreateSnapshots() throws Exception {
+        final Path path = createFile("id, value\n1, foo");
+
+        assertThat(getValues(createFeed(path, FeedDataStorage.STREAMING), 1)).containsExactly("1:foo");
+        assertThat(countSnapshots()).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.Feed;
+import org.instancio.feed.FeedSpec;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.FeedDataAccess;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.feed.FeedWithTag;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedStreamingTest {
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.FEED_DATA_STORAGE, FeedDataStorage.STREAMING);
+
+    @Feed.Source(string = "id, value\n# comment\n1, foo\n\n2, bar")
+    private interface SampleFeed extends Feed {
+        FeedSpec<Integer> id();
+
+        FeedSpec<String> value();
+    }
+
+    @Feed.Source(resource = FeedWithTag.CSV_FILE)
+    private interface FeedWithTagSpecs extends Feed {
+        FeedSpec<Integer> id();
+    }
+
+    @Test
+    void sequential() {
+        final SampleFeed feed = Instancio.createFeed(SampleFeed.class);
+
+        assertThat(feed.id().get()).isEqualTo(1);
+        assertThat(feed.value().get()).isEqualTo("foo");
+        assertThat(feed.id().get()).isEqualTo(2);
+        assertThat(feed.value().get()).isEqualTo("bar");
+    }
+
+    @Test
+    void insufficientItems_shouldThrowErrorByDefault() {
+        final SampleFeed feed = Instancio.createFeed(SampleFeed.class);
+
+        assertThat(feed.id().get()).isEqualTo(1);
+        assertThat(feed.id().get()).isEqualTo(2);
+
+        final FeedSpec<Integer> idSpec = feed.id();
+
+        assertThatThrownBy(idSpec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("reached end of data");
+    }
+
+    @Test
+    void insufficientItems_recycleShouldReopenDataSource() {
+        final SampleFeed feed = Instancio.ofFeed(SampleFeed.class)
+                .onDataEnd(FeedDataEndAction.RECYCLE)
+                .create();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(feed.id().get()).isEqualTo(1);
+            assertThat(feed.id().get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void withTagValue() {
+        final FeedWithTagSpecs feed = Instancio.ofFeed(FeedWithTagSpecs.class)
+                .withTagKey("tag")
+                .withTagValue("RU")
+                .onDataEnd(FeedDataEndAction.RECYCLE)
+                .create();
+
+        final List<Integer> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(feed.id().get());
+        }
+
+        assertThat(results).containsExactly(201, 202, 203, 201, 202, 203);
+    }
+
+    @Test
+    void withTagValueNotInData() {
+        final FeedWithTagSpecs feed = Instancio.ofFeed(FeedWithTagSpecs.class)
+                .withTagKey("tag")
+                .withTagValue("FR")
+                .onDataEnd(FeedDataEndAction.RECYCLE)
+                .create();
+
+        final FeedSpec<Integer> idSpec = feed.id();
+
+        assertThatThrownBy(idSpec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("no data found with tag value: 'FR'");
+    }
+
+    @Test
+    void shouldLoadDataIntoMemoryIfDataAccessIsRandom() {
+        final SampleFeed feed = Instancio.ofFeed(SampleFeed.class)
+                .dataAccess(FeedDataAccess.RANDOM)
+                .create();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(feed.id().get()).isIn(1, 2);
+        }
+    }
+}
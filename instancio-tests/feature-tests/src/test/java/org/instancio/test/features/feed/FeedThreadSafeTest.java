@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.feed;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.FeedDataAccess;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedThreadSafeTest {
+
+    private static final int NUM_THREADS = 4;
+    private static final int NUM_RECORDS = 1000;
+
+    private static final String DATA = "id,value\n" + IntStream.range(0, NUM_RECORDS)
+            .mapToObj(i -> i + ",value" + i)
+            .collect(Collectors.joining("\n"));
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(NUM_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Feed createFeed(final FeedDataAccess dataAccess, final FeedDataStorage storage) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofString(DATA))
+                .withSetting(Keys.FEED_THREAD_SAFE, true)
+                .withSetting(Keys.FEED_DATA_ACCESS, dataAccess)
+                .withSetting(Keys.FEED_DATA_STORAGE, storage)
+                .withSetting(Keys.FEED_DATA_END_ACTION, FeedDataEndAction.FAIL)
+                .create();
+    }
+
+    private List<String> runConcurrently(final Callable<List<String>> task) throws Exception {
+        final List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < NUM_THREADS; i++) {
+            futures.add(executor.submit(task));
+        }
+        final List<String> results = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            results.addAll(future.get());
+        }
+        return results;
+    }
+
+    /**
+     * Reads records until the end of data is reached.
+     */
+    private static List<String> readAll(final Feed feed) {
+        final List<String> results = new ArrayList<>();
+        try {
+            while (true) {
+                results.add(feed.stringSpec("id").get() + ":" + feed.stringSpec("value").get());
+            }
+        } catch (InstancioApiException ex) {
+            return results;
+        }
+    }
+
+    @EnumSource(FeedDataStorage.class)
+    @ParameterizedTest
+    void sequentialShouldReturnEachRecordExactlyOnce(final FeedDataStorage storage) throws Exception {
+        final Feed feed = createFeed(FeedDataAccess.SEQUENTIAL, storage);
+
+        final List<String> results = runConcurrently(() -> readAll(feed));
+
+        assertThat(results)
+                .hasSize(NUM_RECORDS)
+                .doesNotHaveDuplicates()
+                .allSatisfy(FeedThreadSafeTest::assertValuesFromSameRecord);
+    }
+
+    @Test
+    void randomShouldNotMixValuesOfDifferentRecords() throws Exception {
+        final Feed feed = createFeed(FeedDataAccess.RANDOM, FeedDataStorage.IN_MEMORY);
+
+        final List<String> results = runConcurrently(() -> IntStream.range(0, NUM_RECORDS)
+                .mapToObj(i -> feed.stringSpec("id").get() + ":" + feed.stringSpec("value").get())
+                .collect(Collectors.toList()));
+
+        assertThat(results)
+                .hasSize(NUM_THREADS * NUM_RECORDS)
+                .allSatisfy(FeedThreadSafeTest::assertValuesFromSameRecord);
+    }
+
+    private static void assertValuesFromSameRecord(final String result) {
+        final String[] parts = result.split(":");
+        assertThat(parts[1]).isEqualTo("value" + parts[0]);
+    }
+}
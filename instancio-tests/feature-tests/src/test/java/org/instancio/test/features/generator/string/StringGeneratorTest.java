@@ -17,6 +17,8 @@
 package org.instancio.test.features.generator.string;
 
 import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.specs.StringGeneratorSpec;
 import org.instancio.junit.InstancioExtension;
 import org.instancio.settings.Keys;
@@ -37,6 +39,7 @@ import java.util.Set;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.Select.allStrings;
 
 @FeatureTag({Feature.GENERATE, Feature.STRING_GENERATOR})
@@ -233,6 +236,25 @@ class StringGeneratorTest {
                         .hasCodePointsFrom(UnicodeBlock.CYRILLIC, UnicodeBlock.EMOTICONS);
             }
 
+            @Test
+            void unicodeBlockOutsideDefaultRange() {
+                final String result = create(s -> s.unicode(UnicodeBlock.TAGS).length(10));
+
+                StringAssertExtras.assertString(result)
+                        .hasCodePointCount(10)
+                        .hasCodePointsFrom(UnicodeBlock.TAGS);
+            }
+
+            @Test
+            void unicodeBlockWithPrivateUseCodePointsOnly() {
+                final InstancioApi<StringHolder> api = Instancio.of(StringHolder.class)
+                        .generate(allStrings(), gen -> gen.string().unicode(UnicodeBlock.SUPPLEMENTARY_PRIVATE_USE_AREA_A));
+
+                assertThatThrownBy(api::create)
+                        .isExactlyInstanceOf(InstancioApiException.class)
+                        .hasMessageContaining("unicode block SUPPLEMENTARY_PRIVATE_USE_AREA_A contains only private-use, surrogate, or unassigned code points");
+            }
+
             @Test
             void lengthZero() {
                 assertThat(create(s -> s.unicode().length(0))).isEmpty();
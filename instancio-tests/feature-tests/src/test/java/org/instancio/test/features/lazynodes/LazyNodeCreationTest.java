@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.lazynodes;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Pet;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Assign.valueOf;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.LAZY_NODE_CREATION)
+@ExtendWith(InstancioExtension.class)
+class LazyNodeCreationTest {
+
+    private static final long SEED = 123;
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.LAZY_NODE_CREATION, true);
+
+    @Test
+    void shouldProduceSameResultAsEagerNodeCreation() {
+        final Person lazy = Instancio.of(Person.class)
+                .withNullable(allStrings())
+                .withSeed(SEED)
+                .create();
+
+        final Person eager = Instancio.of(Person.class)
+                .withSetting(Keys.LAZY_NODE_CREATION, false)
+                .withNullable(allStrings())
+                .withSeed(SEED)
+                .create();
+
+        assertThat(lazy).usingRecursiveComparison().isEqualTo(eager);
+    }
+
+    @Test
+    void shouldSupportAssignments() {
+        final Person result = Instancio.of(Person.class)
+                .assign(valueOf(Person::getName).to(Address::getCity))
+                .create();
+
+        assertThat(result.getAddress().getCity()).isEqualTo(result.getName());
+    }
+
+    /**
+     * Phone nodes are not visited since the address is supplied.
+     * The selector should not be reported as unused.
+     */
+    @Test
+    void ignoredSelectorTargetingNodeThatWasNotVisited() {
+        final Person result = Instancio.of(Person.class)
+                .supply(all(Address.class), Address::new)
+                .ignore(field(Phone::getNumber))
+                .create();
+
+        assertThat(result.getAddress().getPhoneNumbers()).isNull();
+    }
+
+    @Test
+    void unusedSelector() {
+        final InstancioApi<Pet> api = Instancio.of(Pet.class)
+                .ignore(field(Phone::getNumber));
+
+        assertThatThrownBy(api::create).isExactlyInstanceOf(UnusedSelectorException.class);
+    }
+}
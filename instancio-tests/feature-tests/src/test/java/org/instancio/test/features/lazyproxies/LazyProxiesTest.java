@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.lazyproxies;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.interfaces.SingleInterfaceImpl.Widget;
+import org.instancio.test.support.pojo.interfaces.SingleInterfaceImpl.WidgetContainer;
+import org.instancio.test.support.pojo.interfaces.SingleInterfaceImpl.WidgetImpl;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.LAZY_PROXIES)
+@ExtendWith(InstancioExtension.class)
+class LazyProxiesTest {
+
+    private static final long SEED = 123;
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.LAZY_PROXIES, true);
+
+    @Test
+    void collectionShouldBeProxied() {
+        final Person result = Instancio.create(Person.class);
+
+        assertThat(Proxy.isProxyClass(result.getAddress().getPhoneNumbers().getClass())).isTrue();
+        assertThat(result.getAddress().getPhoneNumbers()).isNotEmpty()
+                .allSatisfy(phone -> assertThat(phone.getNumber()).isNotBlank());
+    }
+
+    @Test
+    void interfaceWithSubtypeShouldBeProxied() {
+        final WidgetContainer result = Instancio.of(WidgetContainer.class)
+                .subtype(all(Widget.class), WidgetImpl.class)
+                .set(field(WidgetImpl::getWidgetName), "foo")
+                .create();
+
+        assertThat(Proxy.isProxyClass(result.getWidget().getClass())).isTrue();
+        assertThat(result.getWidget().getWidgetName()).isEqualTo("foo");
+    }
+
+    @Test
+    void resultShouldNotDependOnAccessOrder() {
+        final Person first = Instancio.of(Person.class).withSeed(SEED).create();
+        final Person second = Instancio.of(Person.class).withSeed(SEED).create();
+
+        // access proxies in a different order before comparing
+        assertThat(second.getAddress().getPhoneNumbers()).isNotEmpty();
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void callbacksShouldBeInvokedWhenProxyIsAccessed() {
+        final AtomicInteger callbackCount = new AtomicInteger();
+
+        final Person result = Instancio.of(Person.class)
+                .onComplete(all(Phone.class), (Phone phone) -> callbackCount.incrementAndGet())
+                .create();
+
+        assertThat(callbackCount).hasValue(0);
+
+        final int numberOfPhones = result.getAddress().getPhoneNumbers().size();
+
+        assertThat(callbackCount).hasValue(numberOfPhones);
+    }
+
+    @Test
+    void shouldNotProxyNodeWithGenerator() {
+        final WidgetContainer result = Instancio.of(WidgetContainer.class)
+                .supply(all(Widget.class), WidgetImpl::new)
+                .create();
+
+        assertThat(result.getWidget()).isExactlyInstanceOf(WidgetImpl.class);
+    }
+
+    /**
+     * The phone number selector should not be reported as unused
+     * if phone numbers are not accessed.
+     */
+    @Test
+    void selectorTargetingProxiedNodeThatWasNotAccessed() {
+        final Person result = Instancio.of(Person.class)
+                .set(field(Phone::getNumber), "123")
+                .create();
+
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    void unusedSelector() {
+        final InstancioApi<WidgetContainer> api = Instancio.of(WidgetContainer.class)
+                .set(field(WidgetImpl::getWidgetName), "foo");
+
+        assertThatThrownBy(api::create).isExactlyInstanceOf(UnusedSelectorException.class);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.metrics;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.spi.GenerationMetrics;
+import org.instancio.spi.GenerationMetrics.Strategy;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Assign.valueOf;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+import static org.instancio.Select.scope;
+
+@FeatureTag(Feature.METRICS)
+@ExtendWith(InstancioExtension.class)
+class GenerationMetricsTest {
+
+    private final List<GenerationMetrics> results = new ArrayList<>();
+
+    private static class Pojo {
+        String string;
+        Integer integer;
+    }
+
+    private static class BooleanSetPojo {
+        Set<Boolean> booleans;
+    }
+
+    private static class DelayedItem {
+        String source;
+        String destination;
+    }
+
+    private static class DelayedPojo {
+        // each item's destination depends on the other item's source,
+        // therefore the first destination has to be delayed
+        DelayedItem first;
+        DelayedItem second;
+    }
+
+    @Test
+    void shouldReportMetricsForEachRootObject() {
+        Instancio.of(Pojo.class)
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, results::add)
+                .stream()
+                .limit(3)
+                .forEach(pojo -> assertThat(pojo).isNotNull());
+
+        assertThat(results).hasSize(3).allSatisfy(metrics -> {
+            assertThat(metrics.getRootType()).isEqualTo(Pojo.class);
+            assertThat(metrics.getNodesVisited()).isEqualTo(3);
+            assertThat(metrics.getObjectsCreated(Strategy.INSTANTIATED)).isOne();
+            assertThat(metrics.getObjectsCreated(Strategy.BUILT_IN_GENERATOR)).isEqualTo(2);
+            assertThat(metrics.getFilterRejections()).isZero();
+            assertThat(metrics.getRetries()).isZero();
+            assertThat(metrics.getDelayedNodes()).isZero();
+            assertThat(metrics.getModelBuildNanos()).isPositive();
+            assertThat(metrics.getGenerationNanos()).isPositive();
+        });
+    }
+
+    @Test
+    void userSuppliedValues() {
+        Instancio.of(Pojo.class)
+                .set(field(Pojo.class, "string"), "foo")
+                .supply(field(Pojo.class, "integer"), () -> 1)
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, results::add)
+                .create();
+
+        assertThat(results).singleElement().satisfies(metrics -> {
+            assertThat(metrics.getObjectsCreated(Strategy.USER_SUPPLIED)).isEqualTo(2);
+            assertThat(metrics.getObjectsCreated(Strategy.BUILT_IN_GENERATOR)).isZero();
+        });
+    }
+
+    @Test
+    void filterRejections() {
+        final AtomicInteger count = new AtomicInteger();
+
+        Instancio.of(Pojo.class)
+                .filter(all(Integer.class), (Integer i) -> count.incrementAndGet() > 3)
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, results::add)
+                .create();
+
+        assertThat(results).singleElement().satisfies(metrics -> {
+            assertThat(metrics.getFilterRejections()).isEqualTo(3);
+            assertThat(metrics.getNodesVisited()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void retries() {
+        final int maxGenerationAttempts = 10;
+
+        Instancio.of(BooleanSetPojo.class)
+                .generate(all(Set.class), gen -> gen.collection().size(3))
+                .withSetting(Keys.MAX_GENERATION_ATTEMPTS, maxGenerationAttempts)
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, results::add)
+                .create();
+
+        assertThat(results).singleElement()
+                .satisfies(metrics -> assertThat(metrics.getRetries()).isEqualTo(maxGenerationAttempts + 1));
+    }
+
+    @Test
+    void delayedNodes() {
+        final DelayedPojo result = Instancio.of(DelayedPojo.class)
+                .assign(valueOf(field(DelayedItem.class, "source").within(scope(DelayedPojo.class, "second")))
+                        .to(field(DelayedItem.class, "destination").within(scope(DelayedPojo.class, "first"))))
+                .assign(valueOf(field(DelayedItem.class, "source").within(scope(DelayedPojo.class, "first")))
+                        .to(field(DelayedItem.class, "destination").within(scope(DelayedPojo.class, "second"))))
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, results::add)
+                .create();
+
+        assertThat(result.first.destination).isEqualTo(result.second.source);
+        assertThat(result.second.destination).isEqualTo(result.first.source);
+        assertThat(results).singleElement()
+                .satisfies(metrics -> assertThat(metrics.getDelayedNodes()).isOne());
+    }
+
+    @Test
+    void nullResults() {
+        final List<Pojo> pojos = Instancio.of(Pojo.class)
+                .withNullable(field(Pojo.class, "string"))
+                .withSetting(Keys.GENERATION_METRICS_LISTENER, results::add)
+                .stream()
+                .limit(100)
+                .collect(Collectors.toList());
+
+        final long nullCount = pojos.stream().filter(pojo -> pojo.string == null).count();
+
+        assertThat(nullCount).isPositive();
+        assertThat(results.stream().mapToLong(GenerationMetrics::getNullResults).sum()).isEqualTo(nullCount);
+    }
+}
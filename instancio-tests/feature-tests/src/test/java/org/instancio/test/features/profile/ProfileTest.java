@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.profile;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.PROFILE)
+@ExtendWith(InstancioExtension.class)
+class ProfileTest {
+
+    private static final String PROFILE_HEADER = " -> Instancio profile for ProfileTest$Pojo";
+
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+
+    private static class Pojo {
+        private String value;
+        private Set<Boolean> booleans;
+    }
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(standardOut);
+    }
+
+    @Test
+    void shouldNotOutputProfileByDefault() {
+        // a Set<Boolean> cannot contain more than 2 elements
+        Instancio.of(Pojo.class)
+                .generate(field("booleans"), gen -> gen.collection().size(2))
+                .create();
+
+        assertThat(outputStreamCaptor.toString()).isEmpty();
+    }
+
+    @Test
+    void profile() {
+        Instancio.of(Pojo.class)
+                .set(field("value"), null)
+                .generate(field("booleans"), gen -> gen.collection().size(2))
+                .profile()
+                .create();
+
+        // Format: [values, nulls, retries, ...]
+        assertThat(outputStreamCaptor)
+                .asString()
+                .containsSubsequence(
+                        PROFILE_HEADER,
+                        "### Nodes",
+                        "<0:ProfileTest$Pojo> [1, 0, 0, ",
+                        "<1:ProfileTest$Pojo: String value> [0, 1, 0, ",
+                        "<1:ProfileTest$Pojo: Set<Boolean> booleans> [1, 0, ",
+                        "<2:Boolean> [",
+                        " -> Total time ............: ",
+                        "### Hottest subtrees",
+                        " 1. <1:ProfileTest$Pojo");
+    }
+
+    @Test
+    void retries() {
+        // a Set<Boolean> cannot contain more than 2 elements
+        Instancio.of(Pojo.class)
+                .generate(field("booleans"), gen -> gen.collection().size(3))
+                .lenient()
+                .profile()
+                .create();
+
+        assertThat(outputStreamCaptor)
+                .asString()
+                .contains("<1:ProfileTest$Pojo: Set<Boolean> booleans> [1, 0, 1001, ");
+    }
+
+    @Test
+    void filterRejectionsShouldBeCountedAsRetries() {
+        final AtomicInteger count = new AtomicInteger();
+
+        // reject the first two values
+        Instancio.of(Pojo.class)
+                .filter(field("value"), (String s) -> count.getAndIncrement() >= 2)
+                .profile()
+                .create();
+
+        assertThat(outputStreamCaptor)
+                .asString()
+                .contains("<1:ProfileTest$Pojo: String value> [1, 0, 2, ");
+    }
+
+    @Test
+    void shouldOutputProfileForEachObject() {
+        final int size = 3;
+
+        Instancio.of(Pojo.class)
+                .profile()
+                .stream()
+                .limit(size)
+                .collect(Collectors.toList());
+
+        assertThat(outputStreamCaptor.toString().split(Pattern.quote(PROFILE_HEADER), -1))
+                .hasSize(size + 1);
+    }
+}
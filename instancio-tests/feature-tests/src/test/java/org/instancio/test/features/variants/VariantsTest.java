@@ -0,0 +1,196 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.variants;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.Model;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Assign.valueOf;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.VARIANTS)
+@ExtendWith(InstancioExtension.class)
+class VariantsTest {
+
+    private static final int LIMIT = 10;
+    private static final long SEED = 123;
+
+    @Test
+    void shouldRegenerateOnlyTargets() {
+        final List<Person> results = Instancio.of(Person.class)
+                .variants(field(Person::getName))
+                .limit(LIMIT)
+                .collect(toList());
+
+        assertThat(results).extracting(Person::getName).doesNotHaveDuplicates();
+        assertThat(results).allSatisfy(result -> assertThat(result)
+                .usingRecursiveComparison()
+                .ignoringFields("name")
+                .isEqualTo(results.get(0)));
+    }
+
+    @Test
+    void variantsShouldNotShareObjects() {
+        final List<Person> results = Instancio.of(Person.class)
+                .variants(field(Person::getName))
+                .limit(2)
+                .collect(toList());
+
+        final Address first = results.get(0).getAddress();
+        final Address second = results.get(1).getAddress();
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getPhoneNumbers()).isNotSameAs(second.getPhoneNumbers());
+
+        first.getPhoneNumbers().clear();
+
+        assertThat(second.getPhoneNumbers()).isNotEmpty();
+    }
+
+    @Test
+    void shouldRegenerateCollectionElements() {
+        final List<Person> results = Instancio.of(Person.class)
+                .variants(all(Phone.class))
+                .limit(2)
+                .collect(toList());
+
+        final List<Phone> first = results.get(0).getAddress().getPhoneNumbers();
+        final List<Phone> second = results.get(1).getAddress().getPhoneNumbers();
+
+        assertThat(first).hasSameSizeAs(second).isNotEqualTo(second);
+        assertThat(results.get(0).getAddress().getCity()).isEqualTo(results.get(1).getAddress().getCity());
+    }
+
+    @Test
+    void shouldCopyUnmodifiableCollections() {
+        final List<Person> results = Instancio.of(Person.class)
+                .supply(field(Address::getPhoneNumbers), () -> Collections.unmodifiableList(
+                        Arrays.asList(Instancio.create(Phone.class), Instancio.create(Phone.class))))
+                .variants(field(Phone::getNumber))
+                .limit(2)
+                .collect(toList());
+
+        final List<Phone> first = results.get(0).getAddress().getPhoneNumbers();
+        final List<Phone> second = results.get(1).getAddress().getPhoneNumbers();
+
+        assertThat(first).isNotSameAs(second).hasSize(2);
+        assertThat(second).hasSize(2);
+        assertThat(first).extracting(Phone::getCountryCode)
+                .isEqualTo(second.stream().map(Phone::getCountryCode).collect(toList()));
+        assertThat(first).extracting(Phone::getNumber)
+                .doesNotContainAnyElementsOf(second.stream().map(Phone::getNumber).collect(toList()));
+    }
+
+    @Test
+    void closingStreamShouldCloseFeeds() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream data = new ByteArrayInputStream("countryCode,number\n+1,111\n+2,222\n+3,333".getBytes()) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (Stream<Person> variants = Instancio.of(Person.class)
+                .withSetting(Keys.FEED_DATA_STORAGE, FeedDataStorage.STREAMING)
+                .generate(field(Address::getPhoneNumbers), gen -> gen.collection().size(1))
+                .applyFeed(all(Phone.class), feed -> feed.ofInputStream(data))
+                .variants(field(Person::getName))) {
+
+            assertThat(variants.limit(2).collect(toList())).hasSize(2);
+            assertThat(closed).isFalse();
+        }
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void variantsOfModel() {
+        final Model<Person> model = Instancio.of(Person.class)
+                .set(field(Person::getAge), 42)
+                .toModel();
+
+        final List<Person> results = Instancio.of(model)
+                .variants(field(Person::getAge), field(Person::getName))
+                .limit(LIMIT)
+                .collect(toList());
+
+        assertThat(results).extracting(Person::getAge).containsOnly(42);
+        assertThat(results).extracting(Person::getName).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldProduceSameVariantsForSameSeed() {
+        final List<String> first = Instancio.of(Person.class)
+                .withSeed(SEED)
+                .variants(field(Person::getName))
+                .limit(LIMIT)
+                .map(Person::getName)
+                .collect(toList());
+
+        final List<String> second = Instancio.of(Person.class)
+                .withSeed(SEED)
+                .variants(field(Person::getName))
+                .limit(LIMIT)
+                .map(Person::getName)
+                .collect(toList());
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void selectorDoesNotMatchAnyNode() {
+        final InstancioApi<Address> api = Instancio.of(Address.class);
+
+        assertThatThrownBy(() -> api.variants(field(Person::getName)))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("variants() selectors did not match any nodes");
+    }
+
+    @Test
+    void assignmentsAreNotSupported() {
+        final InstancioApi<Person> api = Instancio.of(Person.class)
+                .assign(valueOf(Person::getName).to(Address::getCity));
+
+        assertThatThrownBy(() -> api.variants(field(Person::getAge)))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("variants() does not support objects that use assign()");
+    }
+}
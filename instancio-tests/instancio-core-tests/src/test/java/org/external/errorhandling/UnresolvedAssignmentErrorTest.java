@@ -49,35 +49,21 @@ class UnresolvedAssignmentErrorTest extends AbstractErrorMessageTestTemplate {
 
                 Reason: unresolved assignment expression
 
-                The following assignments could not be applied:
+                The following assignments form a cycle:
 
                  -> from [field(StringsAbc, "c")] to [field(StringsAbc, "a")]
-                 -> from [field(StringsAbc, "a")] to [field(StringsAbc, "b")]
                  -> from [field(StringsAbc, "b").within(scope(StringsAbc))] to [field(StringsAbc, "c")]
+                 -> from [field(StringsAbc, "a")] to [field(StringsAbc, "b")]
 
-                As a result, the following targets could not be assigned a value:
+                Each of the following targets requires the value of another target in the cycle,
+                therefore none of them can be assigned a value:
 
-                 -> field StringsAbc.b (depth=1)
-                 -> field StringsAbc.c (depth=1)
                  -> field StringsAbc.a (depth=1)
+                 -> field StringsAbc.c (depth=1)
+                 -> field StringsAbc.b (depth=1)
 
-                Possible causes:
-
-                 -> The assignments form a cycle, for example:
-
-                    Pojo pojo = Instancio.of(Pojo.class)
-                        .assign(Assign.valueOf(Pojo::getFoo).to(Pojo::getBar))
-                        .assign(Assign.valueOf(Pojo::getBar).to(Pojo::getFoo))
-                        .create();
-
-                 -> Part of the assignment expression is ignored using the ignore() method:
-
-                    Person person = Instancio.of(Person.class)
-                        .ignore(field(Person::getGender)) // ignored!
-                        .assign(Assign.given(field(Person::getGender), field(Person::getName))
-                                .set(When.is(Gender.FEMALE), "Fiona")
-                                .set(When.is(Gender.MALE), "Michael"))
-                        .create();
+                To resolve the error, remove one of the assignments from the cycle,
+                or replace it with an assignment that does not depend on another target.
 
 
                 """;
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.Select;
+import org.instancio.TargetSelector;
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.testsupport.fixtures.Nodes;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DelayedNodeQueueTest {
+
+    private static final TargetSelector SELECTOR_A = Select.allStrings();
+    private static final TargetSelector SELECTOR_B = Select.allInts();
+
+    private final DelayedNodeQueue queue = new DelayedNodeQueue();
+
+    @Test
+    void removeFirst() {
+        final DelayedNode node1 = delayedNode(SELECTOR_A);
+        final DelayedNode node2 = delayedNode(SELECTOR_B);
+        final DelayedNode node3 = delayedNode(null);
+        queue.addLast(node1);
+        queue.addLast(node2);
+        queue.addLast(node3);
+
+        assertThat(queue.removeFirst()).isSameAs(node1);
+        assertThat(queue.removeFirst()).isSameAs(node2);
+        assertThat(queue.removeFirst()).isSameAs(node3);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.removeAwaiting(SELECTOR_A)).isEmpty();
+    }
+
+    @Test
+    void removeAwaiting() {
+        final DelayedNode node1 = delayedNode(SELECTOR_A);
+        final DelayedNode node2 = delayedNode(SELECTOR_B);
+        final DelayedNode node3 = delayedNode(SELECTOR_A);
+        queue.addLast(node1);
+        queue.addLast(node2);
+        queue.addLast(node3);
+
+        assertThat(queue.removeAwaiting(SELECTOR_A)).containsExactly(node1, node3);
+        assertThat(queue.removeAwaiting(SELECTOR_A)).isEmpty();
+        assertThat(queue).containsExactly(node2);
+        assertThat(queue.size()).isOne();
+    }
+
+    @Test
+    void nodeWithoutAwaitedDestinationShouldOnlyBeRemovedInOrder() {
+        final DelayedNode node = delayedNode(null);
+        queue.addLast(node);
+
+        assertThat(queue.removeAwaiting(SELECTOR_A)).isEmpty();
+        assertThat(queue).containsExactly(node);
+    }
+
+    private static DelayedNode delayedNode(final TargetSelector awaitedDestination) {
+        return new DelayedNode(Nodes.node(String.class), GeneratorResult.emptyResult(), awaitedDestination);
+    }
+}
@@ -103,6 +103,19 @@ class ModelContextTest {
         assertThat(ctx.getRandom().getSeed()).isEqualTo(expected);
     }
 
+    @Test
+    void getNodeCache() {
+        final ModelContext<?> ctx = ModelContext.builder(Person.class).build();
+        final InternalNode node = mockNode(Person.class, NAME_FIELD);
+        ctx.getNodeCache(String.class).put(node, "foo");
+
+        assertThat(ctx.<String>getNodeCache(String.class)).containsEntry(node, "foo");
+        assertThat(ctx.getNodeCache(Integer.class)).isEmpty();
+        assertThat(ctx.toBuilder().build().getNodeCache(String.class))
+                .as("cache should not be copied to a new context")
+                .isEmpty();
+    }
+
     @Test
     void withIgnoredField() {
         ModelContext<?> ctx = ModelContext.builder(Person.class)
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.exception.InstancioApiException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarDataStoreTest {
+
+    private static final List<String[]> DATA = Arrays.asList(
+            new String[]{"country", "id", "status"},
+            new String[]{"CA", "1", "ACTIVE"},
+            new String[]{"US", "2", "ACTIVE"},
+            new String[]{"CA", "3"},
+            new String[]{"CA", "4", "INACTIVE", "ignored"});
+
+    @Test
+    void shouldReturnSameRowsAsTabularDataStore() {
+        final DataStore<String[]> expected = new TabularDataStore(null, DATA);
+        final DataStore<String[]> store = new ColumnarDataStore(null, DATA);
+
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.getPropertyKeys()).containsExactly("country", "id", "status");
+        assertThat(store.indexOf("status")).isEqualTo(2);
+        assertThat(store.indexOf("foo")).isEqualTo(-1);
+
+        assertThat(store.get(0)).containsExactly(expected.get(0));
+        assertThat(store.get(1)).containsExactly(expected.get(1));
+        // missing values are returned as nulls
+        assertThat(store.get(2)).containsExactly("CA", "3", null);
+        // values without a header are not stored
+        assertThat(store.get(3)).containsExactly("CA", "4", "INACTIVE");
+    }
+
+    @Test
+    void shouldStoreDistinctValuesOnce() {
+        final List<String[]> data = Arrays.asList(
+                new String[]{"value"},
+                new String[]{new String("foo")},
+                new String[]{new String("foo")});
+
+        final DataStore<String[]> store = new ColumnarDataStore(null, data);
+
+        assertThat(store.get(0)[0]).isSameAs(store.get(1)[0]);
+    }
+
+    @Test
+    void groupByTag() {
+        final DataStore<String[]> store = new ColumnarDataStore("country", DATA);
+
+        assertThat(store.getTagKeys()).containsExactlyInAnyOrder("CA", "US");
+        assertThat(store.get("CA")).extracting(row -> row[1]).containsExactly("1", "3", "4");
+        assertThat(store.get("US")).extracting(row -> row[1]).containsExactly("2");
+
+        assertThatThrownBy(() -> store.get("MX"))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("no data found with tag value: 'MX' (tagKey is set to: 'country')");
+    }
+
+    @Test
+    void withoutTagKey() {
+        final DataStore<String[]> store = new ColumnarDataStore(null, DATA);
+
+        assertThat(store.getTagKeys()).containsExactly((String) null);
+        assertThat(store.get((String) null)).hasSize(4);
+    }
+
+    @Test
+    void emptyData() {
+        final List<String[]> data = Collections.emptyList();
+
+        assertThatThrownBy(() -> new ColumnarDataStore(null, data))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("empty data source");
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.FeedCacheStatistics;
+import org.instancio.internal.util.Fail;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataStoreCacheTest {
+
+    private static DataStore<?> createDataStore() {
+        return new TabularDataStore(null, Collections.singletonList(new String[]{"value"}));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        final DataStoreCache cache = new DataStoreCache(1);
+        final DataStore<?> dataStore1 = createDataStore();
+        final DataStore<?> dataStore2 = createDataStore();
+
+        assertThat(cache.get("key1", () -> dataStore1)).isSameAs(dataStore1);
+        assertThat(cache.get("key1", DataStoreCacheTest::createDataStore)).isSameAs(dataStore1);
+        assertThat(cache.get("key2", () -> dataStore2)).isSameAs(dataStore2); // evicts key1
+        assertThat(cache.get("key1", () -> dataStore1)).isSameAs(dataStore1); // evicts key2
+
+        final FeedCacheStatistics stats = cache.getStatistics();
+        assertThat(stats.getSize()).isOne();
+        assertThat(stats.getHitCount()).isOne();
+        assertThat(stats.getMissCount()).isEqualTo(3);
+        assertThat(stats.getLoadCount()).isEqualTo(3);
+        assertThat(stats.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentMissesShouldLoadDataOnce() throws Exception {
+        final DataStoreCache cache = new DataStoreCache(10);
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch waiting = new CountDownLatch(1);
+        final List<DataStore<?>> results = Collections.synchronizedList(new ArrayList<>());
+
+        final Thread loader = new Thread(() -> results.add(cache.get("key", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(waiting);
+            return createDataStore();
+        })));
+
+        loader.start();
+        loading.await();
+
+        final Thread waiter = new Thread(() -> results.add(cache.get("key", () -> {
+            loads.incrementAndGet();
+            return createDataStore();
+        })));
+
+        waiter.start();
+        waiting.countDown();
+        loader.join();
+        waiter.join();
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSameAs(results.get(1));
+    }
+
+    @Test
+    void failedLoadShouldNotBeCached() {
+        final DataStoreCache cache = new DataStoreCache(10);
+        final DataStore<?> dataStore = createDataStore();
+
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw Fail.withUsageError("expected error");
+        }))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("expected error");
+
+        assertThat(cache.get("key", () -> dataStore)).isSameAs(dataStore);
+        assertThat(cache.getStatistics().getSize()).isOne();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
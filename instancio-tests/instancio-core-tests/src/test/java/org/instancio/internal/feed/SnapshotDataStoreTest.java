@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotDataStoreTest {
+
+    private static final List<String[]> DATA = Arrays.asList(
+            new String[]{"country", "id", "status"},
+            new String[]{"CA", "1", "ACTIVE"},
+            new String[]{"US", "2", null},
+            new String[]{"CA", "3"},
+            new String[]{"日本", "😀", "unpaired \uD800 surrogate", "extra"},
+            new String[]{});
+
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"country", "status", "undefined"})
+    void shouldReturnSameDataAsTabularDataStore(final String tagKey) throws Exception {
+        final Path snapshot = tempDir.resolve("data.snapshot");
+        final long size = SnapshotDataStore.write(snapshot, DATA);
+
+        assertThat(size).isEqualTo(Files.size(snapshot));
+
+        final DataStore<String[]> expected = new TabularDataStore(tagKey, DATA);
+        final DataStore<String[]> store = new SnapshotDataStore(snapshot, tagKey);
+
+        assertThat(store.size()).isEqualTo(expected.size());
+        assertThat(store.getPropertyKeys()).containsExactlyElementsOf(expected.getPropertyKeys());
+        assertThat(store.getTagKeys()).containsExactlyInAnyOrderElementsOf(expected.getTagKeys());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(store.get(i)).containsExactly(expected.get(i));
+        }
+        for (String tag : expected.getTagKeys()) {
+            assertThat(store.get(tag))
+                    .usingElementComparator(Arrays::compare)
+                    .containsExactlyElementsOf(expected.get(tag));
+        }
+    }
+
+    @Test
+    void readRows() throws Exception {
+        final Path snapshot = tempDir.resolve("data.snapshot");
+        SnapshotDataStore.write(snapshot, DATA);
+
+        final List<String[]> rows = new SnapshotDataStore(snapshot, null).readRows();
+
+        assertThat(rows)
+                .usingElementComparator(Arrays::compare)
+                .containsExactlyElementsOf(DATA);
+    }
+
+    @Test
+    void utf8Length() {
+        assertThat(SnapshotDataStore.utf8Length("")).isZero();
+        assertThat(SnapshotDataStore.utf8Length("abc")).isEqualTo(3);
+        assertThat(SnapshotDataStore.utf8Length("é")).isEqualTo(2);
+        assertThat(SnapshotDataStore.utf8Length("日")).isEqualTo(3);
+        assertThat(SnapshotDataStore.utf8Length("😀")).isEqualTo(4);
+        assertThat(SnapshotDataStore.utf8Length("\uD800")).isEqualTo(-1);
+        assertThat(SnapshotDataStore.utf8Length("\uDE00\uD83D")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.exception.InstancioApiException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpecTemplateTest {
+
+    @Test
+    void render() {
+        final SpecTemplate template = SpecTemplate.compile("Hello ${first} ${last}!");
+
+        assertThat(template.getKeyCount()).isEqualTo(2);
+        assertThat(template.getKey(0)).isEqualTo("first");
+        assertThat(template.getKey(1)).isEqualTo("last");
+        assertThat(template.render(new String[]{"John", "Doe"})).isEqualTo("Hello John Doe!");
+    }
+
+    @Test
+    void repeatedKeysShouldBeResolvedOnce() {
+        final SpecTemplate template = SpecTemplate.compile("${a}-${b}-${a}");
+
+        assertThat(template.getKeyCount()).isEqualTo(2);
+        assertThat(template.render(new String[]{"x", "y"})).isEqualTo("x-y-x");
+    }
+
+    @Test
+    void nullValuesShouldBeRenderedAsEmptyString() {
+        final SpecTemplate template = SpecTemplate.compile("[${a}]");
+
+        assertThat(template.render(new String[]{null})).isEqualTo("[]");
+    }
+
+    @Test
+    void valuesShouldNotBeInterpretedAsPlaceholders() {
+        final SpecTemplate template = SpecTemplate.compile("${a} ${b}");
+
+        assertThat(template.render(new String[]{"${b}", "foo"})).isEqualTo("${b} foo");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "no placeholders", "$", "$}", "{}"})
+    void templateWithoutPlaceholders(final String pattern) {
+        final SpecTemplate template = SpecTemplate.compile(pattern);
+
+        assertThat(template.getKeyCount()).isZero();
+        assertThat(template.render(new String[0])).isEqualTo(pattern);
+    }
+
+    @Test
+    void unterminatedPlaceholder() {
+        assertThatThrownBy(() -> SpecTemplate.compile("foo ${bar"))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("unterminated placeholder");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"${}", "${a${b}"})
+    void invalidKey(final String pattern) {
+        assertThatThrownBy(() -> SpecTemplate.compile(pattern))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("invalid key");
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed;
+
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.DataSource;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingDataCursorTest {
+
+    private static final List<String[]> DATA = Arrays.asList(
+            new String[]{"id"},
+            new String[]{"1"},
+            new String[]{"2"});
+
+    private final CountingReaderFactory readerFactory = new CountingReaderFactory();
+
+    private StreamingDataCursor createCursor(final FeedDataEndAction onDataEnd) {
+        final Settings settings = Settings.defaults().set(Keys.FEED_DATA_END_ACTION, onDataEnd);
+        final InternalFeedContext<?> feedContext = InternalFeedContext.builder(source -> source.ofString("unused"))
+                .withGeneratorContext(new GeneratorContext(settings, new DefaultRandom()))
+                .build();
+
+        return new StreamingDataCursor(feedContext, readerFactory);
+    }
+
+    @Test
+    void shouldNotOpenDataSourceUntilAccessed() {
+        final StreamingDataCursor cursor = createCursor(FeedDataEndAction.FAIL);
+        assertThat(readerFactory.opened).isZero();
+
+        assertThat(cursor.getPropertyKeys()).containsExactly("id");
+        assertThat(cursor.next()).containsExactly("1");
+        assertThat(readerFactory.opened).isOne();
+    }
+
+    @Test
+    void shouldCloseDataSourceAtEndOfData() {
+        final StreamingDataCursor cursor = createCursor(FeedDataEndAction.FAIL);
+        cursor.next();
+        cursor.next();
+
+        assertThatThrownBy(cursor::next)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("reached end of data");
+
+        // should not re-open the data source after the end of data
+        assertThatThrownBy(cursor::next)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("reached end of data");
+
+        assertThat(readerFactory.opened).isOne();
+        assertThat(readerFactory.closed).isOne();
+    }
+
+    @Test
+    void recycleShouldReopenDataSource() {
+        final StreamingDataCursor cursor = createCursor(FeedDataEndAction.RECYCLE);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cursor.next()).containsExactly("1");
+            assertThat(cursor.next()).containsExactly("2");
+        }
+        assertThat(readerFactory.opened).isEqualTo(3);
+        assertThat(readerFactory.closed).isEqualTo(2);
+    }
+
+    @Test
+    void closeShouldReleaseDataSource() {
+        final StreamingDataCursor cursor = createCursor(FeedDataEndAction.FAIL);
+        cursor.close();
+        assertThat(readerFactory.closed).isZero();
+
+        assertThat(cursor.next()).containsExactly("1");
+        cursor.close();
+        assertThat(readerFactory.closed).isOne();
+
+        // reading after close starts from the beginning
+        assertThat(cursor.next()).containsExactly("1");
+        assertThat(readerFactory.opened).isEqualTo(2);
+    }
+
+    private static final class CountingReaderFactory implements StreamingDataCursor.RecordReaderFactory {
+        private int opened;
+        private int closed;
+
+        @Override
+        public RecordReader open(final DataSource dataSource) {
+            opened++;
+            final Iterator<String[]> iterator = DATA.iterator();
+
+            return new RecordReader() {
+                @Override
+                public String[] readRecord() {
+                    return iterator.hasNext() ? iterator.next() : null;
+                }
+
+                @Override
+                public void close() {
+                    closed++;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.feed.csv;
+
+import org.instancio.feed.DataSource;
+import org.instancio.internal.feed.datasource.FileDataSource;
+import org.instancio.internal.feed.datasource.StringDataSource;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelCsvDataLoaderTest {
+
+    private static final int ROWS = 1000;
+
+    private final CsvDataLoader sequentialLoader = new CsvDataLoader(
+            InternalCsvFormatOptions.defaults(Settings.defaults()));
+
+    private static final int PARALLELISM = 4;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path createFile() throws Exception {
+        final StringBuilder sb = new StringBuilder("# comment\r\nid, name, \"quoted\"\r\n");
+        for (int i = 0; i < ROWS; i++) {
+            sb.append(i).append(", name").append(i).append(", \"foo, ").append(i).append('"');
+            if (i % 10 == 0) {
+                sb.append("\r\n\r\n# comment\n");
+            } else {
+                sb.append(i % 2 == 0 ? "\n" : "\r\n");
+            }
+        }
+        sb.append("last, row");
+
+        final Path path = tempDir.resolve("data.csv");
+        Files.write(path, sb.toString().getBytes(Charset.defaultCharset()));
+        return path;
+    }
+
+    @ValueSource(ints = {1, 7, 100, 4096, Integer.MAX_VALUE})
+    @ParameterizedTest
+    void shouldProduceSameResultAsSequentialLoader(final int chunkSize) throws Exception {
+        final DataSource dataSource = new FileDataSource(createFile());
+        final ParallelCsvDataLoader parallelLoader = new ParallelCsvDataLoader(
+                sequentialLoader, Charset.defaultCharset(), PARALLELISM, 0, chunkSize);
+
+        final List<String[]> expected = sequentialLoader.load(dataSource);
+        final List<String[]> actual = parallelLoader.load(dataSource);
+
+        assertThat(actual).hasSize(ROWS + 2);
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void nonFileDataSource() throws Exception {
+        final DataSource dataSource = new StringDataSource("value\nfoo");
+        final ParallelCsvDataLoader parallelLoader = new ParallelCsvDataLoader(
+                sequentialLoader, Charset.defaultCharset(), PARALLELISM, 0, 1);
+
+        assertThat(parallelLoader.load(dataSource))
+                .containsExactly(new String[]{"value"}, new String[]{"foo"});
+    }
+
+    @Test
+    void unsupportedCharset() {
+        assertThat(CsvDataLoader.hasSingleByteLineTerminators(StandardCharsets.UTF_8)).isTrue();
+        assertThat(CsvDataLoader.hasSingleByteLineTerminators(StandardCharsets.ISO_8859_1)).isTrue();
+        assertThat(CsvDataLoader.hasSingleByteLineTerminators(StandardCharsets.UTF_16)).isFalse();
+    }
+}
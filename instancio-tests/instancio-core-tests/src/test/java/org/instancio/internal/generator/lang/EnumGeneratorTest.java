@@ -74,6 +74,24 @@ class EnumGeneratorTest {
         assertThat(generator.generate(random)).isEqualTo(Gender.OTHER);
     }
 
+    @Test
+    void excludingSingleValue() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.excluding(Gender.OTHER);
+
+        assertThat(IntStream.range(1, 500).mapToObj(i -> generator.generate(random)))
+                .containsOnly(Gender.MALE, Gender.FEMALE);
+    }
+
+    @Test
+    void excludingAllValuesFallsBackToAllValues() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.excluding(Gender.values());
+
+        assertThat(IntStream.range(1, 500).mapToObj(i -> generator.generate(random)))
+                .contains(Gender.values());
+    }
+
     @Test
     void excludingWithEmptyArgs() {
         final EnumGenerator<SingleValueEnum> generator = new EnumGenerator<>(context, SingleValueEnum.class);
@@ -15,19 +15,26 @@
  */
 package org.instancio.internal.generator.text;
 
+import org.instancio.Random;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.generator.AbstractGeneratorTestTemplate;
 import org.instancio.internal.util.StringUtils;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
 import org.instancio.test.support.tags.NonDeterministicTag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TextPatternGeneratorTest extends AbstractGeneratorTestTemplate<String, TextPatternGenerator> {
+    private static final long SEED = 1234L;
     private static final String ALLOWED_HASHTAGS_MESSAGE = String.format("%nAllowed hashtags:"
             + "%n\t#a - alphanumeric character [a-z, A-Z, 0-9]"
             + "%n\t#c - lower case character [a-z]"
@@ -127,6 +134,40 @@ class TextPatternGeneratorTest extends AbstractGeneratorTestTemplate<String, Tex
                 .hasMessageContaining(ALLOWED_HASHTAGS_MESSAGE);
     }
 
+    @Test
+    void invalidPatternIsReportedWhenGeneratorIsCreated() {
+        assertThatThrownBy(() -> new TextPatternGenerator(context, "#C#x"))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("text pattern '#C#x' contains an invalid hashtag '#x'");
+    }
+
+    @Test
+    void generatesIndependentValuesFromSameGenerator() {
+        final TextPatternGenerator generator = new TextPatternGenerator(context, "#C#C-#d#d#d#d");
+
+        final Set<String> results = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(generator.generate(random));
+        }
+
+        assertThat(results)
+                .hasSizeGreaterThan(1)
+                .allSatisfy(result -> assertThat(result).matches("^[A-Z]{2}-\\d{4}$"));
+    }
+
+    @Test
+    void generatorsWithSamePatternAndSeedProduceSameValues() {
+        final String pattern = "#a#c#C#d#h#H-##";
+        final TextPatternGenerator generator1 = new TextPatternGenerator(context, pattern);
+        final TextPatternGenerator generator2 = new TextPatternGenerator(context, pattern);
+        final Random random1 = new DefaultRandom(SEED, Seeds.Source.MANUAL);
+        final Random random2 = new DefaultRandom(SEED, Seeds.Source.MANUAL);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator1.generate(random1)).isEqualTo(generator2.generate(random2));
+        }
+    }
+
     private String generate(final String pattern) {
         TextPatternGenerator generator = new TextPatternGenerator(context, pattern);
         return generator.generate(random);
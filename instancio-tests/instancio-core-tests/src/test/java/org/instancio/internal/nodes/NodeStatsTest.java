@@ -19,6 +19,7 @@ import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.selectors.SelectorImpl;
 import org.instancio.internal.selectors.TargetField;
 import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.instancio.test.support.pojo.cyclic.onetomany.MainPojo;
 import org.instancio.test.support.pojo.dynamic.DynPhone;
@@ -153,4 +154,29 @@ class NodeStatsTest {
         assertThat(stats.getHeight()).isEqualTo(2);
     }
 
+    @Test
+    void countShouldMatchComputedStats() {
+        final InternalNode node = NODE_FACTORY.createRootNode(Person.class);
+        final NodeStats computed = NodeStats.compute(node);
+        final NodeStats counted = NodeStats.count(node);
+
+        assertThat(counted.getTreeString()).isEmpty();
+        assertThat(counted.getTotalNodes()).isEqualTo(computed.getTotalNodes());
+        assertThat(counted.getHeight()).isEqualTo(computed.getHeight());
+    }
+
+    @Test
+    void countShouldNotCreateDeferredChildren() {
+        final NodeContext ctx = new NodeContext(ModelContext.builder(Person.class)
+                .withSettings(Settings.create().set(Keys.LAZY_NODE_CREATION, true))
+                .build());
+
+        final InternalNode node = new NodeFactory(ctx).createRootNode(Person.class);
+        final NodeStats stats = NodeStats.count(node);
+
+        assertThat(stats.getTotalNodes()).isOne();
+        assertThat(stats.getHeight()).isZero();
+        assertThat(node.getCreatedChildren()).isEmpty();
+        assertThat(node.getChildren()).isNotEmpty();
+    }
 }
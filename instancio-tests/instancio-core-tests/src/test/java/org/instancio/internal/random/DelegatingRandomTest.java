@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DelegatingRandomTest {
+
+    @Test
+    void shouldUseCurrentDelegate() {
+        final DelegatingRandom random = new DelegatingRandom(new DefaultRandom(1, Seeds.Source.MANUAL));
+        random.longRange(1, Long.MAX_VALUE);
+        random.setDelegate(new DefaultRandom(2, Seeds.Source.MANUAL));
+
+        final DefaultRandom expected = new DefaultRandom(2, Seeds.Source.MANUAL);
+
+        assertThat(random.getSeed()).isEqualTo(2);
+        assertThat(random.longRange(1, Long.MAX_VALUE)).isEqualTo(expected.longRange(1, Long.MAX_VALUE));
+        assertThat(random.alphanumeric(10)).isEqualTo(expected.alphanumeric(10));
+        assertThat(random.oneOf("a", "b", "c")).isEqualTo(expected.oneOf(new String[]{"a", "b", "c"}));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import java.lang.Character.UnicodeBlock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodePointTableTest {
+
+    private static final int SAMPLE_SIZE = 10_000;
+
+    private final Random random = new DefaultRandom();
+
+    @Test
+    void defaultTableContainsOnlyValidCodePoints() {
+        final CodePointTable table = CodePointTable.getDefault();
+
+        int expectedSize = 0;
+        for (int cp = 0; cp <= Constants.MAX_CODE_POINT; cp++) {
+            if (isValid(cp)) expectedSize++;
+        }
+
+        assertThat(table.size()).isEqualTo(expectedSize);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final int cp = table.nextCodePoint(random);
+            assertThat(isValid(cp)).as("code point %s", cp).isTrue();
+            assertThat(cp).isBetween(0, Constants.MAX_CODE_POINT);
+        }
+    }
+
+    @Test
+    void subTable() {
+        final CodePointTable table = CodePointTable.getDefault().subTable('a', 'c');
+
+        assertThat(table.size()).isEqualTo(3);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(table.nextCodePoint(random)).isBetween((int) 'a', (int) 'c');
+        }
+    }
+
+    @Test
+    void forRangeBeyondDefaultMaxCodePoint() {
+        final CodePointTable table = UnicodeBlocks.getInstance().getCodePointTable(UnicodeBlock.TAGS);
+
+        assertThat(table.isEmpty()).isFalse();
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(UnicodeBlock.of(table.nextCodePoint(random))).isEqualTo(UnicodeBlock.TAGS);
+        }
+    }
+
+    @Test
+    void privateUseBlockIsEmpty() {
+        final CodePointTable table = UnicodeBlocks.getInstance().getCodePointTable(UnicodeBlock.PRIVATE_USE_AREA);
+
+        assertThat(table.isEmpty()).isTrue();
+        assertThat(table.size()).isZero();
+    }
+
+    private static boolean isValid(final int codePoint) {
+        final int type = Character.getType(codePoint);
+        return type != Character.PRIVATE_USE
+                && type != Character.SURROGATE
+                && type != Character.UNASSIGNED;
+    }
+}
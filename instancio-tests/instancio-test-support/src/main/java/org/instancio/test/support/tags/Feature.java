@@ -65,12 +65,15 @@ public enum Feature {
     FILE_GENERATOR,
     FILTER,
     GENERATE,  // API generate() method
+    GENERATION_ENGINE,
     GENERATOR,
     GENERATOR_SPEC_NULLABLE,
     GLOBAL_SEED,
     IGNORE,
     INHERITANCE,
     JPA,
+    LAZY_NODE_CREATION,
+    LAZY_PROXIES,
     LENIENT_SELECTOR,
     LOREM_IPSUM_GENERATOR,
     MAP_GENERATOR_MAX_SIZE,
@@ -85,6 +88,7 @@ public enum Feature {
     MATH_GENERATOR,
     MAX_DEPTH,
     METHOD_REFERENCE_SELECTOR,
+    METRICS,
     MODE,
     MODEL,
     NULLABILITY, // catch-all for all nullability rules
@@ -97,6 +101,7 @@ public enum Feature {
     OVERWRITE_EXISTING_VALUES,
     PATH_GENERATOR,
     PREDICATE_SELECTOR,
+    PROFILE,
     ROOT_SELECTOR,
     SCOPE,
     SEED,
@@ -122,6 +127,7 @@ public enum Feature {
     UUID_STRING_GENERATOR,
     VALIDATION,
     VALUE_SPEC,
+    VARIANTS,
     SET_MODEL,
     WITH_NULLABLE,
     WITH_SEED,
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.jackson.feed;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.feed.Feed;
+import org.instancio.feed.FeedSpec;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.junit.WithSettings;
+import org.instancio.settings.FeedDataEndAction;
+import org.instancio.settings.FeedDataStorage;
+import org.instancio.settings.FeedFormatType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@FeatureTag(Feature.FEED)
+@ExtendWith(InstancioExtension.class)
+class FeedStreamingJacksonTest {
+
+    private static final String DATA = """
+            [
+                { "id": 1, "value": "foo", "tag": "A", "nested": { "x": [1, 2] } },
+                { "id": 2, "value": "bar", "tag": "B", "unknown": 123 },
+                { "value": "baz", "tag": "A" }
+            ]
+            """;
+
+    @WithSettings
+    private final Settings settings = Settings.create()
+            .set(Keys.FEED_DATA_STORAGE, FeedDataStorage.STREAMING);
+
+    private static Feed createFeed(final FeedDataEndAction dataEndAction) {
+        return Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofString(DATA))
+                .formatType(FeedFormatType.JSON)
+                .onDataEnd(dataEndAction)
+                .create();
+    }
+
+    @Test
+    void sequential() {
+        final Feed feed = createFeed(FeedDataEndAction.FAIL);
+
+        assertThat(feed.intSpec("id").get()).isEqualTo(1);
+        assertThat(feed.stringSpec("value").get()).isEqualTo("foo");
+        assertThat(feed.intSpec("id").get()).isEqualTo(2);
+        assertThat(feed.stringSpec("value").get()).isEqualTo("bar");
+        assertThat(feed.intSpec("id").get()).isNull();
+        assertThat(feed.stringSpec("value").get()).isEqualTo("baz");
+    }
+
+    @Test
+    void insufficientItems_shouldThrowErrorByDefault() {
+        final Feed feed = createFeed(FeedDataEndAction.FAIL);
+        final FeedSpec<String> spec = feed.stringSpec("value");
+
+        for (int i = 0; i < 3; i++) {
+            spec.get();
+        }
+
+        assertThatThrownBy(spec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("reached end of data");
+    }
+
+    @Test
+    void insufficientItems_recycleShouldReopenDataSource() {
+        final FeedSpec<String> spec = createFeed(FeedDataEndAction.RECYCLE).stringSpec("value");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(spec.get()).isEqualTo("foo");
+            assertThat(spec.get()).isEqualTo("bar");
+            assertThat(spec.get()).isEqualTo("baz");
+        }
+    }
+
+    @Test
+    void withTagValue() {
+        final Feed feed = Instancio.ofFeed(Feed.class)
+                .withDataSource(source -> source.ofString(DATA))
+                .formatType(FeedFormatType.JSON)
+                .withTagKey("tag")
+                .withTagValue("A")
+                .onDataEnd(FeedDataEndAction.RECYCLE)
+                .create();
+
+        final FeedSpec<String> spec = feed.stringSpec("value");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(spec.get()).isEqualTo("foo");
+            assertThat(spec.get()).isEqualTo("baz");
+        }
+    }
+}
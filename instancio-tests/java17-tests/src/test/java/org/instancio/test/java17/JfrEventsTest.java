@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.java17;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.instancio.Instancio;
+import org.instancio.feed.Feed;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.field;
+
+/**
+ * NOTE: this test fails in IntelliJ, run it using Maven
+ */
+@FeatureTag(Feature.METRICS)
+@ExtendWith(InstancioExtension.class)
+class JfrEventsTest {
+
+    private static final String CSV = "value\nfoo\nbar";
+
+    @TempDir
+    private Path tempDir;
+
+    private static class Pojo {
+        private String string;
+        private Set<Boolean> booleans;
+    }
+
+    @Feed.Source(string = CSV)
+    private interface SampleFeed extends Feed {}
+
+    @Test
+    void modelBuildAndGeneration() throws Exception {
+        final List<RecordedEvent> events = record(() -> Instancio.of(Pojo.class)
+                .withSeed(123)
+                .create());
+
+        final RecordedEvent modelBuild = single(events, "org.instancio.ModelBuild");
+        assertThat(modelBuild.getString("rootType")).isEqualTo(Pojo.class.getName());
+        assertThat(modelBuild.getInt("nodeCount")).isEqualTo(4);
+        assertThat(modelBuild.getInt("depth")).isEqualTo(2);
+
+        final RecordedEvent generation = single(events, "org.instancio.Generation");
+        assertThat(generation.getString("rootType")).isEqualTo(Pojo.class.getName());
+        assertThat(generation.getLong("seed")).isEqualTo(123);
+    }
+
+    @Test
+    void retry() throws Exception {
+        final int maxAttempts = 1000; // Keys.MAX_GENERATION_ATTEMPTS default
+
+        // a Set<Boolean> cannot have more than 2 elements
+        final List<RecordedEvent> events = record(() -> Instancio.of(Pojo.class)
+                .generate(field("booleans"), gen -> gen.collection().size(3))
+                .lenient()
+                .create());
+
+        final List<RecordedEvent> retries = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.instancio.Retry"))
+                .toList();
+
+        // events are not necessarily read in the order they were committed
+        assertThat(retries)
+                .hasSize(maxAttempts + 1)
+                .allSatisfy(e -> assertThat(e.getString("node")).contains("booleans"))
+                .extracting(e -> e.getInt("attempt"))
+                .contains(1, maxAttempts + 1);
+    }
+
+    @Test
+    void feedLoad() throws Exception {
+        final List<RecordedEvent> events = record(() -> Instancio.createFeed(SampleFeed.class));
+
+        final RecordedEvent feedLoad = single(events, "org.instancio.FeedLoad");
+        assertThat(feedLoad.getInt("rows")).isEqualTo(2);
+        assertThat(feedLoad.getLong("bytes")).isEqualTo(CSV.length());
+    }
+
+    private List<RecordedEvent> record(final Runnable runnable) throws Exception {
+        final Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.instancio.ModelBuild");
+            recording.enable("org.instancio.Generation");
+            recording.enable("org.instancio.FeedLoad");
+            recording.enable("org.instancio.Retry");
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> results = events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .toList();
+
+        assertThat(results).hasSize(1);
+        return results.get(0);
+    }
+}
@@ -38,6 +38,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class CustomAnnotationProcessor implements InstancioServiceProvider {
 
     private static final AtomicInteger DUPLICATE_HANDLER_INVOCATION_COUNT = new AtomicInteger();
+    private static final AtomicInteger COUNTED_HANDLER_INVOCATION_COUNT = new AtomicInteger();
 
     @Retention(RetentionPolicy.RUNTIME)
     public @interface WithKeys {
@@ -78,10 +79,18 @@ public class CustomAnnotationProcessor implements InstancioServiceProvider {
     public @interface AnnotationWithTwoAnnotationHandlerMethods {
     }
 
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface CountedInvocations {
+    }
+
     public static int getDuplicateHandlerInvocationCount() {
         return DUPLICATE_HANDLER_INVOCATION_COUNT.get();
     }
 
+    public static AtomicInteger getCountedHandlerInvocationCount() {
+        return COUNTED_HANDLER_INVOCATION_COUNT;
+    }
+
     @Override
     public AnnotationProcessor getAnnotationProcessor() {
         return new AnnotationProcessorImpl();
@@ -121,6 +130,11 @@ public class CustomAnnotationProcessor implements InstancioServiceProvider {
             incrementInvocationCount(spec);
         }
 
+        @AnnotationHandler
+        void countedInvocations(final CountedInvocations annotation, final NumberGeneratorSpec<Long> spec) {
+            COUNTED_HANDLER_INVOCATION_COUNT.incrementAndGet();
+        }
+
         private static void incrementInvocationCount(final NumberGeneratorSpec<Long> spec) {
             long next = DUPLICATE_HANDLER_INVOCATION_COUNT.incrementAndGet();
             spec.min(next).max(next);
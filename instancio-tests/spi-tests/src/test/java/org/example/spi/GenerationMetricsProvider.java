@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.example.spi;
+
+import org.instancio.spi.GenerationMetrics;
+import org.instancio.spi.InstancioServiceProvider;
+
+/**
+ * Records metrics of the last object generated by the current thread.
+ */
+public class GenerationMetricsProvider implements InstancioServiceProvider {
+
+    private static final ThreadLocal<GenerationMetrics> LAST_METRICS = new ThreadLocal<>();
+
+    public static GenerationMetrics getLastMetrics() {
+        return LAST_METRICS.get();
+    }
+
+    @Override
+    public GenerationMetricsListener getGenerationMetricsListener() {
+        return LAST_METRICS::set;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.example.spi;
+
+import org.instancio.Node;
+import org.instancio.generator.Generator;
+import org.instancio.generators.Generators;
+import org.instancio.spi.InstancioServiceProvider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stateful provider that returns a new generator each time
+ * {@link GeneratorProvider#getGenerator} is invoked.
+ */
+public class NonCacheableGeneratorProvider implements InstancioServiceProvider {
+
+    private static final AtomicInteger GET_GENERATOR_INVOCATION_COUNT = new AtomicInteger();
+
+    public static final class NonCacheablePojo {
+        private final int invocation;
+
+        private NonCacheablePojo(final int invocation) {
+            this.invocation = invocation;
+        }
+
+        public int getInvocation() {
+            return invocation;
+        }
+    }
+
+    public static AtomicInteger getGeneratorInvocationCount() {
+        return GET_GENERATOR_INVOCATION_COUNT;
+    }
+
+    @Override
+    public GeneratorProvider getGeneratorProvider() {
+        return new GeneratorProvider() {
+            @Override
+            public Generator<?> getGenerator(final Node node, final Generators generators) {
+
+                if (node.getTargetClass() != NonCacheablePojo.class) {
+                    return null;
+                }
+                final int invocation = GET_GENERATOR_INVOCATION_COUNT.incrementAndGet();
+                return random -> new NonCacheablePojo(invocation);
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return false;
+            }
+        };
+    }
+}
@@ -17,19 +17,23 @@ package org.instancio.spi.tests;
 
 import org.example.spi.CustomAnnotationProcessor;
 import org.example.spi.CustomAnnotationProcessor.AnnotationWithTwoAnnotationHandlerMethods;
+import org.example.spi.CustomAnnotationProcessor.CountedInvocations;
 import org.example.spi.CustomAnnotationProcessor.CustomLongMax;
 import org.example.spi.CustomAnnotationProcessor.CustomLongMin;
 import org.example.spi.CustomAnnotationProcessor.EmptyString;
 import org.example.spi.CustomAnnotationProcessor.WithKeys;
 import org.example.spi.CustomGeneratorProvider;
 import org.instancio.Instancio;
+import org.instancio.TypeToken;
 import org.instancio.junit.InstancioExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
 import static org.instancio.Select.field;
 
 /**
@@ -105,4 +109,21 @@ class AnnotationProcessorSpiTest {
 
         assertThat(result.value).isEqualTo(-2);
     }
+
+    @Test
+    void annotationHandlerShouldBeInvokedOncePerNode() {
+        class Pojo {
+            @CountedInvocations
+            long value;
+        }
+
+        CustomAnnotationProcessor.getCountedHandlerInvocationCount().set(0);
+
+        final List<Pojo> result = Instancio.of(new TypeToken<List<Pojo>>() {})
+                .generate(all(List.class), gen -> gen.collection().size(100))
+                .create();
+
+        assertThat(result).hasSize(100);
+        assertThat(CustomAnnotationProcessor.getCountedHandlerInvocationCount()).hasValue(1);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi.tests;
+
+import org.example.spi.GenerationMetricsProvider;
+import org.instancio.Instancio;
+import org.instancio.spi.GenerationMetrics;
+import org.instancio.spi.GenerationMetrics.Strategy;
+import org.instancio.test.support.pojo.person.Address;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@code GenerationMetricsListener} registered via the SPI.
+ *
+ * @see GenerationMetricsProvider
+ */
+class GenerationMetricsSpiTest {
+
+    @Test
+    void listenerShouldReceiveMetrics() {
+        Instancio.create(Address.class);
+
+        final GenerationMetrics metrics = GenerationMetricsProvider.getLastMetrics();
+
+        assertThat(metrics.getRootType()).isEqualTo(Address.class);
+        assertThat(metrics.getNodesVisited()).isPositive();
+        // Address is supplied by CustomGeneratorProvider
+        assertThat(metrics.getObjectsCreated(Strategy.SPI_GENERATOR)).isPositive();
+        assertThat(metrics.getGenerationNanos()).isPositive();
+    }
+}
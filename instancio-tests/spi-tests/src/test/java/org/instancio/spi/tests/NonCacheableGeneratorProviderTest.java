@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi.tests;
+
+import org.example.spi.NonCacheableGeneratorProvider;
+import org.example.spi.NonCacheableGeneratorProvider.NonCacheablePojo;
+import org.instancio.Instancio;
+import org.instancio.TypeToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+
+/**
+ * Tests for {@code GeneratorProvider.isCacheable()}.
+ *
+ * @see NonCacheableGeneratorProvider
+ */
+class NonCacheableGeneratorProviderTest {
+
+    @Test
+    void getGeneratorShouldBeInvokedForEachValue() {
+        final int initialCount = NonCacheableGeneratorProvider.getGeneratorInvocationCount().get();
+
+        final List<NonCacheablePojo> result = Instancio.of(new TypeToken<List<NonCacheablePojo>>() {})
+                .generate(all(List.class), gen -> gen.collection().size(3))
+                .create();
+
+        assertThat(result)
+                .extracting(NonCacheablePojo::getInvocation)
+                .containsExactly(initialCount + 1, initialCount + 2, initialCount + 3);
+    }
+}
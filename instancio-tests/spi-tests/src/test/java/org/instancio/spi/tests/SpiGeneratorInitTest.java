@@ -57,14 +57,16 @@ class SpiGeneratorInitTest {
 
     @Test
     @Order(1)
-    @DisplayName("Generator.init() once per collection element")
+    @DisplayName("Generator.init() once per collection element node")
     void initCountWithCollectionElements() {
         final InitCountingPojoCollections result = Instancio.of(InitCountingPojoCollections.class)
                 .generate(field("holder1"), gen -> gen.collection().size(1))
                 .generate(field("holder2"), gen -> gen.collection().size(2))
                 .create();
 
-        count += 3;
+        // SPI generators are cached per node, therefore init()
+        // is invoked once for each list's element node
+        count += 2;
 
         assertThat(result.holder1).hasSize(1);
         assertThat(result.holder2).hasSize(2);